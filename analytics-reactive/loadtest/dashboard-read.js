@@ -0,0 +1,50 @@
+// 대시보드 조회 부하 테스트 (k6)
+// 서블릿(8083)과 리액티브(8084) 애플리케이션에 같은 요청을 보내 처리량/지연/오류율 비교
+//   k6 run -e BASE_URL=http://localhost:8083 analytics-reactive/loadtest/dashboard-read.js
+//   k6 run -e BASE_URL=http://localhost:8084 analytics-reactive/loadtest/dashboard-read.js
+// 두 애플리케이션은 같은 메모리 한도(docker-compose mem_limit 512m, -Xmx512m)와 같은 DB 커넥션 수(10)로 실행
+// 동시 연결 수(VUS)를 올려 가며 p99 지연과 오류율, jvm.threads.live / jvm.memory.used(/actuator/metrics)를 함께 기록
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8083';
+const USER_COUNT = parseInt(__ENV.USER_COUNT || '100', 10);
+const THINK_TIME_SECONDS = parseFloat(__ENV.THINK_TIME_SECONDS || '1');
+
+export const options = {
+  scenarios: {
+    dashboard: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: parseInt(__ENV.VUS || '1000', 10) },
+        { duration: __ENV.DURATION || '2m', target: parseInt(__ENV.VUS || '1000', 10) },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 대시보드 화면 한 번에 호출되는 조회 API
+const PATHS = [
+  'performance-card',
+  'weekly-trend?weeks=8',
+  'daily-activity',
+  'question-type-accuracy',
+  'total-learning-time',
+  'monthly-learning-time',
+];
+
+export default function () {
+  const userId = `user-${(__VU % USER_COUNT) + 1}`;
+  const responses = http.batch(PATHS.map((path) => [
+    'GET', `${BASE_URL}/analysis/users/${userId}/${path}`, null, { tags: { name: path.split('?')[0] } },
+  ]));
+  responses.forEach((response) => check(response, { 'status 200': (r) => r.status === 200 }));
+  sleep(THINK_TIME_SECONDS);
+}
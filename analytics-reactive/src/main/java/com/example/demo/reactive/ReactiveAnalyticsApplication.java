@@ -0,0 +1,19 @@
+package com.example.demo.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 읽기 전용 학습 분석 API (리액티브 구현)
+ * - LearningAnalyticsController의 조회 엔드포인트(성과 카드, 주간 추이, 일별 활동, 유형별 차트, 학습 시간 통계)를
+ *   같은 경로/응답 형태로 WebFlux + R2DBC(MySQL)에서 제공
+ * - 요청마다 스레드를 점유하지 않으므로 대시보드 동시 연결이 많아도 이벤트 루프 스레드 수(CPU 코어 수)로 처리
+ * - 쓰기/Kafka/캐시 기능은 없음 (서블릿 애플리케이션이 담당)
+ */
+@SpringBootApplication
+public class ReactiveAnalyticsApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveAnalyticsApplication.class, args);
+	}
+}
@@ -0,0 +1,132 @@
+package com.example.demo.reactive.controller;
+
+import com.example.demo.dto.analytics.DailyActivityData;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.MonthlyLearningTimeSummary;
+import com.example.demo.dto.analytics.PerformanceCard;
+import com.example.demo.dto.analytics.QuestionTypeChartData;
+import com.example.demo.dto.analytics.WeeklyTrendData;
+import com.example.demo.reactive.service.ReactiveAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학습 분석 조회 컨트롤러 (리액티브 구현)
+ * 서블릿 애플리케이션 LearningAnalyticsController의 조회 엔드포인트와 같은 경로/파라미터/기본 기간
+ * (부하 테스트 시 호스트만 바꿔 같은 요청으로 비교)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/analysis")
+@RequiredArgsConstructor
+public class ReactiveAnalyticsController {
+
+    private final ReactiveAnalyticsService analyticsService;
+
+    /**
+     * 학습 성과 카드 (기본: 최근 7일)
+     * GET /analysis/users/{userId}/performance-card
+     */
+    @GetMapping("/users/{userId}/performance-card")
+    public Mono<PerformanceCard> getPerformanceCard(
+            @PathVariable String userId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate) {
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.now().minusDays(6);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+        return analyticsService.getPerformanceCard(userId, startDate, endDate);
+    }
+
+    /**
+     * 주간 학습 추이 (기본: 최근 8주)
+     * GET /analysis/users/{userId}/weekly-trend, /weekly-stats/recent, /weekly-graph
+     */
+    @GetMapping({
+        "/users/{userId}/weekly-trend",
+        "/users/{userId}/weekly-stats/recent",
+        "/users/{userId}/weekly-graph"
+    })
+    public Mono<List<WeeklyTrendData>> getWeeklyTrend(
+            @PathVariable String userId,
+            @RequestParam(required = false) Integer weeks) {
+        return analyticsService.getWeeklyTrend(userId, weeks);
+    }
+
+    /**
+     * 일별 학습 활동 (year/month 우선, 없으면 fromDate/toDate, 기본: 최근 30일)
+     * GET /analysis/users/{userId}/daily-activity, /calendar-heatmap
+     */
+    @GetMapping({
+        "/users/{userId}/daily-activity",
+        "/users/{userId}/calendar-heatmap"
+    })
+    public Mono<List<DailyActivityData>> getDailyActivity(
+            @PathVariable String userId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month) {
+        LocalDate startDate;
+        LocalDate endDate;
+        if (year != null && month != null) {
+            startDate = LocalDate.of(year, month, 1);
+            endDate = startDate.plusMonths(1).minusDays(1);
+        } else {
+            startDate = fromDate != null ? fromDate : LocalDate.now().minusDays(29);
+            endDate = toDate != null ? toDate : LocalDate.now();
+        }
+        return analyticsService.getDailyActivity(userId, startDate, endDate);
+    }
+
+    /**
+     * 문제 유형별 성과 차트 (기본: 최근 30일)
+     * GET /analysis/users/{userId}/question-type-accuracy
+     */
+    @GetMapping("/users/{userId}/question-type-accuracy")
+    public Mono<List<QuestionTypeChartData>> getQuestionTypeChart(
+            @PathVariable String userId,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate) {
+        LocalDate startDate = fromDate != null ? fromDate : LocalDate.now().minusDays(29);
+        LocalDate endDate = toDate != null ? toDate : LocalDate.now();
+        return analyticsService.getQuestionTypeChart(userId, startDate, endDate);
+    }
+
+    /**
+     * 총 학습 시간 요약
+     * GET /analysis/users/{userId}/total-learning-time
+     */
+    @GetMapping("/users/{userId}/total-learning-time")
+    public Mono<ResponseEntity<LearningTimeSummary>> getTotalLearningTime(@PathVariable String userId) {
+        return analyticsService.getLearningTimeSummary(userId)
+            .map(ResponseEntity::ok)
+            .onErrorResume(e -> {
+                log.error("사용자 총 학습 시간 조회 실패: userId={}", userId, e);
+                return Mono.just(ResponseEntity.internalServerError().build());
+            });
+    }
+
+    /**
+     * 월별 학습 시간 통계
+     * GET /analysis/users/{userId}/monthly-learning-time
+     */
+    @GetMapping("/users/{userId}/monthly-learning-time")
+    public Mono<ResponseEntity<MonthlyLearningTimeSummary>> getMonthlyLearningTime(@PathVariable String userId) {
+        return analyticsService.getMonthlyLearningTime(userId)
+            .map(ResponseEntity::ok)
+            .onErrorResume(e -> {
+                log.error("사용자 월별 학습 시간 통계 조회 실패: userId={}", userId, e);
+                return Mono.just(ResponseEntity.internalServerError().build());
+            });
+    }
+}
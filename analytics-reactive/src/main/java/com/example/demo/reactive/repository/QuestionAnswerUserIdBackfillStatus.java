@@ -0,0 +1,68 @@
+package com.example.demo.reactive.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * question_answer.user_id 백필 완료 여부 (서블릿 애플리케이션의 QuestionAnswerUserIdBackfillStatus와 같은 기준)
+ * - 백필은 서블릿 애플리케이션이 수행하고 완료 시각을 data_backfill_status에 기록
+ * - 완료가 기록되기 전에는 user_id가 비어 있는 기존 행이 있을 수 있으므로 답변 조회는 learning_sessions JOIN을 사용
+ * - 완료는 되돌아가지 않으므로 한 번 확인되면 다시 조회하지 않고, 미완료 상태는 recheck-ms 간격으로만 다시 확인
+ */
+@Slf4j
+@Component
+public class QuestionAnswerUserIdBackfillStatus {
+
+    static final String JOB_NAME = "question_answer_user_id";
+
+    private final DatabaseClient databaseClient;
+    private final long recheckMillis;
+
+    private volatile boolean completed = false;
+    private volatile long checkedAt = 0L;
+
+    public QuestionAnswerUserIdBackfillStatus(DatabaseClient databaseClient,
+                                              @Value("${learning.backfill.question-answer-user-id.status-recheck-ms:30000}")
+                                              long recheckMillis) {
+        this.databaseClient = databaseClient;
+        this.recheckMillis = recheckMillis;
+    }
+
+    /**
+     * 백필 완료가 기록되었으면 true (user_id 인덱스 조회 사용 가능)
+     * 조회에 실패하면 JOIN 조회를 유지하도록 false
+     */
+    public Mono<Boolean> isCompleted() {
+        if (completed) {
+            return Mono.just(true);
+        }
+        long now = System.currentTimeMillis();
+        if (now - checkedAt < recheckMillis) {
+            return Mono.just(false);
+        }
+        checkedAt = now;
+
+        return databaseClient.sql("""
+                SELECT COUNT(*) AS completed_count
+                FROM data_backfill_status
+                WHERE job_name = :jobName AND completed_at IS NOT NULL
+                """)
+            .bind("jobName", JOB_NAME)
+            .map((row, metadata) -> row.get("completed_count", Long.class))
+            .one()
+            .map(count -> {
+                if (count != null && count > 0 && !completed) {
+                    completed = true;
+                    log.info("question_answer.user_id 백필 완료 확인, 답변 조회를 user_id 인덱스로 전환");
+                }
+                return completed;
+            })
+            .onErrorResume(e -> {
+                log.error("question_answer.user_id 백필 완료 여부 조회 실패 (JOIN 조회 유지)", e);
+                return Mono.just(false);
+            });
+    }
+}
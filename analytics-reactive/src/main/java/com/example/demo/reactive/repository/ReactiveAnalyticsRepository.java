@@ -0,0 +1,247 @@
+package com.example.demo.reactive.repository;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 학습 분석 조회 쿼리 (R2DBC)
+ * - 서블릿 애플리케이션의 QuestionAnswerRepository/LearningSessionRepository 집계 쿼리와 같은 기준의 네이티브 SQL
+ * - 주간 추이/일별 활동은 엔티티 목록을 받아 메모리에서 묶는 대신 DB에서 주/일 단위로 집계하여 행 수를 줄임
+ * - SUM 결과(DECIMAL)는 SIGNED로 변환하여 Long으로 읽음
+ * - 답변 조회는 user_id 백필 완료(data_backfill_status.completed_at) 후에는 question_answer.user_id 인덱스로,
+ *   그 전에는 서블릿의 *ViaSession 쿼리와 같이 learning_sessions JOIN으로 사용자 범위를 정함 (QuestionAnswerUserIdBackfillStatus)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAnalyticsRepository {
+
+    /**
+     * 답변 조회 대상 테이블과 사용자 조건 컬럼
+     */
+    private record AnswerSource(String from, String userIdColumn) {
+    }
+
+    private static final AnswerSource BY_USER_ID = new AnswerSource("question_answer qa", "qa.user_id");
+    private static final AnswerSource VIA_SESSION = new AnswerSource(
+        "question_answer qa JOIN learning_sessions ls ON qa.session_id = ls.session_id", "ls.user_id");
+
+    private final DatabaseClient databaseClient;
+    private final QuestionAnswerUserIdBackfillStatus backfillStatus;
+
+    public record UserAnalyticsRow(long totalSessions, long totalQuestionsSolved, long totalCorrectAnswers,
+                                   Double accuracyRate, LocalDateTime lastLearningDate,
+                                   Double totalLearningTimeMinutes) {
+    }
+
+    public record PeriodStatsRow(LocalDate periodStart, long questionCount, long correctCount, long timeSpent) {
+    }
+
+    public record WeeklySessionCountRow(LocalDate weekStart, long sessionCount) {
+    }
+
+    public record QuestionTypeStatsRow(String questionType, long totalQuestions, long correctAnswers,
+                                       long wrongAnswers) {
+    }
+
+    public record SessionTypeStatsRow(String sessionType, long totalSessions, long completedSessions,
+                                      long totalQuestions, long correctAnswers, Long totalTimeSpent) {
+    }
+
+    public record MonthlyLearningTimeRow(int year, int month, long totalTimeSpent, long questionCount) {
+    }
+
+    /**
+     * 사용자 누적 학습 지표 (user_learning_analytics_view)
+     */
+    public Mono<UserAnalyticsRow> findUserAnalytics(String userId) {
+        return databaseClient.sql("""
+                SELECT total_sessions,
+                       total_questions_solved,
+                       total_correct_answers,
+                       CAST(accuracy_rate AS DOUBLE) AS accuracy_rate,
+                       last_learning_date,
+                       CAST(total_learning_time_minutes AS DOUBLE) AS total_learning_time_minutes
+                FROM user_learning_analytics_view
+                WHERE user_id = :userId
+                """)
+            .bind("userId", userId)
+            .map((row, metadata) -> new UserAnalyticsRow(
+                toLong(row.get("total_sessions", Long.class)),
+                toLong(row.get("total_questions_solved", Long.class)),
+                toLong(row.get("total_correct_answers", Long.class)),
+                row.get("accuracy_rate", Double.class),
+                row.get("last_learning_date", LocalDateTime.class),
+                row.get("total_learning_time_minutes", Double.class)))
+            .first();
+    }
+
+    /**
+     * 주(월요일 시작)별 답변 집계 (백필 완료 후 idx_question_answer_user_answered 범위 스캔)
+     */
+    public Flux<PeriodStatsRow> findWeeklyAnswerStats(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return answerSource().flatMapMany(source -> databaseClient.sql("""
+                SELECT DATE_SUB(qa.answered_date, INTERVAL WEEKDAY(qa.answered_date) DAY) AS period_start,
+                       COUNT(*) AS question_count,
+                       CAST(SUM(CASE WHEN qa.is_correct THEN 1 ELSE 0 END) AS SIGNED) AS correct_count,
+                       CAST(COALESCE(SUM(qa.time_spent), 0) AS SIGNED) AS time_spent
+                FROM %s
+                WHERE %s = :userId
+                  AND qa.answered_at >= :startDate AND qa.answered_at <= :endDate
+                GROUP BY period_start
+                """.formatted(source.from(), source.userIdColumn()))
+            .bind("userId", userId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> toPeriodStats(row))
+            .all());
+    }
+
+    /**
+     * 주(월요일 시작)별 시작한 세션 수
+     */
+    public Flux<WeeklySessionCountRow> findWeeklySessionCounts(String userId, LocalDateTime startDate,
+                                                               LocalDateTime endDate) {
+        return databaseClient.sql("""
+                SELECT DATE_SUB(DATE(started_at), INTERVAL WEEKDAY(started_at) DAY) AS week_start,
+                       COUNT(*) AS session_count
+                FROM learning_sessions
+                WHERE user_id = :userId
+                  AND started_at >= :startDate AND started_at <= :endDate
+                GROUP BY week_start
+                """)
+            .bind("userId", userId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> new WeeklySessionCountRow(
+                row.get("week_start", LocalDate.class),
+                toLong(row.get("session_count", Long.class))))
+            .all();
+    }
+
+    /**
+     * 일별 답변 집계 (answered_date 생성 컬럼 기준)
+     */
+    public Flux<PeriodStatsRow> findDailyAnswerStats(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return answerSource().flatMapMany(source -> databaseClient.sql("""
+                SELECT qa.answered_date AS period_start,
+                       COUNT(*) AS question_count,
+                       CAST(SUM(CASE WHEN qa.is_correct THEN 1 ELSE 0 END) AS SIGNED) AS correct_count,
+                       CAST(COALESCE(SUM(qa.time_spent), 0) AS SIGNED) AS time_spent
+                FROM %s
+                WHERE %s = :userId
+                  AND qa.answered_at >= :startDate AND qa.answered_at <= :endDate
+                GROUP BY qa.answered_date
+                """.formatted(source.from(), source.userIdColumn()))
+            .bind("userId", userId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> toPeriodStats(row))
+            .all());
+    }
+
+    /**
+     * 기간 내 문제 유형별 통계 (QuestionAnswerRepository.getQuestionTypeStatsByUserIdAndDateRange와 같은 집계)
+     */
+    public Flux<QuestionTypeStatsRow> findQuestionTypeStats(String userId, LocalDateTime startDate,
+                                                            LocalDateTime endDate) {
+        return answerSource().flatMapMany(source -> databaseClient.sql("""
+                SELECT qa.question_type,
+                       COUNT(*) AS total_questions,
+                       CAST(SUM(CASE WHEN qa.is_correct THEN 1 ELSE 0 END) AS SIGNED) AS correct_answers,
+                       CAST(SUM(CASE WHEN qa.is_correct THEN 0 ELSE 1 END) AS SIGNED) AS wrong_answers
+                FROM %s
+                WHERE %s = :userId
+                  AND qa.question_type IS NOT NULL
+                  AND qa.answered_at >= :startDate AND qa.answered_at <= :endDate
+                GROUP BY qa.question_type
+                ORDER BY qa.question_type
+                """.formatted(source.from(), source.userIdColumn()))
+            .bind("userId", userId)
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .map((row, metadata) -> new QuestionTypeStatsRow(
+                row.get("question_type", String.class),
+                toLong(row.get("total_questions", Long.class)),
+                toLong(row.get("correct_answers", Long.class)),
+                toLong(row.get("wrong_answers", Long.class))))
+            .all());
+    }
+
+    /**
+     * 세션 타입별 통계 (QuestionAnswerRepository.getSessionTypeStatsByUserId와 같은 집계, 답변 없는 세션 포함)
+     */
+    public Flux<SessionTypeStatsRow> findSessionTypeStats(String userId) {
+        return databaseClient.sql("""
+                SELECT ls.session_type,
+                       COUNT(DISTINCT ls.session_id) AS total_sessions,
+                       COUNT(DISTINCT CASE WHEN ls.status = 'COMPLETED' THEN ls.session_id END) AS completed_sessions,
+                       COUNT(qa.id) AS total_questions,
+                       CAST(COALESCE(SUM(CASE WHEN qa.is_correct THEN 1 ELSE 0 END), 0) AS SIGNED) AS correct_answers,
+                       CAST(SUM(qa.time_spent) AS SIGNED) AS total_time_spent
+                FROM learning_sessions ls
+                LEFT JOIN question_answer qa ON ls.session_id = qa.session_id
+                WHERE ls.user_id = :userId
+                GROUP BY ls.session_type
+                ORDER BY ls.session_type
+                """)
+            .bind("userId", userId)
+            .map((row, metadata) -> new SessionTypeStatsRow(
+                row.get("session_type", String.class),
+                toLong(row.get("total_sessions", Long.class)),
+                toLong(row.get("completed_sessions", Long.class)),
+                toLong(row.get("total_questions", Long.class)),
+                toLong(row.get("correct_answers", Long.class)),
+                row.get("total_time_spent", Long.class)))
+            .all();
+    }
+
+    /**
+     * 월별 학습 시간 (QuestionAnswerRepository.getMonthlyLearningTimeByUserId와 같은 집계, 최근 월부터)
+     */
+    public Flux<MonthlyLearningTimeRow> findMonthlyLearningTime(String userId) {
+        return answerSource().flatMapMany(source -> databaseClient.sql("""
+                SELECT YEAR(qa.answered_at) AS study_year,
+                       MONTH(qa.answered_at) AS study_month,
+                       CAST(COALESCE(SUM(qa.time_spent), 0) AS SIGNED) AS total_time_spent,
+                       COUNT(*) AS question_count
+                FROM %s
+                WHERE %s = :userId
+                  AND qa.time_spent IS NOT NULL
+                GROUP BY study_year, study_month
+                ORDER BY study_year DESC, study_month DESC
+                """.formatted(source.from(), source.userIdColumn()))
+            .bind("userId", userId)
+            .map((row, metadata) -> new MonthlyLearningTimeRow(
+                row.get("study_year", Integer.class),
+                row.get("study_month", Integer.class),
+                toLong(row.get("total_time_spent", Long.class)),
+                toLong(row.get("question_count", Long.class))))
+            .all());
+    }
+
+    /**
+     * 백필 완료 여부에 따른 답변 조회 대상 (완료 전에는 learning_sessions JOIN)
+     */
+    private Mono<AnswerSource> answerSource() {
+        return backfillStatus.isCompleted().map(completed -> completed ? BY_USER_ID : VIA_SESSION);
+    }
+
+    private PeriodStatsRow toPeriodStats(Row row) {
+        return new PeriodStatsRow(
+            row.get("period_start", LocalDate.class),
+            toLong(row.get("question_count", Long.class)),
+            toLong(row.get("correct_count", Long.class)),
+            toLong(row.get("time_spent", Long.class)));
+    }
+
+    private long toLong(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.demo.reactive.service;
+
+import com.example.demo.dto.analytics.DailyActivityData;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.MonthlyLearningTime;
+import com.example.demo.dto.analytics.MonthlyLearningTimeSummary;
+import com.example.demo.dto.analytics.PerformanceCard;
+import com.example.demo.dto.analytics.QuestionTypeChartData;
+import com.example.demo.dto.analytics.SessionTypeLearningTime;
+import com.example.demo.dto.analytics.WeeklyTrendData;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.MonthlyLearningTimeRow;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.PeriodStatsRow;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.QuestionTypeStatsRow;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.SessionTypeStatsRow;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.UserAnalyticsRow;
+import com.example.demo.reactive.repository.ReactiveAnalyticsRepository.WeeklySessionCountRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학습 분석 조회 서비스 (리액티브 구현)
+ * 응답 계산식은 서블릿 애플리케이션의 LearningAnalyticsService와 같음 (정답 수 × 5점, 분 단위 내림, 소수점 2자리 반올림 등)
+ * 실패 시 처리도 같음: 성과 카드/유형별 차트/학습 시간 통계는 로그 후 빈 값, 주간 추이/일별 활동은 오류 전달
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAnalyticsService {
+
+    private final ReactiveAnalyticsRepository analyticsRepository;
+
+    /**
+     * 학습 성과 카드 (user_learning_analytics_view 기준)
+     */
+    public Mono<PerformanceCard> getPerformanceCard(String userId, LocalDate fromDate, LocalDate toDate) {
+        return analyticsRepository.findUserAnalytics(userId)
+            .filter(analytics -> analytics.totalSessions() > 0)
+            .map(analytics -> toPerformanceCard(userId, fromDate, toDate, analytics))
+            .defaultIfEmpty(createEmptyPerformanceCard(userId, fromDate, toDate))
+            .onErrorResume(e -> {
+                log.error("성과 카드 데이터 생성 중 오류 발생: userId={}", userId, e);
+                return Mono.just(createEmptyPerformanceCard(userId, fromDate, toDate));
+            });
+    }
+
+    /**
+     * 최근 N주 주간 학습 추이 (과거 → 현재 순서)
+     * 주별 답변 집계와 주별 세션 수를 서로 다른 커넥션에서 동시에 조회
+     */
+    public Mono<List<WeeklyTrendData>> getWeeklyTrend(String userId, Integer weeks) {
+        int numberOfWeeks = weeks != null ? weeks : 8;
+        LocalDate currentWeekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+        LocalDateTime startDateTime = currentWeekStart.minusWeeks(numberOfWeeks - 1L).atStartOfDay();
+        LocalDateTime endDateTime = currentWeekStart.plusDays(6).atTime(23, 59, 59);
+
+        Mono<Map<LocalDate, PeriodStatsRow>> answersByWeek = analyticsRepository
+            .findWeeklyAnswerStats(userId, startDateTime, endDateTime)
+            .collectMap(PeriodStatsRow::periodStart);
+        Mono<Map<LocalDate, Long>> sessionsByWeek = analyticsRepository
+            .findWeeklySessionCounts(userId, startDateTime, endDateTime)
+            .collectMap(WeeklySessionCountRow::weekStart, WeeklySessionCountRow::sessionCount);
+
+        return Mono.zip(answersByWeek, sessionsByWeek)
+            .map(tuple -> buildWeeklyTrend(tuple.getT1(), tuple.getT2(), currentWeekStart, numberOfWeeks));
+    }
+
+    /**
+     * 기간 내 일별 학습 활동 (답변이 없는 날짜도 0으로 채움)
+     */
+    public Mono<List<DailyActivityData>> getDailyActivity(String userId, LocalDate fromDate, LocalDate toDate) {
+        return analyticsRepository.findDailyAnswerStats(userId, fromDate.atStartOfDay(), toDate.atTime(23, 59, 59))
+            .collectMap(PeriodStatsRow::periodStart)
+            .map(answersByDate -> buildDailyActivity(answersByDate, fromDate, toDate));
+    }
+
+    /**
+     * 기간 내 문제 유형별 성과 (정답률 내림차순)
+     */
+    public Mono<List<QuestionTypeChartData>> getQuestionTypeChart(String userId, LocalDate fromDate, LocalDate toDate) {
+        return analyticsRepository.findQuestionTypeStats(userId, fromDate.atStartOfDay(), toDate.atTime(23, 59, 59))
+            .collectList()
+            .map(this::toQuestionTypeChart)
+            .onErrorResume(e -> {
+                log.error("문제 유형별 성과 차트 데이터 조회 실패: userId={}", userId, e);
+                return Mono.just(Collections.emptyList());
+            });
+    }
+
+    /**
+     * 총 학습 시간 요약 (세션 타입별 집계 1회)
+     */
+    public Mono<LearningTimeSummary> getLearningTimeSummary(String userId) {
+        return analyticsRepository.findSessionTypeStats(userId)
+            .collectList()
+            .map(rows -> buildLearningTimeSummary(userId, rows))
+            .onErrorResume(e -> {
+                log.error("사용자 총 학습 시간 요약 조회 실패: userId={}", userId, e);
+                return Mono.just(buildLearningTimeSummary(userId, Collections.emptyList()));
+            });
+    }
+
+    /**
+     * 월별 학습 시간 통계 (최근 월부터)
+     */
+    public Mono<MonthlyLearningTimeSummary> getMonthlyLearningTime(String userId) {
+        return analyticsRepository.findMonthlyLearningTime(userId)
+            .map(this::toMonthlyLearningTime)
+            .collectList()
+            .onErrorResume(e -> {
+                log.error("사용자 월별 학습 시간 통계 조회 실패: userId={}", userId, e);
+                return Mono.just(Collections.emptyList());
+            })
+            .map(monthlyStats -> buildMonthlyLearningTimeSummary(userId, monthlyStats));
+    }
+
+    private PerformanceCard toPerformanceCard(String userId, LocalDate fromDate, LocalDate toDate,
+                                              UserAnalyticsRow analytics) {
+        double totalLearningTimeMinutes = analytics.totalLearningTimeMinutes() != null
+            ? analytics.totalLearningTimeMinutes() : 0.0;
+        int studyDays = analytics.lastLearningDate() != null
+            ? (int) analytics.lastLearningDate().toLocalDate().until(LocalDate.now(), ChronoUnit.DAYS) : 0;
+
+        return PerformanceCard.builder()
+            .userId(userId)
+            .periodStart(fromDate)
+            .periodEnd(toDate)
+            .totalSessions((int) analytics.totalSessions())
+            .totalQuestions((int) analytics.totalQuestionsSolved())
+            .totalCorrectAnswers((int) analytics.totalCorrectAnswers())
+            .overallAccuracyRate(analytics.accuracyRate() != null ? analytics.accuracyRate() : 0.0)
+            .totalStudyTime((int) totalLearningTimeMinutes)
+            .averageSessionTime(totalLearningTimeMinutes / Math.max(analytics.totalSessions(), 1L))
+            .totalScore(analytics.totalCorrectAnswers() * 5.0)
+            .studyDays(studyDays)
+            .build();
+    }
+
+    private PerformanceCard createEmptyPerformanceCard(String userId, LocalDate fromDate, LocalDate toDate) {
+        return PerformanceCard.builder()
+            .userId(userId)
+            .periodStart(fromDate)
+            .periodEnd(toDate)
+            .totalSessions(0)
+            .totalQuestions(0)
+            .totalCorrectAnswers(0)
+            .overallAccuracyRate(0.0)
+            .totalStudyTime(0)
+            .averageSessionTime(0.0)
+            .totalScore(0.0)
+            .studyDays(0)
+            .build();
+    }
+
+    private List<WeeklyTrendData> buildWeeklyTrend(Map<LocalDate, PeriodStatsRow> answersByWeek,
+                                                   Map<LocalDate, Long> sessionsByWeek,
+                                                   LocalDate currentWeekStart, int numberOfWeeks) {
+        List<WeeklyTrendData> trendData = new ArrayList<>(numberOfWeeks);
+        for (int i = numberOfWeeks - 1; i >= 0; i--) {
+            LocalDate weekStart = currentWeekStart.minusWeeks(i);
+            PeriodStatsRow stats = answersByWeek.get(weekStart);
+            int totalQuestions = stats != null ? (int) stats.questionCount() : 0;
+            int correctAnswers = stats != null ? (int) stats.correctCount() : 0;
+
+            trendData.add(WeeklyTrendData.builder()
+                .weekStartDate(weekStart)
+                .weekEndDate(weekStart.plusDays(6))
+                .weekLabel(String.format("%d월 %d일주", weekStart.getMonthValue(), weekStart.getDayOfMonth()))
+                .sessionsCompleted(sessionsByWeek.getOrDefault(weekStart, 0L).intValue())
+                .questionsAnswered(totalQuestions)
+                .correctAnswers(correctAnswers)
+                .accuracyRate(totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0.0)
+                .studyTimeMinutes(stats != null ? (int) (stats.timeSpent() / 60) : 0)
+                .averageScore(correctAnswers * 5.0)
+                .build());
+        }
+        return trendData;
+    }
+
+    private List<DailyActivityData> buildDailyActivity(Map<LocalDate, PeriodStatsRow> answersByDate,
+                                                       LocalDate fromDate, LocalDate toDate) {
+        List<DailyActivityData> activities = new ArrayList<>();
+        for (LocalDate current = fromDate; !current.isAfter(toDate); current = current.plusDays(1)) {
+            PeriodStatsRow stats = answersByDate.get(current);
+            int questionsAnswered = stats != null ? (int) stats.questionCount() : 0;
+            int correctAnswers = stats != null ? (int) stats.correctCount() : 0;
+
+            activities.add(DailyActivityData.builder()
+                .date(current.toString())
+                .questionsAnswered(questionsAnswered)
+                .correctAnswers(correctAnswers)
+                .accuracyRate(questionsAnswered > 0 ? (double) correctAnswers / questionsAnswered * 100 : 0.0)
+                .studyTimeMinutes(stats != null ? (int) (stats.timeSpent() / 60) : 0)
+                .activityLevel(calculateActivityLevel(questionsAnswered))
+                .hasActivity(questionsAnswered > 0)
+                .build());
+        }
+        return activities;
+    }
+
+    private List<QuestionTypeChartData> toQuestionTypeChart(List<QuestionTypeStatsRow> rows) {
+        long totalAnswers = rows.stream().mapToLong(QuestionTypeStatsRow::totalQuestions).sum();
+
+        List<QuestionTypeChartData> chartData = new ArrayList<>(rows.size());
+        for (QuestionTypeStatsRow row : rows) {
+            int totalQuestions = (int) row.totalQuestions();
+            int correctAnswers = (int) row.correctAnswers();
+            double accuracyRate = totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0.0;
+            double percentage = totalAnswers > 0 ? (double) totalQuestions / totalAnswers * 100 : 0.0;
+
+            chartData.add(QuestionTypeChartData.builder()
+                .questionType(row.questionType())
+                .displayName(getQuestionTypeDisplayName(row.questionType()))
+                .totalQuestions(totalQuestions)
+                .correctAnswers(correctAnswers)
+                .wrongAnswers((int) row.wrongAnswers())
+                .accuracyRate(round2(accuracyRate))
+                .percentage(round2(percentage))
+                .score(correctAnswers * 5.0)
+                .performanceLevel(determinePerformanceLevel(accuracyRate))
+                .build());
+        }
+        chartData.sort((a, b) -> Double.compare(b.getAccuracyRate(), a.getAccuracyRate()));
+        return chartData;
+    }
+
+    private LearningTimeSummary buildLearningTimeSummary(String userId, List<SessionTypeStatsRow> rows) {
+        List<SessionTypeLearningTime> sessionTypeStats = new ArrayList<>(rows.size());
+        long totalSeconds = 0L;
+        int totalSessions = 0;
+        int totalCompletedSessions = 0;
+        int totalQuestions = 0;
+        int totalCorrectAnswers = 0;
+
+        for (SessionTypeStatsRow row : rows) {
+            int questions = (int) row.totalQuestions();
+            int correctAnswers = (int) row.correctAnswers();
+            long timeSpent = row.totalTimeSpent() != null ? row.totalTimeSpent() : 0L;
+
+            sessionTypeStats.add(new SessionTypeLearningTime(
+                row.sessionType(),
+                getSessionTypeDisplayName(row.sessionType()),
+                (int) row.totalSessions(),
+                (int) row.completedSessions(),
+                questions,
+                correctAnswers,
+                round2(questions > 0 ? (double) correctAnswers / questions * 100 : 0.0),
+                timeSpent,
+                round2(timeSpent / 60.0),
+                round2(timeSpent / 3600.0)));
+
+            totalSeconds += timeSpent;
+            totalSessions += (int) row.totalSessions();
+            totalCompletedSessions += (int) row.completedSessions();
+            totalQuestions += questions;
+            totalCorrectAnswers += correctAnswers;
+        }
+
+        return new LearningTimeSummary(
+            userId,
+            totalSeconds,
+            round2(totalSeconds / 60.0),
+            round2(totalSeconds / 3600.0),
+            formatLearningTime(totalSeconds),
+            totalSessions,
+            totalCompletedSessions,
+            totalQuestions,
+            totalCorrectAnswers,
+            round2(totalQuestions > 0 ? (double) totalCorrectAnswers / totalQuestions * 100 : 0.0),
+            sessionTypeStats);
+    }
+
+    private MonthlyLearningTime toMonthlyLearningTime(MonthlyLearningTimeRow row) {
+        return new MonthlyLearningTime(
+            row.year(),
+            row.month(),
+            String.format("%04d-%02d", row.year(), row.month()),
+            row.totalTimeSpent(),
+            round2(row.totalTimeSpent() / 60.0),
+            round2(row.totalTimeSpent() / 3600.0),
+            (int) row.questionCount());
+    }
+
+    private MonthlyLearningTimeSummary buildMonthlyLearningTimeSummary(String userId,
+                                                                      List<MonthlyLearningTime> monthlyStats) {
+        long totalSeconds = monthlyStats.stream().mapToLong(MonthlyLearningTime::timeSpentSeconds).sum();
+        return new MonthlyLearningTimeSummary(
+            userId,
+            monthlyStats.size(),
+            totalSeconds,
+            round2(totalSeconds / 60.0),
+            round2(totalSeconds / 3600.0),
+            formatLearningTime(totalSeconds),
+            monthlyStats);
+    }
+
+    private int calculateActivityLevel(int questionsAnswered) {
+        if (questionsAnswered == 0) return 0;
+        if (questionsAnswered <= 5) return 1;
+        if (questionsAnswered <= 15) return 2;
+        if (questionsAnswered <= 25) return 3;
+        return 4;
+    }
+
+    private String getQuestionTypeDisplayName(String questionType) {
+        switch (questionType) {
+            case "FILL_IN_THE_BLANK": return "빈칸 채우기";
+            case "IDIOM_IN_CONTEXT": return "문장 속 특정 숙어";
+            case "PHONETIC_SYMBOL_FINDING": return "발음 기호 찾기";
+            default: return questionType;
+        }
+    }
+
+    private String getSessionTypeDisplayName(String sessionType) {
+        switch (sessionType) {
+            case "PRACTICE": return "학습 세션";
+            case "REVIEW": return "복습 세션";
+            case "WRONG_ANSWER": return "오답 세션";
+            default: return sessionType;
+        }
+    }
+
+    private String determinePerformanceLevel(double accuracyRate) {
+        if (accuracyRate >= 90.0) return "EXCELLENT";
+        if (accuracyRate >= 80.0) return "GOOD";
+        if (accuracyRate >= 70.0) return "AVERAGE";
+        return "POOR";
+    }
+
+    private String formatLearningTime(long totalSeconds) {
+        if (totalSeconds == 0) {
+            return "0시간 0분 0초";
+        }
+        long hours = totalSeconds / 3600;
+        long minutes = (totalSeconds % 3600) / 60;
+        long seconds = totalSeconds % 60;
+
+        StringBuilder formatted = new StringBuilder();
+        if (hours > 0) {
+            formatted.append(hours).append("시간 ");
+        }
+        if (minutes > 0 || hours > 0) {
+            formatted.append(minutes).append("분 ");
+        }
+        formatted.append(seconds).append("초");
+        return formatted.toString();
+    }
+
+    private double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
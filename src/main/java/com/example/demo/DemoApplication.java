@@ -5,8 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
@@ -23,9 +27,11 @@ public class DemoApplication {
 
 	/**
 	 * 애플리케이션 시작 시 자동으로 더미 데이터를 로딩하는 컴포넌트
+	 * 빠른 시작 모드(prod 프로필)에서는 learning.data-loader.enabled=false로 끄고 스키마는 Flyway 마이그레이션으로 관리
 	 */
 	@Slf4j
 	@Component
+	@ConditionalOnProperty(name = "learning.data-loader.enabled", havingValue = "true", matchIfMissing = true)
 	@RequiredArgsConstructor
 	public static class DataLoader implements CommandLineRunner {
 
@@ -39,6 +45,10 @@ public class DemoApplication {
 				// 1. DDL 스크립트 실행 (테이블 및 뷰 생성)
 				executeSqlScript("DB-scripts/init.sql");
 				log.info("DDL 스크립트 실행 완료");
+
+				// 1-1. 기존 question_answer에 user_id / answered_date 컬럼 및 인덱스 추가 (세션 변수를 쓰므로 한 커넥션에서 실행)
+				executeSqlScriptOnOneConnection("DB-scripts/question-answer-user-id.sql");
+				log.info("question_answer 컬럼 스크립트 실행 완료");
 				
 				// 2. 더미 데이터 스크립트 실행
 				executeSqlScript("DB-scripts/init-dummy.sql");
@@ -51,6 +61,17 @@ public class DemoApplication {
 			}
 		}
 
+		/**
+		 * SQL 스크립트를 하나의 커넥션에서 순서대로 실행 (PREPARE/세션 변수를 사용하는 스크립트용, 실패 시 중단)
+		 */
+		private void executeSqlScriptOnOneConnection(String scriptPath) {
+			jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+				ScriptUtils.executeSqlScript(connection,
+					new EncodedResource(new ClassPathResource(scriptPath), StandardCharsets.UTF_8));
+				return null;
+			});
+		}
+
 		/**
 		 * SQL 스크립트 파일을 읽어서 실행
 		 */
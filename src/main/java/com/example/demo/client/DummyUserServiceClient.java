@@ -0,0 +1,60 @@
+package com.example.demo.client;
+
+import com.example.demo.config.UserServiceAbsentCondition;
+import com.example.demo.dto.user.UserProfileInfo;
+import com.example.demo.dto.user.UserProfileInfoImpl;
+import com.example.demo.entity.QuestionCategory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserServiceClient 더미 구현체
+ * user.service.url이 설정되지 않은 로컬/단일 서비스 실행에서 더미 데이터 반환
+ * (설정되면 HTTP 호출 구현체 UserServiceClientImpl 사용)
+ */
+@Service
+@Slf4j
+@Conditional(UserServiceAbsentCondition.class)
+public class DummyUserServiceClient implements UserServiceClient {
+    
+    @Override
+    public UserProfileInfo getUserProfile(String userId) {
+        log.info("더미 사용자 프로필 조회: userId={}", userId);
+        
+        // 더미 사용자 프로필 생성
+        return UserProfileInfoImpl.builder()
+            .userId(userId)
+            .learningPurpose(QuestionCategory.MajorCategory.BUSINESS)
+            .selectedMinorCategories(List.of(
+                QuestionCategory.MinorCategory.MEETING_CONFERENCE,
+                QuestionCategory.MinorCategory.CUSTOMER_SERVICE
+            ))
+            .learningStyle(UserProfileInfo.LearningStyle.AUDITORY)
+            .difficultyPreference(UserProfileInfo.DifficultyLevel.INTERMEDIATE)
+            .hasInterestsSet(true)
+            .build();
+    }
+    
+    @Override
+    public UserProfileInfo getUserInterests(String userId) {
+        log.info("더미 사용자 관심사 조회: userId={}", userId);
+        
+        // getUserProfile과 동일한 더미 데이터 반환
+        return getUserProfile(userId);
+    }
+
+    @Override
+    public Map<String, UserProfileInfo> getUserProfiles(Collection<String> userIds) {
+        Map<String, UserProfileInfo> profiles = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            profiles.put(userId, getUserProfile(userId));
+        }
+        return profiles;
+    }
+}
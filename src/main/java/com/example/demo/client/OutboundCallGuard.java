@@ -0,0 +1,155 @@
+package com.example.demo.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서비스 호출 보호 (서비스별 인스턴스, resilience4j.* 설정의 같은 이름 인스턴스 사용)
+ * - 회로 차단기: 실패/지연 호출 비율이 임계값을 넘으면 일정 시간 호출하지 않고 CallNotPermittedException으로 즉시 실패
+ * - bulkhead: 동시 호출 수 제한, 초과 시 짧게 대기 후 BulkheadFullException (응답이 느려져도 호출 스레드가 쌓이지 않도록)
+ * - hedging (선택): hedgeDelayMs 안에 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답 사용
+ *   (조회 같은 멱등 호출에만 사용, 두 요청 모두 회로 차단기/bulkhead를 거침)
+ * - 메트릭: resilience4j.circuitbreaker.*, resilience4j.bulkhead.* (resilience4j-micrometer),
+ *   learning.http.hedge{client,result=sent|won}
+ */
+@Slf4j
+public class OutboundCallGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Executor hedgeExecutor;
+    private final long hedgeDelayMs;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+
+    /**
+     * @param hedgeExecutor 요청/hedge 요청을 실행할 스레드 풀 (호출 측 스레드와 달라야 함)
+     * @param hedgeDelayMs hedge 요청을 보내기까지 기다리는 시간 (0 이하면 hedging 사용 안 함)
+     */
+    public OutboundCallGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+                             Executor hedgeExecutor, long hedgeDelayMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.hedgeExecutor = hedgeExecutor;
+        this.hedgeDelayMs = hedgeDelayMs;
+        this.hedgesSent = hedgeCounter(meterRegistry, "sent");
+        this.hedgesWon = hedgeCounter(meterRegistry, "won");
+
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+            log.warn("외부 호출 회로 상태 변경: client={}, transition={}", name, event.getStateTransition()));
+        log.info("외부 호출 보호 설정: client={}, failureRateThreshold={}%, maxConcurrentCalls={}, hedgeDelayMs={}",
+            name, circuitBreaker.getCircuitBreakerConfig().getFailureRateThreshold(),
+            bulkhead.getBulkheadConfig().getMaxConcurrentCalls(), hedgeDelayMs > 0 ? hedgeDelayMs : "사용 안 함");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isHedgingEnabled() {
+        return hedgeDelayMs > 0;
+    }
+
+    /**
+     * 회로 차단기 + bulkhead를 거쳐 호출 (호출 측 예외는 그대로 전달)
+     */
+    public <T> T execute(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+    }
+
+    /**
+     * hedging이 켜져 있으면 지연 시 두 번째 요청을 보내고 먼저 성공한 결과 반환, 꺼져 있으면 execute와 같음
+     * (두 요청이 모두 실패하면 나중에 실패한 요청의 예외 전달)
+     */
+    public <T> T executeHedged(Supplier<T> call) {
+        if (!isHedgingEnabled()) {
+            return execute(call);
+        }
+
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> execute(call), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차면 hedging 없이 호출 스레드에서 실행
+            return execute(call);
+        }
+
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 지연 → hedge 요청
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new IllegalStateException(name + " 호출 대기 중 인터럽트", e);
+        }
+
+        CompletableFuture<T> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(() -> execute(call), hedgeExecutor);
+            hedgesSent.increment();
+        } catch (RejectedExecutionException e) {
+            return join(primary);
+        }
+
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((value, error) -> complete(first, failures, value, error, false));
+        hedge.whenComplete((value, error) -> complete(first, failures, value, error, true));
+        return join(first);
+    }
+
+    private <T> void complete(CompletableFuture<T> first, AtomicInteger failures, T value, Throwable error,
+                              boolean fromHedge) {
+        if (error == null) {
+            if (first.complete(value) && fromHedge) {
+                hedgesWon.increment();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtimeException
+            ? runtimeException
+            : new IllegalStateException(name + " 호출 실패", cause);
+    }
+
+    private Counter hedgeCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("learning.http.hedge")
+            .description("외부 호출 hedge 요청 (sent: 보낸 수, won: hedge 응답이 먼저 도착한 수)")
+            .tag("client", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.demo.client;
 
+import com.example.demo.dto.problem.SessionDataBatchResult;
+import com.example.demo.dto.problem.SessionDataRequest;
 import com.example.demo.dto.problem.SessionDataResponseDto;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * ProblemService API 호출을 위한 클라이언트 인터페이스
  * LearningService가 세션 데이터를 조회하기 위해 사용
+ *
+ * 사용 범위: 세션 완료 수집은 Kafka 이벤트 payload로 처리하므로(LearningSessionEventListener) 이 클라이언트를 호출하지 않음.
+ * 비동기/일괄 조회는 이벤트 payload가 없는 세션을 REST로 다시 읽어야 하는 백필/재처리 작업을 위한 API이며,
+ * 현재 이 서비스에는 그런 작업이 없어 호출 측이 없음 (작업을 추가할 때 세션별 직렬 호출 대신 사용)
  */
 public interface ProblemServiceClient {
     
@@ -18,5 +27,22 @@ public interface ProblemServiceClient {
      * @throws RuntimeException 세션을 찾을 수 없거나 userId가 일치하지 않는 경우
      */
     SessionDataResponseDto getSessionData(String sessionId, String userId);
+
+    /**
+     * 세션 상세 데이터 비동기 조회
+     * 호출 스레드를 막지 않고 ProblemService 전용 스레드 풀에서 getSessionData를 실행
+     *
+     * @return 세션 데이터 future (조회 실패 또는 풀 포화 시 예외로 완료)
+     */
+    CompletableFuture<SessionDataResponseDto> getSessionDataAsync(String sessionId, String userId);
+
+    /**
+     * 여러 세션 데이터 일괄 조회 (백필/재처리용)
+     * 동시 요청 수를 제한하여 병렬로 조회하고, 일부 세션이 실패해도 나머지 결과를 반환
+     *
+     * @param requests 조회할 세션 목록
+     * @return 요청 순서대로 정렬된 세션별 성공/실패 결과
+     */
+    SessionDataBatchResult getSessionData(List<SessionDataRequest> requests);
 }
 
@@ -1,8 +1,13 @@
 package com.example.demo.client;
 
+import com.example.demo.dto.problem.SessionDataBatchResult;
+import com.example.demo.dto.problem.SessionDataRequest;
 import com.example.demo.dto.problem.SessionDataResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.dto.problem.SessionDataResult;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,25 +18,53 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
 /**
  * ProblemService API 호출 구현체
  * RestTemplate을 사용하여 ProblemService의 내부 API를 호출
+ * (커넥션 풀/keep-alive와 connect/read 타임아웃은 RestTemplateConfig에서 적용)
+ * 비동기/일괄 조회는 problemServiceExecutor에서 실행, 일괄 조회는 동시 요청 수를 batchConcurrency로 제한
+ * (ProblemService 내부 API에 일괄 조회 엔드포인트가 없으므로 세션별 호출로 fan-out)
+ * 모든 호출은 OutboundCallGuard(회로 차단기 + bulkhead)를 거치며, 동기 조회는 설정 시 hedge 요청 사용
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProblemServiceClientImpl implements ProblemServiceClient {
     
     private final RestTemplate restTemplate;
+    private final Executor problemServiceExecutor;
+    private final OutboundCallGuard callGuard;
+    private final int batchConcurrency;
     
     @Value("${problem.service.url:http://localhost:8082}")
     private String problemServiceUrl;
-    
-    @Value("${problem.service.timeout:5000}")
-    private int timeout;
+
+    public ProblemServiceClientImpl(RestTemplate restTemplate,
+                                    @Qualifier("problemServiceExecutor") Executor problemServiceExecutor,
+                                    @Qualifier("problemServiceCallGuard") OutboundCallGuard callGuard,
+                                    @Value("${problem.service.batch-concurrency:8}") int batchConcurrency) {
+        this.restTemplate = restTemplate;
+        this.problemServiceExecutor = problemServiceExecutor;
+        this.callGuard = callGuard;
+        this.batchConcurrency = Math.max(batchConcurrency, 1);
+    }
     
     @Override
     public SessionDataResponseDto getSessionData(String sessionId, String userId) {
+        return fetchSessionData(sessionId, userId, true);
+    }
+
+    /**
+     * @param hedge hedge 요청 허용 여부 (problemServiceExecutor 스레드에서 호출될 때는 같은 풀을 기다리지 않도록 false)
+     */
+    private SessionDataResponseDto fetchSessionData(String sessionId, String userId, boolean hedge) {
         try {
             // API Gateway를 통해 내부 API 호출
             // 경로: /api/problem/internal/** → JWT 검증 없이 라우팅됨
@@ -49,10 +82,9 @@ public class ProblemServiceClientImpl implements ProblemServiceClient {
             log.info("   API Gateway 경로: /api/problem/internal/** → JWT 필터 없음");
             log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
             
-            ResponseEntity<SessionDataResponseDto> response = restTemplate.getForEntity(
-                url, 
-                SessionDataResponseDto.class
-            );
+            ResponseEntity<SessionDataResponseDto> response = hedge
+                ? callGuard.executeHedged(() -> restTemplate.getForEntity(url, SessionDataResponseDto.class))
+                : callGuard.execute(() -> restTemplate.getForEntity(url, SessionDataResponseDto.class));
             
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 SessionDataResponseDto body = response.getBody();
@@ -66,6 +98,14 @@ public class ProblemServiceClientImpl implements ProblemServiceClient {
                 throw new RuntimeException("ProblemService API 응답이 비어있습니다: " + sessionId);
             }
             
+        } catch (CallNotPermittedException e) {
+            log.warn("ProblemService 회로 차단 중, 호출 생략: sessionId={}, userId={}", sessionId, userId);
+            throw new RuntimeException("ProblemService 회로 차단 중 (빠른 실패): " + sessionId, e);
+
+        } catch (BulkheadFullException e) {
+            log.warn("ProblemService 동시 호출 한도 초과, 호출 생략: sessionId={}, userId={}", sessionId, userId);
+            throw new RuntimeException("ProblemService 동시 호출 한도 초과: " + sessionId, e);
+
         } catch (HttpClientErrorException.NotFound e) {
             log.error("ProblemService에서 세션을 찾을 수 없음: sessionId={}, userId={}, status={}", 
                 sessionId, userId, e.getStatusCode(), e);
@@ -119,5 +159,62 @@ public class ProblemServiceClientImpl implements ProblemServiceClient {
             throw new RuntimeException("ProblemService API 통신 실패", e);
         }
     }
-}
 
+    @Override
+    public CompletableFuture<SessionDataResponseDto> getSessionDataAsync(String sessionId, String userId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> fetchSessionData(sessionId, userId, false),
+                problemServiceExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("ProblemService 호출 풀 포화로 비동기 조회 거절: sessionId={}, userId={}", sessionId, userId);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public SessionDataBatchResult getSessionData(List<SessionDataRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return SessionDataBatchResult.of(List.of());
+        }
+
+        long startTime = System.currentTimeMillis();
+        Semaphore permits = new Semaphore(batchConcurrency);
+        List<CompletableFuture<SessionDataResult>> futures = new ArrayList<>(requests.size());
+        try {
+            for (SessionDataRequest request : requests) {
+                // 동시에 진행 중인 요청이 batchConcurrency개를 넘지 않도록 이전 요청 완료를 기다림
+                permits.acquire();
+                futures.add(getSessionDataAsync(request.sessionId(), request.userId())
+                    .handle((data, error) -> {
+                        permits.release();
+                        return error == null
+                            ? SessionDataResult.success(request, data)
+                            : SessionDataResult.failure(request, failureMessage(error));
+                    }));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("ProblemService 세션 일괄 조회 중단: 요청 {}개 중 {}개만 시작", requests.size(), futures.size());
+        }
+
+        List<SessionDataResult> results = new ArrayList<>(requests.size());
+        for (CompletableFuture<SessionDataResult> future : futures) {
+            results.add(future.join());
+        }
+        // 중단으로 시작하지 못한 요청도 세션별 실패로 보고
+        for (int i = futures.size(); i < requests.size(); i++) {
+            results.add(SessionDataResult.failure(requests.get(i), "일괄 조회가 중단되어 요청하지 않음"));
+        }
+
+        SessionDataBatchResult batchResult = SessionDataBatchResult.of(results);
+        log.info("ProblemService 세션 일괄 조회 완료: total={}, success={}, failure={}, concurrency={}, {}ms",
+            results.size(), batchResult.successCount(), batchResult.failureCount(), batchConcurrency,
+            System.currentTimeMillis() - startTime);
+        return batchResult;
+    }
+
+    private String failureMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
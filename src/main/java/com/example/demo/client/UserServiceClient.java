@@ -2,10 +2,12 @@ package com.example.demo.client;
 
 import com.example.demo.dto.user.UserProfileInfo;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * UserService API 호출을 위한 클라이언트 인터페이스
- * MSA 전환 시 UserService와의 통신에 사용
- * 현재는 더미 데이터 반환
+ * user.service.url이 설정되면 HTTP 구현체(UserServiceClientImpl), 없으면 더미 구현체(DummyUserServiceClient) 사용
  */
 public interface UserServiceClient {
     
@@ -22,4 +24,11 @@ public interface UserServiceClient {
      * @return 사용자 관심사 정보
      */
     UserProfileInfo getUserInterests(String userId);
+
+    /**
+     * 여러 사용자 프로필 일괄 조회 (배치 작업용)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID → 프로필 (요청 순서 유지, 조회에 실패한 사용자는 관심사 미설정 기본 프로필)
+     */
+    Map<String, UserProfileInfo> getUserProfiles(Collection<String> userIds);
 }
@@ -2,43 +2,241 @@ package com.example.demo.client;
 
 import com.example.demo.dto.user.UserProfileInfo;
 import com.example.demo.dto.user.UserProfileInfoImpl;
-import com.example.demo.entity.QuestionCategory;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
- * UserServiceClient 구현체
- * 현재는 더미 데이터 반환, MSA 전환 시 실제 API 호출로 변경
+ * UserServiceClient HTTP 구현체 (user.service.url이 설정된 경우, 예: msa 프로필)
+ * - 프로필 조회: GET {user.service.url}{user.service.profile-path}
+ * - 일괄 조회: user.service.batch-path가 있으면 POST {"userIds": [...]} 한 번, 없으면 사용자별 조회를 병렬 실행
+ * - 프로세스 내 캐시 (Caffeine, 최대 개수 user.service.cache.max-entries)
+ *   - refresh-ahead: 저장 후 refresh-after-ms가 지난 항목은 다음 조회 시 이전 값을 반환하고 백그라운드에서 갱신
+ *     (갱신 실패 시 만료 전까지 이전 값 유지)
+ *   - negative caching: 404(없는 사용자)는 negative-ttl-ms 동안 캐싱하여 반복 호출 방지
+ *   - 같은 사용자에 대한 동시 조회는 진행 중인 요청 하나를 공유 (request coalescing)
+ * - 모든 호출은 userServiceCallGuard(회로 차단기 + bulkhead)를 거침
+ * - 조회 실패 시 관심사 미설정 기본 프로필 반환 (개인화 없이 분석 진행)
+ * - 메트릭: cache.gets/cache.puts/cache.evictions{cache=user-profile}
+ * 로컬 stub 서버로 확인할 때는 user.service.url을 stub 주소로 지정
  */
-@Service
 @Slf4j
+@Service
+@ConditionalOnProperty(name = "user.service.url")
 public class UserServiceClientImpl implements UserServiceClient {
-    
+
+    private static final String CACHE_NAME = "user-profile";
+
+    private final RestTemplate restTemplate;
+    private final OutboundCallGuard callGuard;
+    private final String userServiceUrl;
+    private final String profilePath;
+    private final String batchPath;
+    private final AsyncLoadingCache<String, Optional<UserProfileInfo>> profiles;
+
+    public UserServiceClientImpl(RestTemplateBuilder restTemplateBuilder,
+                                 CloseableHttpClient pooledHttpClient,
+                                 @Qualifier("userServiceCallGuard") OutboundCallGuard callGuard,
+                                 @Qualifier("userServiceExecutor") Executor userServiceExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user.service.url}") String userServiceUrl,
+                                 @Value("${user.service.timeout:5000}") long timeoutMs,
+                                 @Value("${user.service.profile-path:/api/user/internal/users/{userId}/profile}") String profilePath,
+                                 @Value("${user.service.batch-path:}") String batchPath,
+                                 @Value("${user.service.cache.max-entries:10000}") long maxEntries,
+                                 @Value("${user.service.cache.ttl-ms:600000}") long ttlMs,
+                                 @Value("${user.service.cache.refresh-after-ms:300000}") long refreshAfterMs,
+                                 @Value("${user.service.cache.negative-ttl-ms:60000}") long negativeTtlMs) {
+        // 커넥션 풀은 공유하고 읽기 타임아웃만 UserService 설정 적용
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restTemplate = restTemplateBuilder.requestFactory(() -> requestFactory).build();
+        this.callGuard = callGuard;
+        this.userServiceUrl = userServiceUrl;
+        this.profilePath = profilePath;
+        this.batchPath = batchPath;
+
+        Duration ttl = Duration.ofMillis(ttlMs);
+        Duration negativeTtl = Duration.ofMillis(negativeTtlMs);
+        Expiry<String, Optional<UserProfileInfo>> expiry =
+            Expiry.writing((userId, profile) -> profile.isPresent() ? ttl : negativeTtl);
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(expiry)
+            .refreshAfterWrite(Duration.ofMillis(Math.min(refreshAfterMs, ttlMs)))
+            .executor(userServiceExecutor)
+            .recordStats()
+            .buildAsync(new ProfileLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, CACHE_NAME);
+
+        log.info("UserService 클라이언트: url={}, batchPath={}, cacheMaxEntries={}, ttlMs={}, refreshAfterMs={}, negativeTtlMs={}",
+            userServiceUrl, batchPath.isBlank() ? "(없음, 사용자별 조회)" : batchPath,
+            maxEntries, ttlMs, refreshAfterMs, negativeTtlMs);
+    }
+
+    /**
+     * 캐시 로더 (단건 조회 + 일괄 조회)
+     */
+    private final class ProfileLoader implements AsyncCacheLoader<String, Optional<UserProfileInfo>> {
+
+        @Override
+        public CompletableFuture<? extends Optional<UserProfileInfo>> asyncLoad(String userId, Executor executor) {
+            return CompletableFuture.supplyAsync(() -> fetchProfile(userId), executor);
+        }
+
+        @Override
+        public CompletableFuture<? extends Map<? extends String, ? extends Optional<UserProfileInfo>>> asyncLoadAll(
+                Set<? extends String> userIds, Executor executor) {
+            if (!batchPath.isBlank()) {
+                return CompletableFuture.supplyAsync(() -> fetchProfiles(userIds), executor);
+            }
+            // 일괄 조회 API가 없으면 사용자별 조회를 병렬 실행 (동시 실행 수는 userServiceExecutor 크기로 제한)
+            Map<String, CompletableFuture<Optional<UserProfileInfo>>> futures = new LinkedHashMap<>();
+            for (String userId : userIds) {
+                futures.put(userId, CompletableFuture.supplyAsync(() -> fetchProfile(userId), executor));
+            }
+            return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, Optional<UserProfileInfo>> loaded = new HashMap<>();
+                    futures.forEach((userId, future) -> loaded.put(userId, future.join()));
+                    return loaded;
+                });
+        }
+    }
+
     @Override
     public UserProfileInfo getUserProfile(String userId) {
-        log.info("더미 사용자 프로필 조회: userId={}", userId);
-        
-        // 더미 사용자 프로필 생성
-        return UserProfileInfoImpl.builder()
-            .userId(userId)
-            .learningPurpose(QuestionCategory.MajorCategory.BUSINESS)
-            .selectedMinorCategories(List.of(
-                QuestionCategory.MinorCategory.MEETING_CONFERENCE,
-                QuestionCategory.MinorCategory.CUSTOMER_SERVICE
-            ))
-            .learningStyle(UserProfileInfo.LearningStyle.AUDITORY)
-            .difficultyPreference(UserProfileInfo.DifficultyLevel.INTERMEDIATE)
-            .hasInterestsSet(true)
-            .build();
+        try {
+            return profiles.get(userId).join().orElseGet(() -> defaultProfile(userId));
+        } catch (CompletionException e) {
+            log.error("사용자 프로필 조회 실패, 기본 프로필 사용: userId={}, reason={}",
+                userId, failureMessage(e));
+            return defaultProfile(userId);
+        }
     }
-    
+
     @Override
     public UserProfileInfo getUserInterests(String userId) {
-        log.info("더미 사용자 관심사 조회: userId={}", userId);
-        
-        // getUserProfile과 동일한 더미 데이터 반환
+        // 관심사는 프로필 응답에 포함되므로 같은 캐시 항목 사용
         return getUserProfile(userId);
     }
+
+    @Override
+    public Map<String, UserProfileInfo> getUserProfiles(Collection<String> userIds) {
+        Map<String, UserProfileInfo> result = new LinkedHashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return result;
+        }
+        Set<String> distinctIds = new LinkedHashSet<>(userIds);
+        try {
+            Map<String, Optional<UserProfileInfo>> loaded = profiles.getAll(distinctIds).join();
+            for (String userId : distinctIds) {
+                result.put(userId, loaded.getOrDefault(userId, Optional.empty())
+                    .orElseGet(() -> defaultProfile(userId)));
+            }
+        } catch (CompletionException e) {
+            // 일괄 조회가 실패하면 사용자별로 다시 조회하여 실패한 사용자만 기본 프로필로 대체
+            log.warn("사용자 프로필 일괄 조회 실패, 사용자별 조회로 전환: count={}, reason={}",
+                distinctIds.size(), failureMessage(e));
+            for (String userId : distinctIds) {
+                result.put(userId, getUserProfile(userId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 단건 조회 (404는 Optional.empty()로 negative caching, 그 외 실패는 예외로 전달하여 캐싱하지 않음)
+     */
+    private Optional<UserProfileInfo> fetchProfile(String userId) {
+        String url = UriComponentsBuilder.fromUriString(userServiceUrl)
+            .path(profilePath)
+            .buildAndExpand(userId)
+            .toUriString();
+        try {
+            UserProfileInfoImpl profile = callGuard.execute(
+                () -> restTemplate.getForObject(url, UserProfileInfoImpl.class));
+            log.debug("UserService 프로필 조회: userId={}", userId);
+            return Optional.ofNullable(profile);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("UserService에 사용자 없음 (negative caching): userId={}", userId);
+            return Optional.empty();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("UserService 호출 생략 (회로 차단/동시 호출 한도): userId={}", userId);
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 조회 (응답에 없는 사용자는 Optional.empty()로 negative caching)
+     */
+    private Map<String, Optional<UserProfileInfo>> fetchProfiles(Set<? extends String> userIds) {
+        String url = UriComponentsBuilder.fromUriString(userServiceUrl)
+            .path(batchPath)
+            .toUriString();
+        List<String> requestedIds = new ArrayList<>(userIds);
+        UserProfileInfoImpl[] response = callGuard.execute(
+            () -> restTemplate.postForObject(url, Map.of("userIds", requestedIds), UserProfileInfoImpl[].class));
+
+        Map<String, Optional<UserProfileInfo>> loaded = new HashMap<>();
+        for (String userId : requestedIds) {
+            loaded.put(userId, Optional.empty());
+        }
+        if (response != null) {
+            for (UserProfileInfoImpl profile : response) {
+                if (profile != null && profile.getUserId() != null && loaded.containsKey(profile.getUserId())) {
+                    loaded.put(profile.getUserId(), Optional.of(profile));
+                }
+            }
+        }
+        log.debug("UserService 프로필 일괄 조회: requested={}, found={}",
+            requestedIds.size(), response != null ? response.length : 0);
+        return loaded;
+    }
+
+    /**
+     * 조회 실패/없는 사용자의 기본 프로필 (관심사 미설정 → 개인화 없이 분석)
+     */
+    private UserProfileInfo defaultProfile(String userId) {
+        return UserProfileInfoImpl.builder()
+            .userId(userId)
+            .selectedMinorCategories(List.of())
+            .hasInterestsSet(false)
+            .build();
+    }
+
+    private String failureMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
 }
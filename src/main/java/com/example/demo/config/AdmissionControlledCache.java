@@ -0,0 +1,227 @@
+package com.example.demo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 입장 정책/메모리 예산을 적용하는 Spring Cache 데코레이터 (Redis 분석 캐시용)
+ * - get: CacheAdmissionPolicy에 접근 기록 (적중/미스)
+ * - put: 추정 빈도가 기준 미만이면 직렬화 전에 거절, 저장한 키는 실제 저장 크기(직렬화기가
+ *   CacheWriteSizeRecorder로 전달)와 TTL을 프로세스 내 색인에 기록
+ * - 색인은 budgetBytes를 최대 가중치로 하는 Caffeine(W-TinyLFU)이므로 예산을 넘으면
+ *   빈도가 낮은 키부터 색인에서 밀려나고, 밀려난 키는 Redis에서도 삭제
+ * - sketch와 색인은 파드마다 따로 유지되고 자신이 기록한 값만 추적하므로 예산은 파드 단위
+ *   (N개 파드면 키 공간별 Redis 사용량 상한은 약 N × budgetBytes)
+ */
+@Slf4j
+public class AdmissionControlledCache implements Cache {
+
+    /**
+     * 색인 항목 (저장 크기 + 적용한 TTL)
+     */
+    private record Resident(long bytes, long ttlNanos) {
+    }
+
+    private final Cache delegate;
+    private final CacheAdmissionPolicy policy;
+    private final CacheWriteSizeRecorder sizeRecorder;
+    private final Duration baseTtl;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Resident> residents;
+
+    /**
+     * @param sizeRecorder delegate 쓰기 중 직렬화기가 기록한 저장 크기 (바이트)
+     * @param baseTtl 캐시 기본 TTL (적응형 TTL의 상한)
+     */
+    public AdmissionControlledCache(Cache delegate, CacheAdmissionPolicy policy,
+                                    CacheWriteSizeRecorder sizeRecorder, Duration baseTtl) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.sizeRecorder = sizeRecorder;
+        this.baseTtl = baseTtl;
+        this.residents = Caffeine.newBuilder()
+            .maximumWeight(policy.budgetBytes())
+            .<Object, Resident>weigher((key, resident) -> (int) Math.min(resident.bytes(), Integer.MAX_VALUE))
+            .expireAfter(new Expiry<Object, Resident>() {
+                @Override
+                public long expireAfterCreate(Object key, Resident resident, long currentTime) {
+                    return resident.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(Object key, Resident resident, long currentTime, long currentDuration) {
+                    return resident.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(Object key, Resident resident, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .removalListener((Object key, Resident resident, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE && key != null && resident != null) {
+                    evictOverBudget(key, resident);
+                }
+            })
+            .build();
+        policy.registerResidentBytes(getName(),
+            () -> residents.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        recordAccess(key, wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        recordAccess(key, value != null);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            delegate.put(key, null);
+            return;
+        }
+        if (!policy.admit(getName(), key)) {
+            return;
+        }
+        long bytes;
+        sizeRecorder.begin();
+        try {
+            delegate.put(key, value);
+        } finally {
+            bytes = sizeRecorder.end();
+        }
+        track(key, bytes);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return delegate.putIfAbsent(key, null);
+        }
+        if (!policy.admit(getName(), key)) {
+            return delegate.get(key);
+        }
+        ValueWrapper existing;
+        long bytes;
+        sizeRecorder.begin();
+        try {
+            existing = delegate.putIfAbsent(key, value);
+        } finally {
+            bytes = sizeRecorder.end();
+        }
+        if (existing == null) {
+            track(key, bytes);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        residents.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        residents.invalidate(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        residents.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        residents.invalidateAll();
+        return delegate.invalidate();
+    }
+
+    private void recordAccess(Object key, boolean hit) {
+        policy.recordAccess(getName(), key, hit);
+        if (hit) {
+            // 색인의 W-TinyLFU 빈도에도 반영 (예산 초과 시 자주 읽히는 키를 남기도록)
+            residents.getIfPresent(key);
+        }
+    }
+
+    /**
+     * 저장한 키의 크기와 적용된 TTL을 색인에 기록 (TTL은 RedisCacheConfiguration의 TtlFunction과 같은 정책으로 계산)
+     * 직렬화가 일어나지 않은 쓰기(실패 등)는 크기를 알 수 없으므로 기록하지 않음
+     */
+    private void track(Object key, long bytes) {
+        if (bytes == CacheWriteSizeRecorder.UNKNOWN) {
+            return;
+        }
+        residents.put(key, new Resident(bytes, policy.ttl(getName(), key, baseTtl).toNanos()));
+    }
+
+    private void evictOverBudget(Object key, Resident resident) {
+        try {
+            delegate.evict(key);
+            policy.recordBudgetEviction(getName(), resident.bytes());
+            log.debug("분석 캐시 예산 초과 제거: cache={}, key={}, bytes={}", getName(), key, resident.bytes());
+        } catch (Exception e) {
+            // 제거에 실패한 값은 TTL 만료로 정리됨
+            log.error("분석 캐시 예산 초과 제거 실패: cache={}, key={}", getName(), key, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시별 기본 TTL이 등록된 캐시만 AdmissionControlledCache로 감싸서 반환하는 CacheManager
+ */
+public class AdmissionControlledCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheAdmissionPolicy policy;
+    private final CacheWriteSizeRecorder sizeRecorder;
+    private final Map<String, Duration> baseTtls;
+    private final Map<String, Cache> decorated = new ConcurrentHashMap<>();
+
+    public AdmissionControlledCacheManager(CacheManager delegate, CacheAdmissionPolicy policy,
+                                           CacheWriteSizeRecorder sizeRecorder, Map<String, Duration> baseTtls) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.sizeRecorder = sizeRecorder;
+        this.baseTtls = baseTtls;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cached = decorated.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Cache cache = delegate.getCache(name);
+        Duration baseTtl = baseTtls.get(name);
+        if (cache == null || baseTtl == null) {
+            return cache;
+        }
+        return decorated.computeIfAbsent(name, n -> new AdmissionControlledCache(cache, policy, sizeRecorder, baseTtl));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.analytics.CategoryPerformanceStats;
+import com.example.demo.dto.analytics.DailyLearningTime;
+import com.example.demo.dto.analytics.DifficultyAchievement;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.MonthlyLearningTime;
+import com.example.demo.dto.analytics.UserLearningAnalytics;
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학습 분석 조회 결과 캐시 설정 (Spring Cache + Redis, Redis가 없으면 프로세스 내 Caffeine)
+ * - 분석 메서드별 캐시와 TTL은 RedisCacheConfig의 TTL 상수를 사용 (두 구현 모두 쓰기 후 TTL 만료)
+ * - Redis: 캐시별로 반환 타입을 지정한 RedisValueCodec 직렬화기를 사용하여 record 타입 그대로 복원
+ * - 사용자 데이터가 수집되면 커밋 후 AnalyticsCacheEvictor가 해당 사용자 항목만 제거
+ * - 캐시 통계를 활성화하여 cache.gets{result=hit|miss}, cache.puts, cache.evictions 메트릭 노출
+ * - Redis: learning.cache.analytics.policy.enabled=true이면 접근 빈도 기반 입장/적응형 TTL/키 공간별 메모리 예산 적용
+ *   (CacheAdmissionPolicy, AdmissionControlledCache), 프로세스 내 Caffeine은 자체 W-TinyLFU로 개수 제한
+ *   입장 sketch와 예산은 파드마다 따로 유지되므로 Redis 전체 사용량 상한은 파드 수 × budget-bytes
+ */
+@Configuration
+@EnableCaching
+public class AnalyticsCacheConfig {
+
+    public static final String USER_ANALYTICS = "analytics:user-analytics";
+    public static final String CATEGORY_PERFORMANCE = "analytics:category-performance";
+    public static final String DIFFICULTY_ACHIEVEMENT = "analytics:difficulty-achievement";
+    public static final String LEARNING_TIME_SUMMARY = "analytics:learning-time-summary";
+    public static final String DAILY_LEARNING_TIME = "analytics:daily-learning-time";
+    public static final String MONTHLY_LEARNING_TIME = "analytics:monthly-learning-time";
+    public static final String STORED_PATTERN = "analytics:stored-pattern";
+
+    /**
+     * userId 하나로 키가 결정되는 사용자별 캐시 (수집 시 userId로 제거)
+     */
+    public static final List<String> USER_KEYED_CACHES = List.of(
+        USER_ANALYTICS, CATEGORY_PERFORMANCE, DIFFICULTY_ACHIEVEMENT,
+        LEARNING_TIME_SUMMARY, DAILY_LEARNING_TIME, MONTHLY_LEARNING_TIME);
+
+    /**
+     * STORED_PATTERN 캐시 키에 포함되는 분석 유형 (키: userId:analysisType)
+     */
+    public static final List<String> STORED_PATTERN_TYPES = List.of("SESSION_ANALYSIS", "COMPLETE_ANALYSIS");
+
+    /**
+     * 캐시 이름별 TTL
+     */
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+        USER_ANALYTICS, RedisCacheConfig.USER_STATS_CACHE_TTL,
+        CATEGORY_PERFORMANCE, RedisCacheConfig.STATISTICS_CACHE_TTL,
+        DIFFICULTY_ACHIEVEMENT, RedisCacheConfig.STATISTICS_CACHE_TTL,
+        LEARNING_TIME_SUMMARY, RedisCacheConfig.USER_STATS_CACHE_TTL,
+        DAILY_LEARNING_TIME, RedisCacheConfig.USER_STATS_CACHE_TTL,
+        MONTHLY_LEARNING_TIME, RedisCacheConfig.USER_STATS_CACHE_TTL,
+        STORED_PATTERN, RedisCacheConfig.STATISTICS_CACHE_TTL);
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.host")
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            RedisValueCodec codec,
+            MeterRegistry meterRegistry,
+            @Value("${learning.cache.analytics.policy.enabled:true}") boolean policyEnabled,
+            @Value("${learning.cache.analytics.policy.expected-keys:10000}") long expectedKeys,
+            @Value("${learning.cache.analytics.policy.admission-threshold:2}") int admissionThreshold,
+            @Value("${learning.cache.analytics.policy.min-ttl-ratio:0.25}") double minTtlRatio,
+            @Value("${learning.cache.analytics.policy.frequency-saturation:8}") int frequencySaturation,
+            @Value("${learning.cache.analytics.policy.budget-bytes:16777216}") long budgetBytes) {
+        CacheAdmissionPolicy policy = policyEnabled
+            ? new CacheAdmissionPolicy(meterRegistry, expectedKeys, admissionThreshold, minTtlRatio,
+                frequencySaturation, budgetBytes)
+            : null;
+        CacheWriteSizeRecorder sizeRecorder = new CacheWriteSizeRecorder();
+
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        configurations.put(USER_ANALYTICS, cacheConfiguration(codec, policy, sizeRecorder, USER_ANALYTICS,
+            codec.type(UserLearningAnalytics.class)));
+        configurations.put(CATEGORY_PERFORMANCE, cacheConfiguration(codec, policy, sizeRecorder, CATEGORY_PERFORMANCE,
+            codec.listType(CategoryPerformanceStats.class)));
+        configurations.put(DIFFICULTY_ACHIEVEMENT, cacheConfiguration(codec, policy, sizeRecorder, DIFFICULTY_ACHIEVEMENT,
+            codec.listType(DifficultyAchievement.class)));
+        configurations.put(LEARNING_TIME_SUMMARY, cacheConfiguration(codec, policy, sizeRecorder, LEARNING_TIME_SUMMARY,
+            codec.type(LearningTimeSummary.class)));
+        configurations.put(DAILY_LEARNING_TIME, cacheConfiguration(codec, policy, sizeRecorder, DAILY_LEARNING_TIME,
+            codec.listType(DailyLearningTime.class)));
+        configurations.put(MONTHLY_LEARNING_TIME, cacheConfiguration(codec, policy, sizeRecorder, MONTHLY_LEARNING_TIME,
+            codec.listType(MonthlyLearningTime.class)));
+        configurations.put(STORED_PATTERN, cacheConfiguration(codec, policy, sizeRecorder, STORED_PATTERN,
+            codec.mapType(Object.class)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(RedisCacheConfig.STATISTICS_CACHE_TTL)
+                .disableCachingNullValues()
+                .computePrefixWith(cacheName -> cacheName + RedisCacheConfig.KEY_SEPARATOR))
+            .withInitialCacheConfigurations(configurations)
+            .disableCreateOnMissingCache()
+            .enableStatistics()
+            .build();
+        redisCacheManager.afterPropertiesSet();
+        if (policy == null) {
+            return redisCacheManager;
+        }
+        return new AdmissionControlledCacheManager(redisCacheManager, policy, sizeRecorder, CACHE_TTLS);
+    }
+
+    /**
+     * 입장 정책으로 감싼 Redis 캐시도 기존 cache.gets/cache.puts 메트릭을 노출하도록 원본 RedisCache로 바인딩
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.data.redis.host")
+    public CacheMeterBinderProvider<AdmissionControlledCache> admissionControlledCacheMeterBinderProvider() {
+        return (cache, tags) -> cache.getDelegate() instanceof RedisCache redisCache
+            ? new RedisCacheMetrics(redisCache, tags)
+            : null;
+    }
+
+    /**
+     * Redis가 없는 단일 노드/로컬 실행용 프로세스 내 캐시 (캐시별 최대 개수 + 같은 TTL, 값은 참조로 보관)
+     */
+    @Bean
+    @Conditional(RedisAbsentCondition.class)
+    public CaffeineCacheManager inMemoryCacheManager(
+            @Value("${learning.cache.memory.analytics-max-entries:10000}") long maxEntriesPerCache) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // 빈 목록을 지정하면 등록하지 않은 이름의 캐시는 만들지 않음 (Redis의 disableCreateOnMissingCache와 동일)
+        cacheManager.setCacheNames(List.of());
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+            .maximumSize(maxEntriesPerCache)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build()));
+        return cacheManager;
+    }
+
+    /**
+     * 캐시별 설정 (입장 정책이 있으면 접근 빈도에 따라 키마다 TTL 계산, 값 직렬화 크기는 sizeRecorder로 전달)
+     */
+    private RedisCacheConfiguration cacheConfiguration(RedisValueCodec codec, CacheAdmissionPolicy policy,
+                                                       CacheWriteSizeRecorder sizeRecorder,
+                                                       String cacheName, JavaType type) {
+        Duration ttl = CACHE_TTLS.get(cacheName);
+        RedisCacheConfiguration configuration = policy != null
+            ? RedisCacheConfiguration.defaultCacheConfig().entryTtl((key, value) -> policy.ttl(cacheName, key, ttl))
+            : RedisCacheConfiguration.defaultCacheConfig().entryTtl(ttl);
+        return configuration
+            .disableCachingNullValues()
+            .computePrefixWith(name -> name + RedisCacheConfig.KEY_SEPARATOR)
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                codec.serializer(type, sizeRecorder::record)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수 한도에 도달하면 대기하지 않고 거절하는 가상 스레드 executor
+ * SimpleAsyncTaskExecutor의 concurrencyLimit은 한도에서 제출 스레드를 대기시키므로,
+ * 플랫폼 스레드 풀의 AbortPolicy처럼 즉시 TaskRejectedException(RejectedExecutionException)을 던져야 하는 곳에서 사용
+ */
+public class BoundedVirtualTaskExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int concurrencyLimit;
+
+    public BoundedVirtualTaskExecutor(String threadNamePrefix, int concurrencyLimit) {
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.delegate.setTaskTerminationTimeout(10_000L);
+        this.concurrencyLimit = Math.max(concurrencyLimit, 1);
+        this.permits = new Semaphore(this.concurrencyLimit);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("가상 스레드 동시 실행 한도 초과: limit=" + concurrencyLimit);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 접근 빈도 기반 캐시 정책 (키 공간 = Spring Cache 이름 단위)
+ * - 입장(admission): 조회 시마다 TinyLFU sketch에 접근을 기록하고, 추정 빈도가 admissionThreshold 이상인 키만 저장
+ *   (한 번만 조회되고 다시 읽히지 않는 사용자 분석이 Redis 메모리를 차지하지 않도록 함)
+ * - 적응형 TTL: 기본 TTL × [minTtlRatio, 1] 범위에서 추정 빈도가 frequencySaturation에 가까울수록 길게
+ * - 메모리 예산: 키 공간별 budgetBytes (AdmissionControlledCache가 저장 크기를 추적하여 초과분 제거)
+ * - sketch와 예산은 파드(프로세스)별 상태로 파드 간 공유하지 않음
+ *   (파드마다 접근 빈도를 따로 세고, 키 공간별 Redis 사용량 상한은 파드 수 × budgetBytes)
+ * - 메트릭: learning.cache.analytics.hit-ratio{cache}, learning.cache.analytics.admission{cache,result},
+ *   learning.cache.analytics.bytes-saved{cache,reason=budget}, learning.cache.analytics.resident-bytes{cache}
+ */
+@Slf4j
+public class CacheAdmissionPolicy {
+
+    private final MeterRegistry meterRegistry;
+    private final long expectedKeys;
+    private final int admissionThreshold;
+    private final double minTtlRatio;
+    private final int frequencySaturation;
+    private final long budgetBytes;
+    private final Map<String, KeyspaceState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 키 공간별 상태 (sketch + 조회/입장 통계)
+     */
+    private final class KeyspaceState {
+
+        private final FrequencySketch sketch = new FrequencySketch(expectedKeys);
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final Counter admitted;
+        private final Counter rejected;
+        private final Counter budgetEvictedBytes;
+
+        private KeyspaceState(String cacheName) {
+            this.admitted = admissionCounter(cacheName, "admitted");
+            this.rejected = admissionCounter(cacheName, "rejected");
+            this.budgetEvictedBytes = savedBytesCounter(cacheName, "budget");
+            Gauge.builder("learning.cache.analytics.hit-ratio", this, KeyspaceState::hitRatio)
+                .description("분석 캐시 적중률 (프로세스 시작 이후)")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+        }
+
+        private double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total > 0 ? (double) hitCount / total : 0.0;
+        }
+    }
+
+    /**
+     * @param expectedKeys 키 공간별 sketch 크기 기준 키 수
+     * @param admissionThreshold 저장에 필요한 최소 추정 접근 빈도 (1이면 모두 저장)
+     * @param minTtlRatio 가장 드물게 읽히는 키의 TTL 비율 (기본 TTL 대비)
+     * @param frequencySaturation 이 빈도 이상이면 기본 TTL 전체를 사용
+     * @param budgetBytes 키 공간별 저장 크기 예산 (이 파드가 기록한 값 기준)
+     */
+    public CacheAdmissionPolicy(MeterRegistry meterRegistry, long expectedKeys, int admissionThreshold,
+                                double minTtlRatio, int frequencySaturation, long budgetBytes) {
+        this.meterRegistry = meterRegistry;
+        this.expectedKeys = expectedKeys;
+        this.admissionThreshold = Math.max(admissionThreshold, 1);
+        this.minTtlRatio = Math.min(Math.max(minTtlRatio, 0.0), 1.0);
+        this.frequencySaturation = Math.max(frequencySaturation, 1);
+        this.budgetBytes = budgetBytes;
+        log.info("분석 캐시 입장 정책: admissionThreshold={}, minTtlRatio={}, frequencySaturation={}, budgetBytes={}",
+            this.admissionThreshold, this.minTtlRatio, this.frequencySaturation, budgetBytes);
+    }
+
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * 조회 결과 기록 (적중 여부와 관계없이 접근 빈도 증가)
+     */
+    public void recordAccess(String cacheName, Object key, boolean hit) {
+        KeyspaceState state = state(cacheName);
+        state.sketch.increment(key);
+        (hit ? state.hits : state.misses).increment();
+    }
+
+    /**
+     * 저장 여부 판단 (값을 직렬화하기 전에 호출하여 거절되는 값의 직렬화 비용을 줄임)
+     */
+    public boolean admit(String cacheName, Object key) {
+        KeyspaceState state = state(cacheName);
+        if (state.sketch.frequency(key) >= admissionThreshold) {
+            state.admitted.increment();
+            return true;
+        }
+        state.rejected.increment();
+        return false;
+    }
+
+    /**
+     * 접근 빈도에 따른 TTL (baseTtl × [minTtlRatio, 1])
+     */
+    public Duration ttl(String cacheName, Object key, Duration baseTtl) {
+        int frequency = state(cacheName).sketch.frequency(key);
+        double ratio = minTtlRatio + (1.0 - minTtlRatio) * Math.min(1.0, (double) frequency / frequencySaturation);
+        return Duration.ofMillis(Math.max(1000L, (long) (baseTtl.toMillis() * ratio)));
+    }
+
+    /**
+     * 예산 초과로 제거한 값 크기 기록
+     */
+    public void recordBudgetEviction(String cacheName, long sizeBytes) {
+        state(cacheName).budgetEvictedBytes.increment(sizeBytes);
+    }
+
+    /**
+     * 키 공간의 현재 추적 중인 저장 크기 게이지 등록
+     */
+    public void registerResidentBytes(String cacheName, Supplier<Number> residentBytes) {
+        Gauge.builder("learning.cache.analytics.resident-bytes", residentBytes)
+            .description("이 인스턴스가 기록하여 아직 만료되지 않은 분석 캐시 값 크기")
+            .baseUnit("bytes")
+            .tag("cache", cacheName)
+            .register(meterRegistry);
+    }
+
+    private KeyspaceState state(String cacheName) {
+        return states.computeIfAbsent(cacheName, KeyspaceState::new);
+    }
+
+    private Counter admissionCounter(String cacheName, String result) {
+        return Counter.builder("learning.cache.analytics.admission")
+            .description("분석 캐시 저장 입장 결과")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private Counter savedBytesCounter(String cacheName, String reason) {
+        return Counter.builder("learning.cache.analytics.bytes-saved")
+            .description("예산 초과 제거로 Redis에 보관하지 않은 값 크기")
+            .baseUnit("bytes")
+            .tag("cache", cacheName)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+/**
+ * 캐시 값 저장 크기 전달 (값 직렬화기 → AdmissionControlledCache)
+ * RedisCache.put/putIfAbsent는 호출 스레드에서 값을 직렬화하므로, 데코레이터가 쓰기 전후로 begin/end를 호출하고
+ * 직렬화기가 그 사이에 실제 envelope 크기를 기록 (메모리 예산 계산을 위해 값을 한 번 더 직렬화하지 않음)
+ */
+public class CacheWriteSizeRecorder {
+
+    /** 쓰기 중 직렬화가 일어나지 않은 경우 (크기 알 수 없음) */
+    public static final long UNKNOWN = -1L;
+
+    private final ThreadLocal<long[]> current = new ThreadLocal<>();
+
+    /**
+     * 쓰기 시작 (같은 스레드의 다음 직렬화 크기를 기록)
+     */
+    public void begin() {
+        current.set(new long[] {UNKNOWN});
+    }
+
+    /**
+     * 직렬화기에서 호출 (begin 없이 호출되면 무시)
+     */
+    public void record(int bytes) {
+        long[] slot = current.get();
+        if (slot != null) {
+            slot[0] = bytes;
+        }
+    }
+
+    /**
+     * 쓰기 종료, 기록된 크기 반환 (직렬화되지 않았으면 UNKNOWN)
+     */
+    public long end() {
+        long[] slot = current.get();
+        current.remove();
+        return slot != null ? slot[0] : UNKNOWN;
+    }
+}
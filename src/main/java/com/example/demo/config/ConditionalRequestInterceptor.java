@@ -0,0 +1,55 @@
+package com.example.demo.config;
+
+import com.example.demo.service.UserDataWatermarkService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 사용자 분석 API 조건부 요청 처리
+ * 사용자 데이터 워터마크로 ETag/Last-Modified를 설정하고, 클라이언트가 가진 값과 같으면
+ * 컨트롤러(집계 쿼리)를 실행하지 않고 304로 응답
+ * 워터마크 조회에 실패하면 조건부 처리 없이 그대로 진행
+ */
+@Slf4j
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    private final UserDataWatermarkService userDataWatermarkService;
+
+    public ConditionalRequestInterceptor(UserDataWatermarkService userDataWatermarkService) {
+        this.userDataWatermarkService = userDataWatermarkService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        Object attribute = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(attribute instanceof Map<?, ?> pathVariables) || !(pathVariables.get("userId") instanceof String userId)) {
+            return true;
+        }
+
+        UserDataWatermarkService.Watermark watermark;
+        try {
+            watermark = userDataWatermarkService.getWatermark(userId);
+        } catch (Exception e) {
+            log.error("사용자 데이터 워터마크 조회 실패: userId={}", userId, e);
+            return true;
+        }
+
+        // 캐시는 하되 매번 재검증하도록 (폴링 요청은 304로 응답)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(watermark.etag(), watermark.lastModified())) {
+            log.debug("조건부 요청 304 응답: userId={}, uri={}, etag={}", userId, request.getRequestURI(), watermark.etag());
+            return false;
+        }
+        return true;
+    }
+}
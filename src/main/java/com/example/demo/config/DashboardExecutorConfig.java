@@ -0,0 +1,152 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 대시보드 API 병렬 처리용 Executor 설정
+ * 섹션별 조회/계산을 제한된 크기의 스레드 풀에서 실행하여 DB 커넥션 풀을 과도하게 점유하지 않도록 함
+ * 큐가 가득 차면 호출 스레드에서 직접 실행 (CallerRunsPolicy)
+ * 캐시 백그라운드 갱신용 풀은 별도로 두고, 가득 차면 갱신을 건너뜀 (이전 값으로 계속 응답)
+ * ProblemService 비동기/일괄 조회용 풀은 HTTP 커넥션 풀 크기 이하로 두고, 가득 차면 해당 세션 조회를 실패로 보고
+ * UserService 프로필 캐시 로드/갱신용 풀은 user.service.url이 설정된 경우에만 생성, 가득 차면 호출 스레드에서 실행
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는 캐시 갱신용을 제외한 executor가
+ * 작업마다 가상 스레드를 만들고, 큐 대신 동시 실행 수 제한으로 DB/외부 호출 부하를 제한 (한도 도달 시 제출 스레드 대기,
+ * ProblemService용은 플랫폼 모드와 같이 대기 없이 거절하여 호출 측 future를 실패로 완료)
+ */
+@Configuration
+public class DashboardExecutorConfig {
+
+    private final boolean virtualThreads;
+
+    @Value("${learning.threads.virtual.io-concurrency-limit:200}")
+    private int virtualIoConcurrencyLimit;
+
+    @Value("${learning.dashboard.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${learning.dashboard.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${learning.dashboard.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${learning.cache.refresh.executor.size:2}")
+    private int refreshSize;
+
+    @Value("${learning.cache.refresh.executor.queue-capacity:50}")
+    private int refreshQueueCapacity;
+
+    @Value("${problem.service.executor.size:16}")
+    private int problemServiceSize;
+
+    @Value("${problem.service.executor.queue-capacity:1000}")
+    private int problemServiceQueueCapacity;
+
+    @Value("${user.service.executor.size:8}")
+    private int userServiceSize;
+
+    @Value("${user.service.executor.queue-capacity:1000}")
+    private int userServiceQueueCapacity;
+
+    public DashboardExecutorConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+
+    @Bean(name = "dashboardExecutor")
+    public AsyncTaskExecutor dashboardExecutor() {
+        if (virtualThreads) {
+            // 섹션 조회는 DB 커넥션을 사용하므로 플랫폼 모드의 최대 스레드 수와 같은 한도 유지
+            return virtualExecutor("dashboard-", maxSize, ReplicaRoutingContext::wrap);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setTaskDecorator(ReplicaRoutingContext::wrap); // 읽기 라우팅용 사용자 컨텍스트 전달
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 모드에서도 플랫폼 스레드 풀 유지 (가득 차면 갱신을 건너뛰는 동작이 필요하고 크기도 작음)
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refreshSize);
+        executor.setMaxPoolSize(refreshSize);
+        executor.setQueueCapacity(refreshQueueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setTaskDecorator(ReplicaRoutingContext::wrap);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()); // 호출 측에서 갱신 생략 처리
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "problemServiceExecutor")
+    public AsyncTaskExecutor problemServiceExecutor() {
+        if (virtualThreads) {
+            // 실제 동시 호출 수는 problemServiceClient bulkhead가 제한, 한도 초과 제출은 대기하지 않고 거절
+            return new BoundedVirtualTaskExecutor("problem-service-", virtualIoConcurrencyLimit);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(problemServiceSize);
+        executor.setMaxPoolSize(problemServiceSize);
+        executor.setQueueCapacity(problemServiceQueueCapacity);
+        executor.setThreadNamePrefix("problem-service-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()); // 호출 측 future를 실패로 완료
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "userServiceExecutor")
+    @ConditionalOnProperty(name = "user.service.url")
+    public AsyncTaskExecutor userServiceExecutor() {
+        if (virtualThreads) {
+            return virtualExecutor("user-service-", virtualIoConcurrencyLimit, null);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(userServiceSize);
+        executor.setMaxPoolSize(userServiceSize);
+        executor.setQueueCapacity(userServiceQueueCapacity);
+        executor.setThreadNamePrefix("user-service-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 executor (작업마다 새 가상 스레드, 동시 실행 수가 concurrencyLimit에 도달하면 제출 스레드 대기)
+     */
+    private SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix, int concurrencyLimit,
+                                                    TaskDecorator taskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        if (taskDecorator != null) {
+            executor.setTaskDecorator(taskDecorator);
+        }
+        executor.setTaskTerminationTimeout(10_000L);
+        return executor;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.config;
+
+/**
+ * TinyLFU 접근 빈도 추정기 (4비트 count-min sketch)
+ * - long 하나에 4비트 카운터 16개, 키마다 해시 4개로 서로 다른 칸의 카운터를 증가시키고 그중 최소값을 빈도로 사용
+ * - 카운터는 15에서 포화, 증가 횟수가 sampleSize(칸 수의 10배)에 도달하면 모든 카운터를 절반으로 줄여
+ *   오래전 접근의 영향이 점점 사라지도록 함 (aging)
+ * - 키를 저장하지 않으므로 메모리는 expectedKeys에 비례하는 고정 크기 (키 1개당 약 8바이트)
+ */
+public class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedKeys 빈도를 구분해야 하는 키 수 (활성 사용자 수 정도)
+     */
+    public FrequencySketch(long expectedKeys) {
+        int capacity = Integer.highestOneBit((int) Math.min(Math.max(expectedKeys, 16L), 1L << 26) - 1) << 1;
+        this.table = new long[capacity];
+        this.tableMask = capacity - 1;
+        this.sampleSize = capacity * 10;
+    }
+
+    /**
+     * 추정 접근 빈도 (0~15)
+     */
+    public synchronized int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * 접근 1회 기록
+     */
+    public synchronized void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int offset = (start + i) << 2;
+            if (((table[index] >>> offset) & 0xFL) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 모든 카운터를 절반으로 (홀수 카운터의 버림만큼 additions도 보정)
+     */
+    private void reset() {
+        int oddCounters = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions = (additions - (oddCounters >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int item, int i) {
+        long hash = (item + SEEDS[i]) * SEEDS[i];
+        hash += hash >>> 32;
+        return ((int) hash) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
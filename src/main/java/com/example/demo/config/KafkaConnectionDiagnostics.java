@@ -5,6 +5,7 @@ import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.ListTopicsResult;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -16,9 +17,11 @@ import java.util.concurrent.TimeUnit;
 /**
  * Kafka 연결 상태 진단 컴포넌트
  * 애플리케이션 시작 시 Kafka 연결 상태를 확인하고 로그로 출력
+ * 준비 완료 전에 최대 10초 대기하므로 빠른 시작 모드(prod 프로필)에서는 learning.kafka.diagnostics.enabled=false로 끔
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "learning.kafka.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
 public class KafkaConnectionDiagnostics {
     
     @Value("${spring.kafka.bootstrap-servers:localhost:9094}")
@@ -7,8 +7,11 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -116,9 +119,11 @@ public class KafkaTopicConfig {
      * Kafka 리스너 컨테이너 팩토리 설정
      * - 수동 acknowledgment 모드 사용
      * - 동시성 설정 (여러 파티션 병렬 처리)
+     * - 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는 컨슈머 스레드를 가상 스레드로 실행
+     *   (직접 만든 팩토리라 Spring Boot의 자동 설정이 적용되지 않으므로 여기서 지정)
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(Environment environment) {
         log.info("🔧 Kafka 리스너 컨테이너 팩토리 생성 중...");
         
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = 
@@ -131,6 +136,13 @@ public class KafkaTopicConfig {
         
         // 연결 상태 로깅을 위한 리스너 추가
         factory.getContainerProperties().setConsumerStartTimeout(java.time.Duration.ofSeconds(30));
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+            log.info("   ⚙️  Kafka 리스너 가상 스레드 실행");
+        }
         
         // 역직렬화 에러 처리: ErrorHandlingDeserializer 사용
         // SerializationException을 처리할 수 있도록 설정
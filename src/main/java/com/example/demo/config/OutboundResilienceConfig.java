@@ -0,0 +1,60 @@
+package com.example.demo.config;
+
+import com.example.demo.client.OutboundCallGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 외부 서비스 호출 보호 설정 (회로 차단기, bulkhead, hedging)
+ * - 회로 차단기/bulkhead 설정은 resilience4j.circuitbreaker.instances.{이름}.*, resilience4j.bulkhead.instances.{이름}.*
+ *   (설정이 없는 이름은 resilience4j 기본값 사용)
+ * - hedging은 {서비스}.hedge.enabled, {서비스}.hedge.delay-ms
+ */
+@Configuration
+public class OutboundResilienceConfig {
+
+    public static final String PROBLEM_SERVICE_CLIENT = "problemServiceClient";
+    public static final String USER_SERVICE_CLIENT = "userServiceClient";
+
+    @Bean
+    public OutboundCallGuard problemServiceCallGuard(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Qualifier("problemServiceExecutor") Executor problemServiceExecutor,
+            @Value("${problem.service.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${problem.service.hedge.delay-ms:500}") long hedgeDelayMs) {
+        return new OutboundCallGuard(PROBLEM_SERVICE_CLIENT,
+            circuitBreakerRegistry.circuitBreaker(PROBLEM_SERVICE_CLIENT),
+            bulkheadRegistry.bulkhead(PROBLEM_SERVICE_CLIENT),
+            problemServiceExecutor,
+            hedgeEnabled ? hedgeDelayMs : 0L,
+            meterRegistry);
+    }
+
+    /**
+     * UserService 호출 보호 (hedging 없음: 호출이 캐시 로더 스레드 풀에서 실행되므로 같은 풀을 기다리지 않도록 함)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "user.service.url")
+    public OutboundCallGuard userServiceCallGuard(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Qualifier("userServiceExecutor") Executor userServiceExecutor) {
+        return new OutboundCallGuard(USER_SERVICE_CLIENT,
+            circuitBreakerRegistry.circuitBreaker(USER_SERVICE_CLIENT),
+            bulkheadRegistry.bulkhead(USER_SERVICE_CLIENT),
+            userServiceExecutor,
+            0L,
+            meterRegistry);
+    }
+}
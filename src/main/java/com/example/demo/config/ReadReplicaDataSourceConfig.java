@@ -0,0 +1,83 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 복제본 라우팅 데이터소스 설정 (learning.datasource.routing.enabled=true일 때만 활성화)
+ * - primary: spring.datasource.* (Kafka 수집 쓰기, 배치 잡, 일반 트랜잭션)
+ * - replica: learning.datasource.replica.* (읽기 전용 트랜잭션의 분석 조회)
+ * 비활성화 시에는 Spring Boot 기본 단일 데이터소스를 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "learning.datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${learning.datasource.routing.lag-window-ms:5000}")
+    private long lagWindowMillis;
+
+    @Value("${learning.datasource.routing.max-lag-ms:10000}")
+    private long maxLagMillis;
+
+    @Value("${learning.datasource.routing.lag-check-interval-ms:2000}")
+    private long lagCheckIntervalMillis;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("learning.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-pool");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagCheckIntervalMillis, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 RecentWriteTracker recentWriteTracker,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            replicaLagMonitor, recentWriteTracker, meterRegistry, lagWindowMillis, maxLagMillis);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+            ReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource,
+            ReplicaRoutingDataSource.Target.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        Gauge.builder("learning.datasource.recent-write-users", recentWriteTracker, RecentWriteTracker::size)
+            .description("lag window 안에 쓰기가 있어 primary로 읽는 사용자 수")
+            .register(meterRegistry);
+
+        // 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄서 readOnly 트랜잭션 여부가 라우팅에 반영되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최근 쓰기 시각 기록
+ * 쓰기 직후의 조회가 아직 복제되지 않은 복제본을 읽지 않도록, 쓰기 커밋 후 일정 시간(lag window) 동안은
+ * 해당 사용자의 읽기를 primary로 보냄
+ * - 쓰기를 처리한 인스턴스는 메모리 기록으로 바로 판단
+ * - 다른 인스턴스의 쓰기는 커밋 후 Redis에 공유한 기록으로 판단 (SharedRecentWriteStore, Redis 서버 시계 기준)
+ *   복제본으로 보낼 읽기마다 primary 커넥션을 얻지 않도록 DB는 조회하지 않음
+ * - Redis가 없는 구성은 단일 인스턴스로 간주하여 메모리 기록만 사용
+ */
+@Slf4j
+@Component
+public class RecentWriteTracker {
+
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final ObjectProvider<SharedRecentWriteStore> sharedRecentWriteStoreProvider;
+
+    @Value("${learning.datasource.routing.lag-window-ms:5000}")
+    private long lagWindowMillis;
+
+    @Value("${learning.datasource.routing.max-lag-ms:10000}")
+    private long maxLagMillis;
+
+    public RecentWriteTracker(ObjectProvider<SharedRecentWriteStore> sharedRecentWriteStoreProvider) {
+        this.sharedRecentWriteStoreProvider = sharedRecentWriteStoreProvider;
+    }
+
+    /**
+     * 사용자 데이터 쓰기 기록
+     * 트랜잭션 안에서 호출되면 커밋 이후 시각으로 기록
+     */
+    public void markWritten(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite(userId);
+                }
+            });
+        } else {
+            recordWrite(userId);
+        }
+    }
+
+    private void recordWrite(String userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+        // 보존 시간은 라우팅 window의 최대값 (복제 지연이 max-lag-ms를 넘으면 모든 읽기가 primary로 감)
+        sharedRecentWriteStoreProvider.ifAvailable(store -> store.record(userId, Math.max(lagWindowMillis, maxLagMillis)));
+    }
+
+    /**
+     * windowMillis 이내에 커밋된 쓰기가 있는지 확인
+     * 이 인스턴스의 기록에 없으면 Redis 공유 기록으로 다른 인스턴스의 쓰기를 확인하고,
+     * 확인된 쓰기는 메모리에 기록하여 window 동안 다시 조회하지 않음
+     */
+    public boolean hasRecentWrite(String userId, long windowMillis) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt != null && System.currentTimeMillis() - writtenAt < windowMillis) {
+            return true;
+        }
+        SharedRecentWriteStore sharedStore = sharedRecentWriteStoreProvider.getIfAvailable();
+        if (sharedStore == null) {
+            return false;
+        }
+        Long elapsedMillis = sharedStore.elapsedMillis(userId);
+        if (elapsedMillis == null) {
+            return false;
+        }
+        if (elapsedMillis < windowMillis) {
+            lastWriteAt.merge(userId, System.currentTimeMillis() - elapsedMillis, Math::max);
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return lastWriteAt.size();
+    }
+
+    /**
+     * 더 이상 라우팅에 영향을 주지 않는 기록 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - Math.max(lagWindowMillis, maxLagMillis);
+        int before = lastWriteAt.size();
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+        int removed = before - lastWriteAt.size();
+        if (removed > 0) {
+            log.debug("최근 쓰기 기록 정리: removed={}, remaining={}", removed, lastWriteAt.size());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+
+/**
+ * Redis 호스트(spring.data.redis.host)가 설정되지 않은 경우에만 일치하는 조건
+ * Redis 빈(@ConditionalOnProperty(name = "spring.data.redis.host"))과 짝을 이루어
+ * 단일 노드/로컬 실행에서 프로세스 내 구현을 등록할 때 사용
+ */
+public class RedisAbsentCondition extends NoneNestedConditions {
+
+    public RedisAbsentCondition() {
+        super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnProperty(name = "spring.data.redis.host")
+    static class RedisHostConfigured {
+    }
+}
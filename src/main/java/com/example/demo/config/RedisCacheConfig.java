@@ -3,6 +3,8 @@ package com.example.demo.config;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Redis 캐시 키 구조 및 설정 관리
@@ -115,6 +117,13 @@ public class RedisCacheConfig {
      * 가장 짧은 TTL을 사용하는 이유: 임시 데이터는 빠르게 만료되어야 합니다.
      */
     public static final Duration TEMP_CACHE_TTL = Duration.ofMinutes(15);
+    
+    /**
+     * 사용자 일별 실시간 카운터 TTL: 2일
+     * 오늘/어제 타일을 MySQL 조회 없이 응답하기 위해 일자별 카운터를 2일 동안 보관합니다.
+     * 만료되거나 없는 날짜는 DB에서 다시 집계하여 채웁니다.
+     */
+    public static final Duration USER_DAILY_COUNTERS_TTL = Duration.ofDays(2);
 
     // ===== 캐시 키 빌더 클래스 =====
     // Redis에 저장할 데이터의 키를 생성하는 메서드들을 제공합니다.
@@ -293,6 +302,56 @@ public class RedisCacheConfig {
         public static String lockKey(String type, String id) {
             return "lock:" + type + ":" + id;
         }
+
+        /**
+         * 분산 락 펜싱 토큰 카운터 키 생성
+         * @param type 락 타입
+         * @return "fence:{type}" 형태의 키
+         *
+         * 저장 데이터: 락 획득마다 INCR되는 정수 (TTL 없음, 락 타입별 1개)
+         * 용도: lease를 잃은 이전 락 소유자의 늦은 쓰기 거절
+         */
+        public static String fencingKey(String type) {
+            return "fence:" + type;
+        }
+
+        /**
+         * 재계산 대기 집합 키 생성
+         * @param type 재계산 작업 타입 (예: complete-analysis)
+         * @return "recompute:{type}" 형태의 키
+         *
+         * 저장 데이터: 재계산이 필요한 "userId|sessionId" (Redis Set, TTL 없음)
+         * 용도: 락을 얻지 못해 건너뛴 계산을 버리지 않고 락이 풀린 뒤 다시 수행
+         */
+        public static String recomputeKey(String type) {
+            return "recompute:" + type;
+        }
+
+        /**
+         * 사용자 최근 쓰기 표시 키 생성
+         * @param userId 사용자 ID
+         * @return "recent-write:{userId}" 형태의 키
+         *
+         * 저장 데이터: 보존 시간(ms) 문자열, 같은 값의 PX TTL (쓰기 커밋마다 덮어씀)
+         * 용도: 다른 인스턴스의 쓰기 직후 해당 사용자의 읽기를 primary로 보내기 위한 경과 시간 계산 (SharedRecentWriteStore)
+         */
+        public static String recentWriteKey(String userId) {
+            return "recent-write:" + userId;
+        }
+        
+        /**
+         * 사용자 일별 실시간 카운터 키 생성
+         * @param userId 사용자 ID
+         * @param date 날짜
+         * @return "user:counters:{userId}:{yyyyMMdd}" 형태의 키
+         * 
+         * 사용 예시: user:counters:{user123}:20240115
+         * 저장 데이터: 일자별 문제 수/정답 수/학습 시간 (Redis Hash, CacheDataStructure.UserDailyCounters 참고)
+         * 특징: userId를 중괄호(해시 태그)로 감싸 한 사용자의 날짜별 키가 클러스터에서 같은 슬롯에 배치됩니다.
+         */
+        public static String userDailyCountersKey(String userId, LocalDate date) {
+            return "user:counters:{" + userId + "}:" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+        }
     }
 
     // ===== 캐시 키 패턴 클래스 =====
@@ -466,5 +525,41 @@ public class RedisCacheConfig {
             /** 카테고리별 통계 정보 (JSON 객체 문자열) */
             public static final String STATISTICS = "statistics";
         }
+        
+        /**
+         * 사용자 일별 실시간 카운터 데이터 구조
+         * Redis Hash 형태로 저장되며 수집 시 HINCRBY로 증가합니다.
+         * 
+         * 저장 예시:
+         * {
+         *   "questions": "12",
+         *   "correct": "9",
+         *   "seconds": "340",
+         *   "type:VOCABULARY:questions": "5",
+         *   "type:VOCABULARY:correct": "4",
+         *   "type:VOCABULARY:seconds": "120",
+         *   "a:10233": "1",
+         *   "a:10234": "1",
+         *   "seeded": "1"
+         * }
+         */
+        public static class UserDailyCounters {
+            /** 푼 문제 수 */
+            public static final String QUESTIONS = "questions";
+            /** 정답 수 */
+            public static final String CORRECT = "correct";
+            /** 학습 시간 (초) */
+            public static final String SECONDS = "seconds";
+            /** 문제 유형별 필드 접두사 ("type:{questionType}:{questions|correct|seconds}") */
+            public static final String TYPE_PREFIX = "type:";
+            /** 반영한 답변 표시 필드 접두사 ("a:{answerId}", 같은 답변을 두 번 더하지 않도록 HSETNX) */
+            public static final String ANSWER_PREFIX = "a:";
+            /** DB 집계로 채운 날짜 표시 (이 필드가 있어야 조회에 사용) */
+            public static final String SEEDED = "seeded";
+
+            public static String typeField(String questionType, String counter) {
+                return TYPE_PREFIX + questionType + KEY_SEPARATOR + counter;
+            }
+        }
     }
 }
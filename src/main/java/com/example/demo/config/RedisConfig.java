@@ -1,23 +1,27 @@
 package com.example.demo.config;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.example.demo.service.NearCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * Redis 설정 클래스
  * RedisTemplate 빈을 설정하고 직렬화 방식을 구성합니다.
  */
 @Configuration
-@ConditionalOnProperty(name = "spring.redis.host")
+@ConditionalOnProperty(name = "spring.data.redis.host")
 public class RedisConfig {
 
     /**
@@ -25,37 +29,56 @@ public class RedisConfig {
      * 
      * 주요 설정:
      * 1. Key 직렬화: StringRedisSerializer (문자열 키 사용)
-     * 2. Value 직렬화: GenericJackson2JsonRedisSerializer (JSON 형태로 직렬화)
-     * 3. Hash Key/Value 직렬화: StringRedisSerializer + GenericJackson2JsonRedisSerializer
+     * 2. Value 직렬화: 바이트 그대로 저장 (RedisValueCodec으로 인코딩한 envelope)
+     *    값의 타입은 키 공간(RedisCacheService 조회 메서드)별로 정해지므로 클래스명을 값에 포함하지 않음
      * 
      * @param connectionFactory Redis 연결 팩토리
      * @return 설정된 RedisTemplate
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> redisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // ObjectMapper 설정 (JSON 직렬화용)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
-
-        // GenericJackson2JsonRedisSerializer 설정
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
 
         // Key 직렬화 설정 (문자열)
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
 
-        // Value 직렬화 설정 (JSON)
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Value 직렬화 설정 (RedisValueCodec envelope 바이트)
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
 
         // 설정 적용
         template.afterPropertiesSet();
 
         return template;
     }
+
+    /**
+     * Redis 값 코덱 (Smile 바이너리 JSON + 버전 envelope + 크기 기준 deflate 압축)
+     */
+    @Bean
+    public RedisValueCodec redisValueCodec(ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${learning.redis.codec.compress-threshold-bytes:1024}") int compressThreshold,
+                                           @Value("${learning.redis.codec.compression-level:1}") int compressionLevel) {
+        return new RedisValueCodec(objectMapper, meterRegistry, compressThreshold, compressionLevel);
+    }
+
+    /**
+     * L1 near cache 무효화 메시지 구독 컨테이너
+     * 다른 파드에서 값이 변경/삭제되면 이 파드의 L1 항목을 제거
+     */
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                NearCache nearCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+            (message, pattern) -> nearCache.onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(NearCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
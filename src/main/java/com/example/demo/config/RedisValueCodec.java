@@ -0,0 +1,247 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis 값 코덱 (버전 envelope + Smile 바이너리 JSON + 크기 기준 압축)
+ *
+ * envelope 구조
+ * <pre>
+ * [0] MAGIC (0xEC, JSON 텍스트의 첫 바이트가 될 수 없는 값)
+ * [1] envelope 버전
+ * [2] 본문 형식 (1: Smile)
+ * [3] 플래그 (bit0: deflate 압축)
+ * [4..7] 압축 전 길이 (압축된 경우에만)
+ * [..] 본문
+ * </pre>
+ *
+ * - 클래스명을 값에 포함하지 않고 키 공간(조회 메서드)별로 정해진 타입으로 역직렬화
+ * - 본문이 compressThreshold 바이트 이상이고 압축 결과가 더 작을 때만 압축
+ * - 이전 형식(GenericJackson2JsonRedisSerializer, 평문 JSON)이나 알 수 없는 버전/형식의 값은
+ *   읽을 수 있으면 읽고, 아니면 캐시 미스(null)로 처리하여 배포 중 형식이 섞여도 오류가 나지 않도록 함
+ */
+@Slf4j
+public class RedisValueCodec {
+
+    public static final byte MAGIC = (byte) 0xEC;
+    public static final byte VERSION = 1;
+
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 4;
+    private static final int LENGTH_SIZE = 4;
+
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+    private final int compressThreshold;
+    private final int compressionLevel;
+    private final DistributionSummary storedBytes;
+    private final Counter compressedValues;
+    private final Counter legacyReads;
+
+    /**
+     * @param objectMapper 애플리케이션 ObjectMapper (JavaTime 모듈 등 설정을 그대로 사용)
+     * @param compressThreshold 압축을 시도할 최소 본문 크기 (바이트, 0 이하이면 압축하지 않음)
+     * @param compressionLevel deflate 압축 레벨 (1: 가장 빠름 ~ 9: 가장 작음)
+     */
+    public RedisValueCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           int compressThreshold, int compressionLevel) {
+        this.jsonMapper = objectMapper.copy()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.smileMapper = objectMapper.copyWith(new SmileFactory())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.compressThreshold = compressThreshold;
+        this.compressionLevel = compressionLevel;
+        this.storedBytes = DistributionSummary.builder("learning.redis.value.bytes")
+            .description("Redis에 저장한 값 크기 (envelope 포함)")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.compressedValues = Counter.builder("learning.redis.value.compressed")
+            .description("압축하여 저장한 값 수")
+            .register(meterRegistry);
+        this.legacyReads = Counter.builder("learning.redis.value.legacy-reads")
+            .description("envelope가 없는 이전 형식 값 조회 수")
+            .register(meterRegistry);
+    }
+
+    public JavaType type(Class<?> clazz) {
+        return smileMapper.constructType(clazz);
+    }
+
+    public JavaType listType(Class<?> elementType) {
+        return smileMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+    }
+
+    public JavaType mapType(Class<?> valueType) {
+        return smileMapper.getTypeFactory().constructMapType(Map.class, String.class, valueType);
+    }
+
+    /**
+     * 값 → envelope 바이트
+     */
+    public byte[] encode(Object value) {
+        byte[] encoded = toEnvelope(value);
+        if (encoded != null) {
+            storedBytes.record(encoded.length);
+            if ((encoded[3] & FLAG_DEFLATE) != 0) {
+                compressedValues.increment();
+            }
+        }
+        return encoded;
+    }
+
+    private byte[] toEnvelope(Object value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 직렬화 실패: type=" + value.getClass().getName(), e);
+        }
+
+        byte[] compressed = compressThreshold > 0 && body.length >= compressThreshold ? deflate(body) : null;
+        if (compressed != null && compressed.length + LENGTH_SIZE < body.length) {
+            return ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressed.length)
+                .put(MAGIC).put(VERSION).put(FORMAT_SMILE).put(FLAG_DEFLATE)
+                .putInt(body.length)
+                .put(compressed)
+                .array();
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+            .put(MAGIC).put(VERSION).put(FORMAT_SMILE).put((byte) 0)
+            .put(body)
+            .array();
+    }
+
+    /**
+     * envelope 바이트 → 값 (해석할 수 없는 형식이면 null)
+     *
+     * @throws SerializationException envelope는 정상이지만 본문이 요청 타입과 맞지 않는 경우
+     */
+    public <T> T decode(byte[] bytes, JavaType type) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return decodeLegacy(bytes, type);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] > VERSION || bytes[2] != FORMAT_SMILE) {
+            // 새 버전 파드가 기록한 값 등 해석할 수 없는 envelope는 미스로 처리
+            log.debug("지원하지 않는 Redis 값 envelope: version={}, format={}", bytes.length > 1 ? bytes[1] : -1,
+                bytes.length > 2 ? bytes[2] : -1);
+            return null;
+        }
+
+        try {
+            if ((bytes[3] & FLAG_DEFLATE) != 0) {
+                int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+                byte[] body = inflate(bytes, HEADER_SIZE + LENGTH_SIZE, originalLength);
+                return smileMapper.readValue(body, type);
+            }
+            return smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Redis 값 역직렬화 실패: type=" + type, e);
+        }
+    }
+
+    /**
+     * 이전 형식 값: 평문 JSON으로 읽을 수 있으면 사용하고, 타입 정보가 섞인 값은 미스로 처리 (TTL 내 재기록됨)
+     */
+    private <T> T decodeLegacy(byte[] bytes, JavaType type) {
+        legacyReads.increment();
+        try {
+            return jsonMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            log.debug("이전 형식 Redis 값 무시: type={}, reason={}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 지정 타입 전용 RedisSerializer (Spring Cache 등 RedisSerializer가 필요한 곳에서 사용)
+     */
+    public <T> RedisSerializer<T> serializer(JavaType type) {
+        return serializer(type, bytes -> { });
+    }
+
+    /**
+     * 지정 타입 전용 RedisSerializer, 직렬화할 때마다 저장 크기(envelope 포함)를 sizeListener로 전달
+     */
+    public <T> RedisSerializer<T> serializer(JavaType type, IntConsumer sizeListener) {
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(T value) {
+                byte[] encoded = encode(value);
+                if (encoded != null) {
+                    sizeListener.accept(encoded.length);
+                }
+                return encoded;
+            }
+
+            @Override
+            public T deserialize(byte[] bytes) {
+                return decode(bytes, type);
+            }
+        };
+    }
+
+    private byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+            byte[] buffer = new byte[Math.min(body.length, 8192)];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes, int offset, int originalLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(body, read, originalLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != originalLength) {
+                throw new DataFormatException("압축 해제 길이 불일치: expected=" + originalLength + ", actual=" + read);
+            }
+            return body;
+        } finally {
+            inflater.end();
+        }
+    }
+}
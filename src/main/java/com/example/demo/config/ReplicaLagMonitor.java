@@ -0,0 +1,99 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 지연(replication lag) 감시
+ * SHOW REPLICA STATUS(MySQL 8.0.22 미만은 SHOW SLAVE STATUS)의 Seconds_Behind_Source를 주기적으로 조회
+ * - 복제 상태가 없으면(단독 서버를 복제본으로 지정한 경우) 지연 0으로 간주
+ * - 복제 스레드 중단(값 NULL), 조회 실패, 마지막 성공 조회가 오래된 경우 복제본 사용 불가로 판단
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long checkIntervalMillis;
+
+    private volatile boolean legacyStatusCommand = false;
+    private volatile boolean replicaAvailable = false;
+    private volatile long lagMillis = 0L;
+    private volatile long lastCheckedAt = 0L;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long checkIntervalMillis, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.checkIntervalMillis = checkIntervalMillis;
+
+        Gauge.builder("learning.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+            .description("읽기 전용 복제본 지연 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("learning.datasource.replica.available", this, monitor -> monitor.isReplicaAvailable() ? 1.0 : 0.0)
+            .description("읽기 전용 복제본 사용 가능 여부")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${learning.datasource.routing.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        try {
+            List<Long> lags = queryReplicationLag();
+            if (lags.isEmpty()) {
+                lagMillis = 0L;
+                replicaAvailable = true;
+            } else if (lags.get(0) == null) {
+                if (replicaAvailable) {
+                    log.warn("복제본 복제 스레드가 중단되어 읽기를 primary로 전환");
+                }
+                replicaAvailable = false;
+            } else {
+                lagMillis = lags.get(0) * 1000L;
+                replicaAvailable = true;
+            }
+            lastCheckedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            if (replicaAvailable) {
+                log.error("복제본 지연 조회 실패, 읽기를 primary로 전환: {}", e.getMessage());
+            }
+            replicaAvailable = false;
+        }
+    }
+
+    private List<Long> queryReplicationLag() {
+        if (!legacyStatusCommand) {
+            try {
+                return replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+                    (rs, rowNum) -> {
+                        long seconds = rs.getLong("Seconds_Behind_Source");
+                        return rs.wasNull() ? null : seconds;
+                    });
+            } catch (BadSqlGrammarException e) {
+                log.info("SHOW REPLICA STATUS 미지원 서버, SHOW SLAVE STATUS로 전환");
+                legacyStatusCommand = true;
+            }
+        }
+        return replicaJdbcTemplate.query("SHOW SLAVE STATUS",
+            (rs, rowNum) -> {
+                long seconds = rs.getLong("Seconds_Behind_Master");
+                return rs.wasNull() ? null : seconds;
+            });
+    }
+
+    /**
+     * 최근 조회가 성공했고 복제가 동작 중인지 여부
+     * 조회가 멈춘 경우(3회 주기 이상 갱신 없음)에도 사용 불가로 판단
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable && System.currentTimeMillis() - lastCheckedAt <= checkIntervalMillis * 3;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.config;
+
+/**
+ * 읽기 라우팅 컨텍스트
+ * 현재 요청이 어떤 사용자의 데이터를 조회하는지 스레드 로컬에 보관하여
+ * 라우팅 데이터소스가 "최근 쓰기가 있었던 사용자"인지 판단할 수 있도록 함
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<String> CURRENT_USER_ID = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void setUserId(String userId) {
+        if (userId == null) {
+            CURRENT_USER_ID.remove();
+        } else {
+            CURRENT_USER_ID.set(userId);
+        }
+    }
+
+    public static String getUserId() {
+        return CURRENT_USER_ID.get();
+    }
+
+    public static void clear() {
+        CURRENT_USER_ID.remove();
+    }
+
+    /**
+     * 비동기 작업(대시보드 섹션 등)에 호출 스레드의 컨텍스트를 전달
+     */
+    public static Runnable wrap(Runnable task) {
+        String userId = CURRENT_USER_ID.get();
+        if (userId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = CURRENT_USER_ID.get();
+            setUserId(userId);
+            try {
+                task.run();
+            } finally {
+                setUserId(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * primary / 읽기 전용 복제본 라우팅 데이터소스
+ * - @Transactional(readOnly = true) 트랜잭션의 커넥션만 복제본으로 보냄
+ * - 복제본이 사용 불가이거나 지연이 max-lag-ms를 넘으면 primary로 보냄
+ * - 현재 요청 사용자가 lag window(복제 지연이 더 크면 그 값) 안에 쓰기를 했으면 primary로 보냄
+ * LazyConnectionDataSourceProxy로 감싸서 사용해야 트랜잭션 속성이 설정된 뒤 라우팅 키가 결정됨
+ * 라우팅 결과는 learning.datasource.routing{target, reason} 카운터로 노출
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final RecentWriteTracker recentWriteTracker;
+    private final MeterRegistry meterRegistry;
+    private final long lagWindowMillis;
+    private final long maxLagMillis;
+    private final Map<String, Counter> routingCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor,
+                                    RecentWriteTracker recentWriteTracker,
+                                    MeterRegistry meterRegistry,
+                                    long lagWindowMillis,
+                                    long maxLagMillis) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriteTracker = recentWriteTracker;
+        this.meterRegistry = meterRegistry;
+        this.lagWindowMillis = lagWindowMillis;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(Target.PRIMARY, "read_write");
+        }
+        if (!lagMonitor.isReplicaAvailable()) {
+            return route(Target.PRIMARY, "replica_unavailable");
+        }
+        long lagMillis = lagMonitor.getLagMillis();
+        if (lagMillis > maxLagMillis) {
+            return route(Target.PRIMARY, "replica_lagging");
+        }
+        String userId = ReplicaRoutingContext.getUserId();
+        if (userId != null && recentWriteTracker.hasRecentWrite(userId, Math.max(lagWindowMillis, lagMillis))) {
+            return route(Target.PRIMARY, "recent_write");
+        }
+        return route(Target.REPLICA, "read_only");
+    }
+
+    private Target route(Target target, String reason) {
+        routingCounters.computeIfAbsent(target.name() + ":" + reason, key -> Counter.builder("learning.datasource.routing")
+                .description("데이터소스 라우팅 결정 횟수")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry))
+            .increment();
+        return target;
+    }
+}
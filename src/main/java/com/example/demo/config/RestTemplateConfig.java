@@ -1,27 +1,93 @@
 package com.example.demo.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 /**
  * RestTemplate 설정
  * ProblemService API 호출을 위한 RestTemplate 빈 설정
+ * - Apache HttpClient 5 커넥션 풀 (전체/route별 최대 연결 수, keep-alive로 연결 재사용)
+ * - connect/read 타임아웃은 problem.service.connect-timeout, problem.service.timeout (ms)
+ * - 풀이 가득 찬 경우 learning.http.client.pool.acquire-timeout-ms 동안만 대기 후 실패
+ * - 풀 메트릭: httpcomponents.httpclient.pool.*{httpclient=problem-service}
  */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
-    
+
+    private static final String POOL_METRIC_NAME = "problem-service";
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${problem.service.connect-timeout:2000}") long connectTimeoutMs,
+            @Value("${problem.service.timeout:5000}") long readTimeoutMs,
+            @Value("${learning.http.client.pool.max-total:100}") int maxTotal,
+            @Value("${learning.http.client.pool.max-per-route:50}") int maxPerRoute,
+            @Value("${learning.http.client.pool.time-to-live-ms:300000}") long timeToLiveMs,
+            @Value("${learning.http.client.pool.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            // 최근 사용한 연결부터 재사용하여 유휴 연결이 자연스럽게 줄어들도록 함
+            .setConnPoolPolicy(PoolReusePolicy.LIFO)
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMs))
+                // 일정 시간 쉬었던 연결은 재사용 전에 끊겼는지 확인 (서버/LB가 먼저 닫은 연결로 인한 실패 방지)
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                .build())
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRIC_NAME).bindTo(meterRegistry);
+        log.info("HTTP 클라이언트 커넥션 풀: maxTotal={}, maxPerRoute={}, connectTimeoutMs={}, readTimeoutMs={}",
+            maxTotal, maxPerRoute, connectTimeoutMs, readTimeoutMs);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient pooledHttpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            @Value("${problem.service.timeout:5000}") long readTimeoutMs,
+            @Value("${learning.http.client.pool.acquire-timeout-ms:1000}") long acquireTimeoutMs,
+            @Value("${learning.http.client.keep-alive-ms:30000}") long keepAliveMs,
+            @Value("${learning.http.client.idle-evict-ms:30000}") long idleEvictMs) {
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                // 서버가 Keep-Alive 헤더로 기간을 알려주지 않으면 keepAliveMs 동안 연결 유지
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+            .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient pooledHttpClient) {
         return builder
-            .setConnectTimeout(Duration.ofSeconds(5))
-            .setReadTimeout(Duration.ofSeconds(10))
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pooledHttpClient))
             .build();
     }
 }
-
@@ -0,0 +1,13 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 백필/유지보수성 배치 작업(@Scheduled)을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
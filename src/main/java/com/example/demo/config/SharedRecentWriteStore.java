@@ -0,0 +1,72 @@
+package com.example.demo.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인스턴스 간 사용자별 최근 쓰기 공유 (Redis)
+ * - 쓰기 커밋 후 "recent-write:{userId}"에 보존 시간을 값과 TTL로 함께 기록
+ * - 경과 시간은 (보존 시간 - 남은 TTL)로 Redis 서버 시계 기준으로 계산하므로 인스턴스 간 시계 차이의 영향을 받지 않음
+ * - 라우팅 데이터소스의 커넥션 획득 중에 호출되므로 DB 커넥션을 사용하지 않고 Redis 한 번만 조회
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class SharedRecentWriteStore {
+
+    /**
+     * KEYS[1]: 최근 쓰기 키 → 마지막 쓰기 이후 경과 시간(ms), 기록이 없으면 -1
+     */
+    private static final RedisScript<Long> ELAPSED_SCRIPT = new DefaultRedisScript<>("""
+        local retention = redis.call('GET', KEYS[1])
+        if not retention then
+          return -1
+        end
+        local ttl = redis.call('PTTL', KEYS[1])
+        if ttl < 0 then
+          return -1
+        end
+        return math.max(tonumber(retention) - ttl, 0)
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public SharedRecentWriteStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 쓰기 기록 (retentionMillis 동안 다른 인스턴스에서 조회 가능)
+     */
+    public void record(String userId, long retentionMillis) {
+        try {
+            stringRedisTemplate.opsForValue().set(RedisCacheConfig.CacheKeyBuilder.recentWriteKey(userId),
+                Long.toString(retentionMillis), Duration.ofMillis(retentionMillis));
+        } catch (Exception e) {
+            // 기록 실패 시 다른 인스턴스는 lag window 동안 복제본을 읽을 수 있음 (이 인스턴스는 메모리 기록으로 primary)
+            log.warn("최근 쓰기 공유 기록 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 마지막 쓰기 이후 경과 시간(ms), 기록이 없거나 보존 시간이 지났으면 null
+     * 조회에 실패하면 최신 데이터를 보장할 수 없으므로 경과 0(= primary로 라우팅)으로 간주
+     */
+    public Long elapsedMillis(String userId) {
+        try {
+            Long elapsed = stringRedisTemplate.execute(ELAPSED_SCRIPT,
+                List.of(RedisCacheConfig.CacheKeyBuilder.recentWriteKey(userId)));
+            return elapsed == null || elapsed < 0 ? null : elapsed;
+        } catch (Exception e) {
+            log.warn("최근 쓰기 공유 조회 실패, primary로 조회: userId={}", userId, e);
+            return 0L;
+        }
+    }
+}
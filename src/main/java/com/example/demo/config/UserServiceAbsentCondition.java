@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+
+/**
+ * UserService 주소(user.service.url)가 설정되지 않은 경우에만 일치하는 조건
+ * HTTP UserServiceClient(@ConditionalOnProperty(name = "user.service.url"))와 짝을 이루어
+ * 단일 서비스/로컬 실행에서 더미 클라이언트를 등록할 때 사용
+ */
+public class UserServiceAbsentCondition extends NoneNestedConditions {
+
+    public UserServiceAbsentCondition() {
+        super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnProperty(name = "user.service.url")
+    static class UserServiceUrlConfigured {
+    }
+}
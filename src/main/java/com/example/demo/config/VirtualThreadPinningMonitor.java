@@ -0,0 +1,88 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 (가상 스레드 모드에서만 동작)
+ * JFR 이벤트 jdk.VirtualThreadPinned를 프로세스 안에서 스트리밍하여, 가상 스레드가 synchronized 블록/네이티브 호출 안에서
+ * 블로킹되어 캐리어(플랫폼) 스레드를 threshold-ms 이상 붙잡은 지점을 기록
+ * - 지점은 스택에서 가장 가까운 애플리케이션(com.example.demo) 프레임, 없으면 최상단 프레임
+ * - 메트릭: learning.threads.virtual.pinned{frame} (고정 시간 Timer)
+ * - 이 서비스에서 확인된 후보: FrequencySketch(synchronized, 메모리 연산만 하므로 짧음),
+ *   JDBC 드라이버/커넥션 풀 내부 잠금(드라이버 버전에 따라 다름), Caffeine 캐시 계산(compute) 구간
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "learning.threads.virtual.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.example.demo.";
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${learning.threads.virtual.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감시 시작: thresholdMs={}", thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        try {
+            String frame = pinnedFrame(event.getStackTrace());
+            Timer.builder("learning.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+            log.warn("가상 스레드 고정 감지: frame={}, durationMs={}", frame, event.getDuration().toMillis());
+        } catch (Exception e) {
+            log.error("가상 스레드 고정 이벤트 처리 실패", e);
+        }
+    }
+
+    private String pinnedFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return format(frames.get(0));
+    }
+
+    private String format(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+    }
+
+    @PreDestroy
+    public void close() {
+        recordingStream.close();
+    }
+}
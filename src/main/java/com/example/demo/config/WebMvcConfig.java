@@ -0,0 +1,34 @@
+package com.example.demo.config;
+
+import com.example.demo.service.UserDataWatermarkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final UserDataWatermarkService userDataWatermarkService;
+
+    @Value("${learning.conditional-requests.enabled:true}")
+    private boolean conditionalRequestsEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 읽기 전용 복제본 라우팅용 사용자 컨텍스트
+        registry.addInterceptor(new ReplicaRoutingInterceptor())
+            .addPathPatterns("/analysis/users/**");
+        
+        // 사용자 데이터 워터마크 기반 ETag/Last-Modified, 변경 없으면 304
+        if (conditionalRequestsEnabled) {
+            registry.addInterceptor(new ConditionalRequestInterceptor(userDataWatermarkService))
+                .addPathPatterns("/analysis/users/**");
+        }
+    }
+}
@@ -1,31 +1,52 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.analytics.DashboardData;
 import com.example.demo.dto.analytics.PerformanceCard;
 import com.example.demo.dto.analytics.WeeklyTrendData;
 import com.example.demo.dto.analytics.DailyActivityData;
 import com.example.demo.dto.analytics.QuestionTypeChartData;
 import com.example.demo.dto.analytics.LearningPatternAnalysisDTO;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.LiveLearningCounters;
+import com.example.demo.dto.analytics.MonthlyLearningTime;
+import com.example.demo.dto.analytics.MonthlyLearningTimeSummary;
+import com.example.demo.dto.analytics.UserLearningAnalytics;
+import com.example.demo.dto.analytics.CategoryPerformanceStats;
+import com.example.demo.dto.analytics.DifficultyAchievement;
 import com.example.demo.entity.LearningSession;
 import com.example.demo.entity.LearningSessionEvent;
 import com.example.demo.entity.QuestionAnswer;
 import com.example.demo.repository.LearningSessionRepository;
 import com.example.demo.repository.LearningSessionEventRepository;
 import com.example.demo.repository.QuestionAnswerRepository;
+import com.example.demo.service.AnswerExportService;
 import com.example.demo.service.LearningAnalyticsService;
+import com.example.demo.service.LearningDashboardService;
 import com.example.demo.service.LearningPatternAnalysisService;
 import com.example.demo.service.LearningPatternAnalysisService.LearningSessionResult;
-import com.example.demo.service.RedisCacheService;
+import com.example.demo.service.RecentLearningPatternService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Collections;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 학습 분석 데이터 조회 전용 컨트롤러
@@ -41,11 +62,18 @@ import java.util.HashMap;
 public class LearningAnalyticsController {
 
     private final LearningAnalyticsService learningAnalyticsService;
+    private final LearningDashboardService learningDashboardService;
+    private final AnswerExportService answerExportService;
     private final LearningPatternAnalysisService learningPatternAnalysisService;
     private final LearningSessionRepository learningSessionRepository;
     private final LearningSessionEventRepository learningSessionEventRepository;
     private final QuestionAnswerRepository questionAnswerRepository;
-    private final RedisCacheService redisCacheService;
+    private final RecentLearningPatternService recentLearningPatternService;
+
+    private static final String EXPORT_PERMIT_INTERCEPTOR_KEY = "answerExportPermit";
+
+    @Value("${learning.analytics.max-page-size:1000}")
+    private int maxPageSize;
 
     // ===== 학습 패턴 분석 API =====
 
@@ -151,27 +179,10 @@ public class LearningAnalyticsController {
         log.info("최근 학습 패턴 분석 결과 조회: userId={}", userId);
         
         try {
-            // 1. Redis 캐시에서 최근 분석 결과 조회 시도
-            String cacheKey = "learning-pattern:recent:" + userId;
-            LearningPatternAnalysisDTO cachedAnalysis = redisCacheService.getTempData(
-                "learning-pattern", userId, LearningPatternAnalysisDTO.class).orElse(null);
-            
-            if (cachedAnalysis != null) {
-                log.info("Redis 캐시에서 최근 분석 결과 조회 성공: userId={}", userId);
-                return ResponseEntity.ok(cachedAnalysis);
-            }
-            
-            // 2. 캐시에 없으면 최근 30일 데이터로 새로운 분석 수행
-            LocalDateTime endDate = LocalDateTime.now();
-            LocalDateTime startDate = endDate.minusDays(30);
-            
-            LearningPatternAnalysisDTO recentAnalysis = learningPatternAnalysisService
-                .analyzeCompleteLearningIncremental(userId, startDate, endDate);
+            // 캐시 조회 (만료 임박/만료 직후에는 이전 값으로 응답하고 한 곳에서만 재계산)
+            LearningPatternAnalysisDTO recentAnalysis = recentLearningPatternService.getRecentLearningPattern(userId);
             
             if (recentAnalysis != null) {
-                // 3. 분석 결과를 캐시에 저장 (1시간 유효)
-                redisCacheService.cacheTempData("learning-pattern", userId, recentAnalysis);
-                log.info("최근 학습 패턴 분석 완료 및 캐시 저장: userId={}", userId);
                 return ResponseEntity.ok(recentAnalysis);
             } else {
                 log.warn("최근 학습 패턴 분석 결과가 없음: userId={}", userId);
@@ -192,11 +203,11 @@ public class LearningAnalyticsController {
      * GET /analysis/users/{userId}/analytics
      */
     @GetMapping("/users/{userId}/analytics")
-    public ResponseEntity<Map<String, Object>> getUserAnalytics(@PathVariable String userId) {
+    public ResponseEntity<UserLearningAnalytics> getUserAnalytics(@PathVariable String userId) {
         log.info("사용자 학습 분석 데이터 조회: userId={}", userId);
         
         try {
-            Map<String, Object> analytics = learningAnalyticsService.getUserLearningAnalytics(userId);
+            UserLearningAnalytics analytics = learningAnalyticsService.getUserLearningAnalytics(userId);
             return ResponseEntity.ok(analytics);
         } catch (Exception e) {
             log.error("사용자 학습 분석 데이터 조회 중 오류 발생: userId={}", userId, e);
@@ -210,11 +221,11 @@ public class LearningAnalyticsController {
      * GET /analysis/users/{userId}/weakness-distribution
      */
     @GetMapping("/users/{userId}/weakness-distribution")
-    public ResponseEntity<List<Map<String, Object>>> getCategoryPerformance(@PathVariable String userId) {
+    public ResponseEntity<List<CategoryPerformanceStats>> getCategoryPerformance(@PathVariable String userId) {
         log.info("카테고리별 성과 데이터 조회: userId={}", userId);
         
         try {
-            List<Map<String, Object>> categoryPerformance = learningAnalyticsService.getCategoryPerformance(userId);
+            List<CategoryPerformanceStats> categoryPerformance = learningAnalyticsService.getCategoryPerformance(userId);
             return ResponseEntity.ok(categoryPerformance);
         } catch (Exception e) {
             log.error("카테고리별 성과 데이터 조회 중 오류 발생: userId={}", userId, e);
@@ -228,11 +239,11 @@ public class LearningAnalyticsController {
      * GET /analysis/users/{userId}/difficulty-achievement
      */
     @GetMapping("/users/{userId}/difficulty-achievement")
-    public ResponseEntity<List<Map<String, Object>>> getDifficultyAchievement(@PathVariable String userId) {
+    public ResponseEntity<List<DifficultyAchievement>> getDifficultyAchievement(@PathVariable String userId) {
         log.info("난이도별 성취도 데이터 조회: userId={}", userId);
         
         try {
-            List<Map<String, Object>> difficultyAchievement = learningAnalyticsService.getDifficultyAchievement(userId);
+            List<DifficultyAchievement> difficultyAchievement = learningAnalyticsService.getDifficultyAchievement(userId);
             return ResponseEntity.ok(difficultyAchievement);
         } catch (Exception e) {
             log.error("난이도별 성취도 데이터 조회 중 오류 발생: userId={}", userId, e);
@@ -242,20 +253,44 @@ public class LearningAnalyticsController {
 
     /**
      * 문제 통계 데이터 조회 (뷰 기반) -- 관리자용 
-     * question_stats_view 뷰에서 직접 조회
-     * GET /analysis/question-stats
+     * question_stats_view 뷰에서 직접 조회, 응답은 커서에서 JSON으로 바로 스트리밍
+     * GET /analysis/question-stats : 기존과 같이 전체 행의 JSON 배열
+     * GET /analysis/question-stats?page=0&size=100 : content와 페이지 정보(page, size, number_of_elements, has_next)
      */
     @GetMapping("/question-stats")
-    public ResponseEntity<List<Map<String, Object>>> getQuestionStats() {
-        log.info("문제 통계 데이터 조회");
+    public ResponseEntity<StreamingResponseBody> getQuestionStats(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
         
-        try {
-            List<Map<String, Object>> questionStats = learningAnalyticsService.getQuestionStats();
-            return ResponseEntity.ok(questionStats);
-        } catch (Exception e) {
-            log.error("문제 통계 데이터 조회 중 오류 발생", e);
-            return ResponseEntity.internalServerError().build();
+        if (page == null && size == null) {
+            StreamingResponseBody body = outputStream -> {
+                try {
+                    learningAnalyticsService.streamQuestionStats(outputStream);
+                } catch (RuntimeException e) {
+                    log.error("문제 통계 데이터 조회 중 오류 발생", e);
+                    throw e;
+                }
+            };
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
         }
+        
+        // 페이지 크기 제한 (1 ~ learning.analytics.max-page-size, 기본 100)
+        int pageNumber = page != null ? Math.max(page, 0) : 0;
+        int pageSize = Math.min(Math.max(size != null ? size : 100, 1), maxPageSize);
+        
+        StreamingResponseBody body = outputStream -> {
+            try {
+                learningAnalyticsService.streamQuestionStatsPage(pageNumber, pageSize, outputStream);
+            } catch (RuntimeException e) {
+                log.error("문제 통계 데이터 조회 중 오류 발생: page={}, size={}", pageNumber, pageSize, e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
     }
 
     /**
@@ -280,6 +315,101 @@ public class LearningAnalyticsController {
 
     // ===== 기존 API 엔드포인트들 =====
 
+    /**
+     * 대시보드 통합 데이터 조회
+     * GET /analysis/users/{userId}/dashboard
+     * 
+     * performance-card, weekly-trend, daily-activity, question-type-accuracy,
+     * total-learning-time, monthly-learning-time을 한 번의 조회로 함께 제공
+     * - debug=true: 섹션별 소요 시간(ms)을 sectionTimings로 포함
+     */
+    @GetMapping("/users/{userId}/dashboard")
+    public ResponseEntity<DashboardData> getDashboard(
+            @PathVariable String userId,
+            @RequestParam(required = false) Integer weeks,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(defaultValue = "false") boolean debug) {
+        
+        // 기본값: 최근 8주 추이, 최근 30일 활동 (개별 API 기본값과 동일)
+        int numberOfWeeks = weeks != null ? Math.min(Math.max(weeks, 1), 52) : 8;
+        int numberOfDays = days != null ? Math.min(Math.max(days, 1), 366) : 30;
+        
+        log.info("대시보드 통합 데이터 조회: userId={}, weeks={}, days={}, debug={}", 
+            userId, numberOfWeeks, numberOfDays, debug);
+        
+        try {
+            DashboardData dashboard = learningDashboardService.getDashboard(userId, numberOfWeeks, numberOfDays, debug);
+            return ResponseEntity.ok(dashboard);
+        } catch (Exception e) {
+            log.error("대시보드 통합 데이터 조회 실패: userId={}", userId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 사용자 답변 이력 전체 내보내기 (고객 지원, 오프라인 모델 학습용)
+     * DB 커서에서 읽은 행을 응답으로 바로 스트리밍하므로 답변 수와 무관하게 메모리 사용량 일정
+     * 동시 실행 권한은 스트리밍 종료 시와 비동기 요청 종료(완료, 타임아웃, 연결 오류) 시 중 먼저 오는 쪽에서 한 번만 반납
+     * GET /analysis/users/{userId}/answers/export?format=ndjson|csv&gzip=true
+     */
+    @GetMapping("/users/{userId}/answers/export")
+    public ResponseEntity<StreamingResponseBody> exportAnswers(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) LocalDate fromDate,
+            @RequestParam(required = false) LocalDate toDate,
+            HttpServletRequest request) {
+        
+        AnswerExportService.Format exportFormat;
+        try {
+            exportFormat = AnswerExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // 기본값: 전체 기간
+        LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime to = (toDate != null ? toDate : LocalDate.now()).plusDays(1).atStartOfDay();
+        
+        if (!answerExportService.tryAcquirePermit()) {
+            log.warn("답변 이력 내보내기 동시 실행 수 초과: userId={}", userId);
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        
+        // 스트리밍 본문이 실행되지 않고 끝나는 경우(실행 전 타임아웃, 연결 종료, 실행 거부)에도 권한이 남지 않도록 함
+        AtomicBoolean permitReleased = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (permitReleased.compareAndSet(false, true)) {
+                answerExportService.releasePermit();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR_KEY,
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                    releasePermit.run();
+                }
+            });
+        
+        log.info("답변 이력 내보내기 시작: userId={}, format={}, gzip={}, from={}, to={}", 
+            userId, exportFormat, gzip, from, to);
+        
+        StreamingResponseBody body = outputStream -> {
+            try {
+                answerExportService.export(userId, from, to, exportFormat, gzip, outputStream);
+            } finally {
+                releasePermit.run();
+            }
+        };
+        
+        String filename = "answers-" + userId + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+
     /**
      * 학습 성과 카드 데이터 조회 (대시보드 상단 요약 카드용)
      * GET /analysis/users/{userId}/performance-card
@@ -395,6 +525,26 @@ public class LearningAnalyticsController {
         return ResponseEntity.ok(chartData);
     }
 
+    /**
+     * 사용자 일별 실시간 학습 카운터 조회 ("오늘" 타일용)
+     * Redis 카운터로 응답하고, 없으면 DB에서 집계 (응답의 source로 구분)
+     * GET /analysis/users/{userId}/live-counters?date=2024-01-15 (기본 오늘)
+     */
+    @GetMapping("/users/{userId}/live-counters")
+    public ResponseEntity<LiveLearningCounters> getLiveLearningCounters(
+            @PathVariable String userId,
+            @RequestParam(required = false) LocalDate date) {
+        
+        try {
+            LiveLearningCounters counters = learningAnalyticsService.getLiveLearningCounters(userId, date);
+            log.debug("실시간 학습 카운터 조회: userId={}, date={}, source={}", userId, counters.date(), counters.source());
+            return ResponseEntity.ok(counters);
+        } catch (Exception e) {
+            log.error("실시간 학습 카운터 조회 실패: userId={}, date={}", userId, date, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // ===== 학습 시간 통계 API =====
 
     /**
@@ -402,62 +552,15 @@ public class LearningAnalyticsController {
      * GET /analysis/users/{userId}/total-learning-time
      */
     @GetMapping("/users/{userId}/total-learning-time")
-    public ResponseEntity<Map<String, Object>> getTotalLearningTime(@PathVariable String userId) {
+    public ResponseEntity<LearningTimeSummary> getTotalLearningTime(@PathVariable String userId) {
         log.info("사용자 총 학습 시간 조회: userId={}", userId);
         
         try {
-            // 기본 학습 시간 정보 조회
-            long totalSeconds = learningAnalyticsService.getTotalLearningTimeForUser(userId);
-            double totalMinutes = learningAnalyticsService.getTotalLearningTimeMinutesForUser(userId);
-            double totalHours = learningAnalyticsService.getTotalLearningTimeHoursForUser(userId);
-            
-            log.info("기본 학습 시간 조회 완료: totalSeconds={}, totalMinutes={}, totalHours={}", 
-                     totalSeconds, totalMinutes, totalHours);
-            
-            // 세션 타입별 통계 조회
-            log.info("세션 타입별 통계 조회 시작");
-            List<Map<String, Object>> sessionTypeStats = learningAnalyticsService.getSessionTypeStats(userId);
-            log.info("세션 타입별 통계 조회 완료: sessionTypeStats={}", sessionTypeStats);
-            
-            // 전체 요약 통계 계산
-            int totalSessions = sessionTypeStats.stream()
-                .mapToInt(stat -> (Integer) stat.get("totalSessions"))
-                .sum();
-            
-            int totalCompletedSessions = sessionTypeStats.stream()
-                .mapToInt(stat -> (Integer) stat.get("completedSessions"))
-                .sum();
-            
-            int totalQuestions = sessionTypeStats.stream()
-                .mapToInt(stat -> (Integer) stat.get("totalQuestions"))
-                .sum();
-            
-            int totalCorrectAnswers = sessionTypeStats.stream()
-                .mapToInt(stat -> (Integer) stat.get("correctAnswers"))
-                .sum();
-            
-            // 전체 정답률 계산
-            double overallAccuracyRate = totalQuestions > 0 ? 
-                (double) totalCorrectAnswers / totalQuestions * 100 : 0.0;
-            
-            log.info("통계 계산 완료: totalSessions={}, totalCompletedSessions={}, totalQuestions={}, totalCorrectAnswers={}, overallAccuracyRate={}", 
-                     totalSessions, totalCompletedSessions, totalQuestions, totalCorrectAnswers, overallAccuracyRate);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("userId", userId);
-            response.put("totalLearningTimeSeconds", totalSeconds);
-            response.put("totalLearningTimeMinutes", totalMinutes);
-            response.put("totalLearningTimeHours", totalHours);
-            response.put("formattedTime", formatLearningTime(totalSeconds));
-            response.put("totalSessions", totalSessions);
-            response.put("totalCompletedSessions", totalCompletedSessions);
-            response.put("totalQuestions", totalQuestions);
-            response.put("totalCorrectAnswers", totalCorrectAnswers);
-            response.put("overallAccuracyRate", Math.round(overallAccuracyRate * 100.0) / 100.0);
-            response.put("sessionTypeStats", sessionTypeStats);
+            // 세션 타입별 집계 1회 조회로 총 학습 시간/세션/정답률 요약 계산
+            LearningTimeSummary response = learningAnalyticsService.getLearningTimeSummary(userId);
             
             log.info("사용자 총 학습 시간 조회 성공: userId={}, totalSeconds={}, totalSessions={}", 
-                     userId, totalSeconds, totalSessions);
+                     userId, response.totalLearningTimeSeconds(), response.totalSessions());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -471,29 +574,12 @@ public class LearningAnalyticsController {
      * GET /analysis/users/{userId}/monthly-learning-time
      */
     @GetMapping("/users/{userId}/monthly-learning-time")
-    public ResponseEntity<Map<String, Object>> getMonthlyLearningTime(@PathVariable String userId) {
+    public ResponseEntity<MonthlyLearningTimeSummary> getMonthlyLearningTime(@PathVariable String userId) {
         log.info("사용자 월별 학습 시간 통계 조회: userId={}", userId);
         
         try {
-            List<Map<String, Object>> monthlyStats = learningAnalyticsService.getMonthlyLearningTimeStats(userId);
-            
-            // 전체 요약 통계 계산
-            long totalSeconds = monthlyStats.stream()
-                .mapToLong(detail -> (Long) detail.get("timeSpentSeconds"))
-                .sum();
-            
-            double totalMinutes = Math.round((double) totalSeconds / 60.0 * 100.0) / 100.0;
-            double totalHours = Math.round((double) totalSeconds / 3600.0 * 100.0) / 100.0;
-            
-            Map<String, Object> response = Map.of(
-                "userId", userId,
-                "totalMonths", monthlyStats.size(),
-                "totalLearningTimeSeconds", totalSeconds,
-                "totalLearningTimeMinutes", totalMinutes,
-                "totalLearningTimeHours", totalHours,
-                "formattedTotalTime", formatLearningTime(totalSeconds),
-                "monthlyStats", monthlyStats
-            );
+            List<MonthlyLearningTime> monthlyStats = learningAnalyticsService.getMonthlyLearningTimeStats(userId);
+            MonthlyLearningTimeSummary response = learningAnalyticsService.buildMonthlyLearningTimeSummary(userId, monthlyStats);
             
             log.info("사용자 월별 학습 시간 통계 조회 성공: userId={}, monthCount={}", 
                      userId, monthlyStats.size());
@@ -504,28 +590,4 @@ public class LearningAnalyticsController {
             return ResponseEntity.internalServerError().build();
         }
     }
-
-    /**
-     * 학습 시간을 읽기 쉬운 형태로 포맷팅
-     */
-    private String formatLearningTime(long totalSeconds) {
-        if (totalSeconds == 0) {
-            return "0시간 0분 0초";
-        }
-        
-        long hours = totalSeconds / 3600;
-        long minutes = (totalSeconds % 3600) / 60;
-        long seconds = totalSeconds % 60;
-        
-        StringBuilder formatted = new StringBuilder();
-        if (hours > 0) {
-            formatted.append(hours).append("시간 ");
-        }
-        if (minutes > 0 || hours > 0) {
-            formatted.append(minutes).append("분 ");
-        }
-        formatted.append(seconds).append("초");
-        
-        return formatted.toString();
-    }
-}
\ No newline at end of file
+}
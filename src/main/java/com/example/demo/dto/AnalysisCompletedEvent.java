@@ -23,6 +23,12 @@ public class AnalysisCompletedEvent {
     private String eventType = "ANALYSIS_COMPLETED";
 
     private String userId;
+
+    /**
+     * 분석을 일으킨 세션 ID
+     * 다른 인스턴스가 같은 사용자의 전체 분석을 계산 중이었으면 재계산 후 발행되므로 세션 완료보다 늦게 도착할 수 있음
+     * (아래 필드는 항상 최근 30일 전체 분석 기준)
+     */
     private String sessionId;
 
     /** 취약 문제 유형 (정답률 60% 미만): word / sentence / conversation */
@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 기간별 답변 집계 행 (주간/월간 통계 프로젝션)
+ * 기간 내 답변이 없으면 SUM/AVG 결과는 null
+ */
+public record AnswerStatsRow(
+    Long totalQuestions,        // 풀어본 문제 수
+    Long correctAnswers,        // 정답 수
+    Long wrongAnswers,          // 오답 수
+    Double averageTimeSpent     // 평균 풀이 시간 (초)
+) {
+}
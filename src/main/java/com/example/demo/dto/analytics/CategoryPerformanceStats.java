@@ -0,0 +1,20 @@
+package com.example.demo.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리별 성과 DTO (category_performance_view 조회 결과)
+ * 기존 응답과 같은 키를 유지하기 위해 뷰 컬럼명(snake_case)으로 직렬화
+ */
+public record CategoryPerformanceStats(
+    @JsonProperty("major_category") String majorCategory,                           // 대분류
+    @JsonProperty("minor_category") String minorCategory,                           // 소분류
+    @JsonProperty("questions_solved") long questionsSolved,                         // 풀어본 문제 수
+    @JsonProperty("correct_answers") long correctAnswers,                           // 정답 수
+    @JsonProperty("category_proficiency") Double categoryProficiency,               // 숙련도 (정답률, %)
+    @JsonProperty("avg_category_solve_time") Double avgCategorySolveTime,           // 평균 풀이 시간 (초)
+    @JsonProperty("last_category_practice_date") LocalDateTime lastCategoryPracticeDate // 최근 학습일
+) {
+}
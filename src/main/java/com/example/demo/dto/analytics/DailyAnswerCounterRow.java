@@ -0,0 +1,12 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 사용자 일별 답변 단위 카운터 행 (실시간 카운터 채우기용, 답변 ID로 중복 반영 방지)
+ */
+public record DailyAnswerCounterRow(
+    Long answerId,              // 답변 ID
+    String questionType,        // 문제 유형
+    Boolean isCorrect,          // 정답 여부
+    Integer timeSpent           // 풀이 시간 (초)
+) {
+}
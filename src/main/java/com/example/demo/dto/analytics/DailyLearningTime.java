@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 일별 학습 시간 통계 DTO
+ */
+public record DailyLearningTime(
+    String date,                // 학습 일자 (YYYY-MM-DD)
+    long timeSpentSeconds,      // 학습 시간 (초)
+    double timeSpentMinutes,    // 학습 시간 (분, 소수점 2자리)
+    double timeSpentHours,      // 학습 시간 (시간, 소수점 2자리)
+    int questionCount           // 풀어본 문제 수
+) {
+}
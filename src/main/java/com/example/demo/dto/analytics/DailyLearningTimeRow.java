@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 학습 시간 집계 행 (일별 학습 시간 프로젝션)
+ */
+public record DailyLearningTimeRow(
+    LocalDate studyDate,        // 학습 일자
+    Long totalTimeSpent,        // 총 풀이 시간 (초)
+    Long questionCount          // 풀어본 문제 수
+) {
+}
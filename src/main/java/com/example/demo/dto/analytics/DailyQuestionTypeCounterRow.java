@@ -0,0 +1,12 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 사용자 일별 문제 유형별 카운터 집계 행 (실시간 카운터 DB 대체 조회용)
+ */
+public record DailyQuestionTypeCounterRow(
+    String questionType,        // 문제 유형
+    Long questionCount,         // 풀어본 문제 수
+    Long correctCount,          // 정답 수
+    Long timeSpentSeconds       // 학습 시간 합계 (초)
+) {
+}
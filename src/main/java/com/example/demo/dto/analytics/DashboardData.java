@@ -0,0 +1,33 @@
+package com.example.demo.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 통합 데이터 DTO
+ * 대시보드 화면의 섹션별 API 응답을 한 번에 제공하기 위한 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardData {
+
+    private String userId;                                  // 사용자 ID
+    private LocalDateTime generatedAt;                      // 응답 생성 시각
+    private PerformanceCard performanceCard;                // 학습 성과 카드 (/performance-card)
+    private List<WeeklyTrendData> weeklyTrend;              // 주간 학습 추이 (/weekly-trend)
+    private List<DailyActivityData> dailyActivity;          // 일별 학습 활동 (/daily-activity)
+    private List<QuestionTypeChartData> questionTypeAccuracy; // 문제 유형별 성과 (/question-type-accuracy)
+    private LearningTimeSummary totalLearningTime;          // 총 학습 시간 (/total-learning-time)
+    private MonthlyLearningTimeSummary monthlyLearningTime;        // 월별 학습 시간 (/monthly-learning-time)
+    private Map<String, Long> sectionTimings;               // 섹션별 소요 시간 (ms, debug=true일 때만 포함)
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 난이도별 성취도 DTO (difficulty_achievement_view 조회 결과)
+ * 기존 응답과 같은 키를 유지하기 위해 뷰 컬럼명(snake_case)으로 직렬화
+ */
+public record DifficultyAchievement(
+    @JsonProperty("difficulty_level") Integer difficultyLevel,                      // 난이도 (1~3)
+    @JsonProperty("questions_solved") long questionsSolved,                         // 풀어본 문제 수
+    @JsonProperty("correct_answers") long correctAnswers,                           // 정답 수
+    @JsonProperty("difficulty_achievement_rate") Double difficultyAchievementRate,  // 성취도 (정답률, %)
+    @JsonProperty("avg_difficulty_solve_time") Double avgDifficultySolveTime,       // 평균 풀이 시간 (초)
+    @JsonProperty("avg_attempts_per_question") Double avgAttemptsPerQuestion        // 문제당 평균 도전 횟수
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto.analytics;
+
+import java.util.List;
+
+/**
+ * 사용자 총 학습 시간 요약 DTO (/total-learning-time 응답)
+ * 세션 타입별 집계 쿼리 1회 결과에서 합계와 단위 변환을 모두 계산
+ */
+public record LearningTimeSummary(
+    String userId,                                  // 사용자 ID
+    long totalLearningTimeSeconds,                  // 총 학습 시간 (초)
+    double totalLearningTimeMinutes,                // 총 학습 시간 (분, 소수점 2자리)
+    double totalLearningTimeHours,                  // 총 학습 시간 (시간, 소수점 2자리)
+    String formattedTime,                           // 읽기 쉬운 형태 ("1시간 5분 3초")
+    int totalSessions,                              // 전체 세션 수
+    int totalCompletedSessions,                     // 완료된 세션 수
+    int totalQuestions,                             // 풀어본 문제 수
+    int totalCorrectAnswers,                        // 정답 수
+    double overallAccuracyRate,                     // 전체 정답률 (%)
+    List<SessionTypeLearningTime> sessionTypeStats  // 세션 타입별 통계
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto.analytics;
+
+import java.util.List;
+
+/**
+ * 사용자 일별 실시간 학습 카운터 ("오늘" 타일용)
+ */
+public record LiveLearningCounters(
+    String userId,                                  // 사용자 ID
+    String date,                                    // 기준 일자 (YYYY-MM-DD)
+    long questionCount,                             // 풀어본 문제 수
+    long correctCount,                              // 정답 수
+    long timeSpentSeconds,                          // 학습 시간 (초)
+    double accuracyRate,                            // 정답률 (%)
+    List<QuestionTypeLiveCounter> questionTypes,    // 문제 유형별 카운터
+    String source                                   // 조회 출처 (redis, database)
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 월별 답변 집계 행 (최근 N개월 통계 프로젝션)
+ */
+public record MonthlyAnswerStatsRow(
+    Integer year,               // 연도
+    Integer month,              // 월
+    Long totalQuestions,        // 풀어본 문제 수
+    Long correctAnswers,        // 정답 수
+    Long wrongAnswers,          // 오답 수
+    Double averageTimeSpent     // 평균 풀이 시간 (초)
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 월별 학습 시간 통계 DTO (월별 학습 시간 응답의 monthlyStats 항목)
+ */
+public record MonthlyLearningTime(
+    int year,                   // 연도
+    int month,                  // 월
+    String yearMonth,           // 연월 (YYYY-MM)
+    long timeSpentSeconds,      // 학습 시간 (초)
+    double timeSpentMinutes,    // 학습 시간 (분, 소수점 2자리)
+    double timeSpentHours,      // 학습 시간 (시간, 소수점 2자리)
+    int questionCount           // 풀어본 문제 수
+) {
+}
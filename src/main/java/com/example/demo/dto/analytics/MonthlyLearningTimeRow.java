@@ -0,0 +1,12 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 월별 학습 시간 집계 행 (월별 학습 시간 프로젝션)
+ */
+public record MonthlyLearningTimeRow(
+    Integer year,               // 연도
+    Integer month,              // 월
+    Long totalTimeSpent,        // 총 풀이 시간 (초)
+    Long questionCount          // 풀어본 문제 수
+) {
+}
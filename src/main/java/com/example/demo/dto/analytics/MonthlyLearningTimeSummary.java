@@ -0,0 +1,17 @@
+package com.example.demo.dto.analytics;
+
+import java.util.List;
+
+/**
+ * 사용자 월별 학습 시간 요약 DTO (/monthly-learning-time 응답)
+ */
+public record MonthlyLearningTimeSummary(
+    String userId,                              // 사용자 ID
+    int totalMonths,                            // 학습 기록이 있는 월 수
+    long totalLearningTimeSeconds,              // 총 학습 시간 (초)
+    double totalLearningTimeMinutes,            // 총 학습 시간 (분, 소수점 2자리)
+    double totalLearningTimeHours,              // 총 학습 시간 (시간, 소수점 2자리)
+    String formattedTotalTime,                  // 읽기 쉬운 형태 ("1시간 5분 3초")
+    List<MonthlyLearningTime> monthlyStats      // 월별 통계 (최근 월부터)
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 문제별 통계 DTO (question_stats_view 조회 결과)
+ * 기존 응답과 같은 키를 유지하기 위해 뷰 컬럼명(snake_case)으로 직렬화
+ */
+public record QuestionStats(
+    @JsonProperty("question_id") String questionId,                     // 문제 ID
+    @JsonProperty("question_type") String questionType,                 // 문제 유형
+    @JsonProperty("category") String category,                          // 대분류
+    @JsonProperty("difficulty_level") Integer difficultyLevel,          // 난이도 (1~3)
+    @JsonProperty("total_solve_count") long totalSolveCount,            // 전체 풀이 수
+    @JsonProperty("correct_solve_count") long correctSolveCount,        // 정답 풀이 수
+    @JsonProperty("correct_rate") Double correctRate,                   // 정답률 (%)
+    @JsonProperty("avg_solve_time") Double avgSolveTime,                // 평균 풀이 시간 (초)
+    @JsonProperty("distinct_user_count") long distinctUserCount         // 풀어본 사용자 수
+) {
+}
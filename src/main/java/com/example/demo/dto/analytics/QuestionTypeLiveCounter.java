@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 문제 유형별 일별 실시간 카운터
+ */
+public record QuestionTypeLiveCounter(
+    String questionType,        // 문제 유형
+    long questionCount,         // 풀어본 문제 수
+    long correctCount,          // 정답 수
+    long timeSpentSeconds,      // 학습 시간 (초)
+    double accuracyRate         // 정답률 (%)
+) {
+}
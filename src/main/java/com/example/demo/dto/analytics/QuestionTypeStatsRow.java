@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 문제 유형별 답변 집계 행 (문제 유형별 통계 프로젝션)
+ */
+public record QuestionTypeStatsRow(
+    String questionType,        // 문제 유형
+    Long totalQuestions,        // 풀어본 문제 수
+    Long correctAnswers,        // 정답 수
+    Long wrongAnswers,          // 오답 수
+    Double averageTimeSpent     // 평균 풀이 시간 (초)
+) {
+}
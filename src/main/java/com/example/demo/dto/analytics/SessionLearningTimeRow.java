@@ -0,0 +1,18 @@
+package com.example.demo.dto.analytics;
+
+import com.example.demo.entity.LearningSession;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션별 학습 시간 집계 행 (세션별 학습 시간 프로젝션)
+ */
+public record SessionLearningTimeRow(
+    String sessionId,                           // 세션 ID
+    Long totalTimeSpent,                        // 총 풀이 시간 (초)
+    Long questionCount,                         // 풀어본 문제 수
+    LearningSession.SessionType sessionType,    // 세션 타입
+    LocalDateTime startedAt,                    // 세션 시작 시간
+    LocalDateTime completedAt                   // 세션 완료 시간
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 세션 타입별 학습 시간 통계 DTO (총 학습 시간 응답의 sessionTypeStats 항목)
+ */
+public record SessionTypeLearningTime(
+    String sessionType,             // 세션 타입 코드
+    String sessionTypeDisplayName,  // 세션 타입 한글명 ("학습 세션" 등)
+    int totalSessions,              // 전체 세션 수
+    int completedSessions,          // 완료된 세션 수
+    int totalQuestions,             // 풀어본 문제 수
+    int correctAnswers,             // 정답 수
+    double accuracyRate,            // 정답률 (%)
+    long totalTimeSpentSeconds,     // 총 학습 시간 (초)
+    double totalTimeSpentMinutes,   // 총 학습 시간 (분, 소수점 2자리)
+    double totalTimeSpentHours      // 총 학습 시간 (시간, 소수점 2자리)
+) {
+}
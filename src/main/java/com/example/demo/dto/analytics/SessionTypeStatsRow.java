@@ -0,0 +1,15 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 세션 타입별 학습 집계 행 (QuestionAnswerRepository.getSessionTypeStatsByUserId 프로젝션)
+ * SUM 결과는 답변이 없는 세션 타입이면 null일 수 있음
+ */
+public record SessionTypeStatsRow(
+    String sessionType,         // 세션 타입 (PRACTICE, REVIEW, WRONG_ANSWER)
+    Long totalSessions,         // 전체 세션 수
+    Long completedSessions,     // 완료된 세션 수
+    Long totalQuestions,        // 풀어본 문제 수
+    Long correctAnswers,        // 정답 수
+    Long totalTimeSpent         // 총 풀이 시간 (초)
+) {
+}
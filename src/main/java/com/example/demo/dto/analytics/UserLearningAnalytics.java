@@ -0,0 +1,30 @@
+package com.example.demo.dto.analytics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 학습 분석 데이터 DTO (user_learning_analytics_view 조회 결과)
+ * 기존 응답과 같은 키를 유지하기 위해 뷰 컬럼명(snake_case)으로 직렬화
+ */
+public record UserLearningAnalytics(
+    @JsonProperty("total_sessions") long totalSessions,                         // 전체 세션 수
+    @JsonProperty("total_questions_solved") long totalQuestionsSolved,          // 풀어본 문제 수
+    @JsonProperty("total_correct_answers") long totalCorrectAnswers,            // 정답 수
+    @JsonProperty("accuracy_rate") Double accuracyRate,                         // 정답률 (%)
+    @JsonProperty("error_rate") Double errorRate,                               // 오답률 (%)
+    @JsonProperty("avg_solve_time") Double avgSolveTime,                        // 평균 풀이 시간 (초)
+    @JsonProperty("retry_rate") Double retryRate,                               // 문제 재시도율 (%)
+    @JsonProperty("learning_progress_rate") Double learningProgressRate,        // 학습 진도율 (%)
+    @JsonProperty("last_learning_date") LocalDateTime lastLearningDate,         // 최근 학습일
+    @JsonProperty("total_learning_time_minutes") Double totalLearningTimeMinutes // 총 학습 시간 (분)
+) {
+
+    /**
+     * 학습 기록이 없는 사용자용 빈 데이터
+     */
+    public static UserLearningAnalytics empty() {
+        return new UserLearningAnalytics(0L, 0L, 0L, 0.0, 0.0, 0.0, 0.0, 0.0, null, 0.0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.dto.analytics;
+
+/**
+ * 주차별 답변 집계 행 (최근 N주 통계 프로젝션)
+ */
+public record WeeklyAnswerStatsRow(
+    Integer weekNumber,         // 연중 주차 (MySQL WEEK(date, 0))
+    Long totalQuestions,        // 풀어본 문제 수
+    Long correctAnswers,        // 정답 수
+    Long wrongAnswers,          // 오답 수
+    Double averageTimeSpent     // 평균 풀이 시간 (초)
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto.problem;
+
+import java.util.List;
+
+/**
+ * 세션 데이터 일괄 조회 결과 (요청 순서와 같은 순서의 세션별 결과)
+ */
+public record SessionDataBatchResult(
+    List<SessionDataResult> results,    // 세션별 결과
+    int successCount,                   // 성공 수
+    int failureCount                    // 실패 수
+) {
+
+    public static SessionDataBatchResult of(List<SessionDataResult> results) {
+        int successCount = (int) results.stream().filter(SessionDataResult::isSuccess).count();
+        return new SessionDataBatchResult(results, successCount, results.size() - successCount);
+    }
+
+    public List<SessionDataResult> failures() {
+        return results.stream().filter(result -> !result.isSuccess()).toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.dto.problem;
+
+/**
+ * 세션 데이터 일괄 조회 요청 항목
+ */
+public record SessionDataRequest(
+    String sessionId,       // 조회할 세션 ID
+    String userId           // 사용자 ID (보안 검증용)
+) {
+}
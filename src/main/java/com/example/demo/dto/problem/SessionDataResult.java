@@ -0,0 +1,24 @@
+package com.example.demo.dto.problem;
+
+/**
+ * 세션 데이터 일괄 조회의 세션별 결과 (성공 시 data, 실패 시 error)
+ */
+public record SessionDataResult(
+    String sessionId,               // 세션 ID
+    String userId,                  // 사용자 ID
+    SessionDataResponseDto data,    // 세션 데이터 (실패 시 null)
+    String error                    // 실패 사유 (성공 시 null)
+) {
+
+    public static SessionDataResult success(SessionDataRequest request, SessionDataResponseDto data) {
+        return new SessionDataResult(request.sessionId(), request.userId(), data, null);
+    }
+
+    public static SessionDataResult failure(SessionDataRequest request, String error) {
+        return new SessionDataResult(request.sessionId(), request.userId(), null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
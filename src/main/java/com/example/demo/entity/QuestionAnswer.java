@@ -2,6 +2,7 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -16,6 +17,9 @@ public class QuestionAnswer {
     
     @Column(nullable = false)
     private String sessionId; // LearningSession 참조
+
+    @Column(name = "user_id")
+    private String userId; // 사용자 ID (learning_sessions.user_id 비정규화, JOIN 없이 사용자별 조회)
     
     @Column(nullable = false)
     private String questionId; // ProblemService 문제 ID (외래키 없음)
@@ -49,6 +53,9 @@ public class QuestionAnswer {
     @Column(nullable = false)
     private LocalDateTime answeredAt; // 답변 시간
 
+    @Column(name = "answered_date", insertable = false, updatable = false)
+    private LocalDate answeredDate; // 답변 일자 (DB 생성 컬럼: DATE(answered_at))
+
     @Column(nullable = false)
     private Integer solveCount; // 특정 문제 풀이 횟수(집계 자료)
 }
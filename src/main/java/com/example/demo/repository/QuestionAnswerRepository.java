@@ -1,5 +1,15 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.analytics.AnswerStatsRow;
+import com.example.demo.dto.analytics.DailyAnswerCounterRow;
+import com.example.demo.dto.analytics.DailyLearningTimeRow;
+import com.example.demo.dto.analytics.DailyQuestionTypeCounterRow;
+import com.example.demo.dto.analytics.MonthlyAnswerStatsRow;
+import com.example.demo.dto.analytics.MonthlyLearningTimeRow;
+import com.example.demo.dto.analytics.QuestionTypeStatsRow;
+import com.example.demo.dto.analytics.SessionLearningTimeRow;
+import com.example.demo.dto.analytics.SessionTypeStatsRow;
+import com.example.demo.dto.analytics.WeeklyAnswerStatsRow;
 import com.example.demo.entity.QuestionAnswer;
 import com.example.demo.entity.QuestionCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,7 +23,12 @@ import java.util.List;
 /**
  * 문제 답변 Repository
  * 사용자의 문제 답변 기록을 관리
- * userId가 필요한 경우 LearningSession과 JOIN하여 sessionId를 통해 userId를 가져옴
+ * question_answer.user_id(비정규화 컬럼)로 직접 조회하여 LearningSession JOIN을 제거
+ * 인덱스: (user_id, answered_at), (user_id, question_type, answered_at)
+ * user_id 백필 완료가 기록되기 전에는 서비스가 같은 집계의 learning_sessions JOIN 버전(*ViaSession)을 사용
+ * (QuestionAnswerUserIdBackfillStatus)
+ * 집계 쿼리는 JPQL 생성자 표현식으로 dto.analytics의 *Row 레코드에 직접 매핑 (Object[] 캐스팅 없음)
+ * question_answer는 answered_at 기준 월별 RANGE 파티션이므로 answeredAt 범위 조건이 있는 조회는 해당 월 파티션만 스캔
  */
 @Repository
 public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer, Long> {
@@ -38,16 +53,31 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      */
     List<QuestionAnswer> findBySessionIdAndAnsweredAtBetween(@Param("sessionId") String sessionId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * 사용자 ID와 날짜 범위로 답변 기록 조회 (답변 시간 순으로 정렬)
+     * idx_question_answer_user_answered (user_id, answered_at) 범위 스캔
+     */
+    List<QuestionAnswer> findByUserIdAndAnsweredAtBetweenOrderByAnsweredAtAsc(String userId,
+                                                                            LocalDateTime startDate,
+                                                                            LocalDateTime endDate);
+
+    /**
+     * 사용자 ID, 문제 유형, 날짜 범위로 답변 기록 조회 (답변 시간 순으로 정렬)
+     * idx_question_answer_user_type_answered (user_id, question_type, answered_at) 범위 스캔
+     */
+    List<QuestionAnswer> findByUserIdAndQuestionTypeAndAnsweredAtBetweenOrderByAnsweredAtAsc(String userId,
+                                                                                           String questionType,
+                                                                                           LocalDateTime startDate,
+                                                                                           LocalDateTime endDate);
+
     // ===== 고정 주차(월요일~일요일) 기반 메서드들 =====
-    // LearningSession과 JOIN하여 sessionId를 통해 userId를 가져옴
 
     /**
      * 사용자 ID와 주차로 답변 기록 조회 (이번 주)
      * 월요일 00:00:00 ~ 일요일 23:59:59
      */
     @Query("SELECT qa FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfWeek AND qa.answeredAt <= :endOfWeek " +
            "ORDER BY qa.answeredAt ASC")
     List<QuestionAnswer> findByUserIdAndThisWeek(@Param("userId") String userId, 
@@ -59,8 +89,7 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 해당 주의 월요일 00:00:00 ~ 일요일 23:59:59
      */
     @Query("SELECT qa FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfWeek AND qa.answeredAt <= :endOfWeek " +
            "ORDER BY qa.answeredAt ASC")
     List<QuestionAnswer> findByUserIdAndWeekOf(@Param("userId") String userId, 
@@ -72,8 +101,7 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 1일 00:00:00 ~ 말일 23:59:59
      */
     @Query("SELECT qa FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfMonth AND qa.answeredAt <= :endOfMonth " +
            "ORDER BY qa.answeredAt ASC")
     List<QuestionAnswer> findByUserIdAndThisMonth(@Param("userId") String userId, 
@@ -85,8 +113,7 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 해당 월의 1일 00:00:00 ~ 말일 23:59:59
      */
     @Query("SELECT qa FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfMonth AND qa.answeredAt <= :endOfMonth " +
            "ORDER BY qa.answeredAt ASC")
     List<QuestionAnswer> findByUserIdAndMonthOf(@Param("userId") String userId, 
@@ -94,74 +121,75 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
                                                @Param("endOfMonth") LocalDateTime endOfMonth);
 
     // ===== 통계 집계 메서드들 =====
-    // LearningSession과 JOIN하여 sessionId를 통해 userId를 가져옴
 
     /**
      * 사용자 ID와 주차로 주간 통계 조회
      */
-    @Query("SELECT COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent " +
+    @Query("SELECT new com.example.demo.dto.analytics.AnswerStatsRow(" +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfWeek " +
            "AND qa.answeredAt <= :endOfWeek")
-    Object[] getWeeklyStatsByUserId(@Param("userId") String userId, 
-                                   @Param("startOfWeek") LocalDateTime startOfWeek, 
-                                   @Param("endOfWeek") LocalDateTime endOfWeek);
+    AnswerStatsRow getWeeklyStatsByUserId(@Param("userId") String userId, 
+                                          @Param("startOfWeek") LocalDateTime startOfWeek, 
+                                          @Param("endOfWeek") LocalDateTime endOfWeek);
 
     /**
      * 사용자 ID와 월로 월간 통계 조회
      */
-    @Query("SELECT COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent " +
+    @Query("SELECT new com.example.demo.dto.analytics.AnswerStatsRow(" +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startOfMonth " +
            "AND qa.answeredAt <= :endOfMonth")
-    Object[] getMonthlyStatsByUserId(@Param("userId") String userId, 
-                                    @Param("startOfMonth") LocalDateTime startOfMonth, 
-                                    @Param("endOfMonth") LocalDateTime endOfMonth);
+    AnswerStatsRow getMonthlyStatsByUserId(@Param("userId") String userId, 
+                                           @Param("startOfMonth") LocalDateTime startOfMonth, 
+                                           @Param("endOfMonth") LocalDateTime endOfMonth);
 
     /**
      * 사용자 ID로 최근 N주간 통계 조회
+     * 주차는 기존과 같은 MySQL WEEK(date, 0) 기준 (일요일 시작, 첫 일요일 이전은 0주차)
+     * EXTRACT(WEEK)는 ISO 주차(WEEK(date, 3))로 변환되어 연초 주차가 달라지므로 사용하지 않음
      */
-    @Query("SELECT COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent, " +
-           "WEEK(qa.answeredAt) as weekNumber " +
+    @Query("SELECT new com.example.demo.dto.analytics.WeeklyAnswerStatsRow(" +
+           "CAST(FUNCTION('WEEK', qa.answeredAt, 0) AS Integer), " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startDate " +
-           "GROUP BY WEEK(qa.answeredAt) " +
-           "ORDER BY weekNumber DESC")
-    List<Object[]> getRecentWeeksStatsByUserId(@Param("userId") String userId, 
-                                              @Param("startDate") LocalDateTime startDate);
+           "GROUP BY CAST(FUNCTION('WEEK', qa.answeredAt, 0) AS Integer) " +
+           "ORDER BY CAST(FUNCTION('WEEK', qa.answeredAt, 0) AS Integer) DESC")
+    List<WeeklyAnswerStatsRow> getRecentWeeksStatsByUserId(@Param("userId") String userId, 
+                                                           @Param("startDate") LocalDateTime startDate);
 
     /**
      * 사용자 ID로 최근 N개월간 통계 조회
      */
-    @Query("SELECT COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent, " +
-           "YEAR(qa.answeredAt) as year, " +
-           "MONTH(qa.answeredAt) as month " +
+    @Query("SELECT new com.example.demo.dto.analytics.MonthlyAnswerStatsRow(" +
+           "YEAR(qa.answeredAt), " +
+           "MONTH(qa.answeredAt), " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startDate " +
            "GROUP BY YEAR(qa.answeredAt), MONTH(qa.answeredAt) " +
-           "ORDER BY year DESC, month DESC")
-    List<Object[]> getRecentMonthsStatsByUserId(@Param("userId") String userId, 
-                                               @Param("startDate") LocalDateTime startDate);
+           "ORDER BY YEAR(qa.answeredAt) DESC, MONTH(qa.answeredAt) DESC")
+    List<MonthlyAnswerStatsRow> getRecentMonthsStatsByUserId(@Param("userId") String userId, 
+                                                             @Param("startDate") LocalDateTime startDate);
 
     // ===== 문제 유형별 성과 분석 메서드들 =====
     // Question 테이블 없이 question_answer의 questionType 필드 사용
@@ -171,8 +199,7 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 문제 유형별 성과 분석에 사용
      */
     @Query("SELECT qa FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId AND qa.questionType = :questionType " +
+           "WHERE qa.userId = :userId AND qa.questionType = :questionType " +
            "ORDER BY qa.answeredAt ASC")
     List<QuestionAnswer> findByUserIdAndQuestionType(@Param("userId") String userId, 
                                                     @Param("questionType") String questionType);
@@ -191,52 +218,73 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 사용자 ID로 문제 유형별 통계 조회
      * 전체 학습에서 문제 유형별 성과 분석에 사용
      */
-    @Query("SELECT qa.questionType, " +
-           "COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent " +
+    @Query("SELECT new com.example.demo.dto.analytics.QuestionTypeStatsRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
+           "GROUP BY qa.questionType " +
+           "ORDER BY qa.questionType")
+    List<QuestionTypeStatsRow> getQuestionTypeStatsByUserId(@Param("userId") String userId);
+
+    /**
+     * 사용자의 특정 기간(보통 하루) 문제 유형별 카운터 집계
+     * 실시간 카운터(Redis)가 없을 때 DB 대체 조회에 사용
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.DailyQuestionTypeCounterRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "COALESCE(SUM(qa.timeSpent), 0L)) " +
+           "FROM QuestionAnswer qa " +
+           "WHERE qa.userId = :userId " +
+           "AND qa.answeredAt >= :startDateTime " +
+           "AND qa.answeredAt < :endDateTime " +
            "GROUP BY qa.questionType " +
            "ORDER BY qa.questionType")
-    List<Object[]> getQuestionTypeStatsByUserId(@Param("userId") String userId);
+    List<DailyQuestionTypeCounterRow> getQuestionTypeCountersByUserIdAndDateRange(
+            @Param("userId") String userId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
      * 세션 ID로 문제 유형별 통계 조회
      * 특정 세션의 문제 유형별 성과 분석에 사용
      */
-    @Query("SELECT qa.questionType, " +
-           "COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent " +
+    @Query("SELECT new com.example.demo.dto.analytics.QuestionTypeStatsRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
            "WHERE qa.sessionId = :sessionId " +
            "GROUP BY qa.questionType " +
            "ORDER BY qa.questionType")
-    List<Object[]> getQuestionTypeStatsBySessionId(@Param("sessionId") String sessionId);
+    List<QuestionTypeStatsRow> getQuestionTypeStatsBySessionId(@Param("sessionId") String sessionId);
 
     /**
      * 사용자 ID와 날짜 범위로 문제 유형별 통계 조회
      * 특정 기간의 문제 유형별 성과 분석에 사용
      */
-    @Query("SELECT qa.questionType, " +
-           "COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(CASE WHEN qa.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswers, " +
-           "AVG(qa.timeSpent) as averageTimeSpent " +
+    @Query("SELECT new com.example.demo.dto.analytics.QuestionTypeStatsRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.answeredAt >= :startDate " +
            "AND qa.answeredAt <= :endDate " +
            "GROUP BY qa.questionType " +
            "ORDER BY qa.questionType")
-    List<Object[]> getQuestionTypeStatsByUserIdAndDateRange(@Param("userId") String userId, 
-                                                           @Param("startDate") LocalDateTime startDate, 
-                                                           @Param("endDate") LocalDateTime endDate);
+    List<QuestionTypeStatsRow> getQuestionTypeStatsByUserIdAndDateRange(@Param("userId") String userId, 
+                                                                       @Param("startDate") LocalDateTime startDate, 
+                                                                       @Param("endDate") LocalDateTime endDate);
 
     // ===== 학습 시간 통계를 위한 최적화된 쿼리 메서드들 =====
 
@@ -245,17 +293,22 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 모든 세션의 timeSpent 합계를 한 번의 쿼리로 조회
      */
     @Query("SELECT COALESCE(SUM(qa.timeSpent), 0) FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId AND qa.timeSpent IS NOT NULL")
+           "WHERE qa.userId = :userId AND qa.timeSpent IS NOT NULL")
     Long getTotalLearningTimeByUserId(@Param("userId") String userId);
 
+    /**
+     * 사용자의 마지막 답변 시각 (user_learning_analytics_view.last_learning_date와 같은 기준)
+     * idx_question_answer_user_answered (user_id, answered_at) 인덱스 끝 한 건만 읽음
+     */
+    @Query("SELECT MAX(qa.answeredAt) FROM QuestionAnswer qa WHERE qa.userId = :userId")
+    LocalDateTime findLastAnsweredAtByUserId(@Param("userId") String userId);
+
     /**
      * 사용자 ID와 날짜 범위로 총 학습 시간 조회 (초 단위)
      * 특정 기간의 timeSpent 합계를 한 번의 쿼리로 조회
      */
     @Query("SELECT COALESCE(SUM(qa.timeSpent), 0) FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.timeSpent IS NOT NULL " +
            "AND qa.answeredAt >= :startDate " +
            "AND qa.answeredAt <= :endDate")
@@ -267,65 +320,215 @@ public interface QuestionAnswerRepository extends JpaRepository<QuestionAnswer,
      * 사용자 ID로 일별 학습 시간 집계 조회
      * 일별로 timeSpent 합계를 그룹화하여 조회
      */
-    @Query("SELECT DATE(qa.answeredAt) as studyDate, " +
-           "COALESCE(SUM(qa.timeSpent), 0) as totalTimeSpent, " +
-           "COUNT(qa) as questionCount " +
+    @Query("SELECT new com.example.demo.dto.analytics.DailyLearningTimeRow(" +
+           "qa.answeredDate, " +
+           "COALESCE(SUM(qa.timeSpent), 0L), " +
+           "COUNT(qa)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.timeSpent IS NOT NULL " +
-           "GROUP BY DATE(qa.answeredAt) " +
-           "ORDER BY studyDate DESC")
-    List<Object[]> getDailyLearningTimeByUserId(@Param("userId") String userId);
+           "GROUP BY qa.answeredDate " +
+           "ORDER BY qa.answeredDate DESC")
+    List<DailyLearningTimeRow> getDailyLearningTimeByUserId(@Param("userId") String userId);
 
     /**
      * 사용자 ID로 세션별 학습 시간 집계 조회
      * 세션별로 timeSpent 합계를 그룹화하여 조회
+     * 필터는 qa.userId 인덱스로 처리하고, 세션 속성은 PK 조인으로만 가져옴
      */
-    @Query("SELECT qa.sessionId, " +
-           "COALESCE(SUM(qa.timeSpent), 0) as totalTimeSpent, " +
-           "COUNT(qa) as questionCount, " +
+    @Query("SELECT new com.example.demo.dto.analytics.SessionLearningTimeRow(" +
+           "qa.sessionId, " +
+           "COALESCE(SUM(qa.timeSpent), 0L), " +
+           "COUNT(qa), " +
            "ls.sessionType, " +
            "ls.startedAt, " +
-           "ls.completedAt " +
+           "ls.completedAt) " +
            "FROM QuestionAnswer qa " +
            "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.timeSpent IS NOT NULL " +
            "GROUP BY qa.sessionId, ls.sessionType, ls.startedAt, ls.completedAt " +
            "ORDER BY ls.startedAt DESC")
-    List<Object[]> getSessionLearningTimeByUserId(@Param("userId") String userId);
+    List<SessionLearningTimeRow> getSessionLearningTimeByUserId(@Param("userId") String userId);
 
     /**
      * 사용자 ID로 월별 학습 시간 집계 조회
      * 월별로 timeSpent 합계를 그룹화하여 조회
      */
-    @Query("SELECT YEAR(qa.answeredAt) as studyYear, " +
-           "MONTH(qa.answeredAt) as studyMonth, " +
-           "COALESCE(SUM(qa.timeSpent), 0) as totalTimeSpent, " +
-           "COUNT(qa) as questionCount " +
+    @Query("SELECT new com.example.demo.dto.analytics.MonthlyLearningTimeRow(" +
+           "YEAR(qa.answeredAt), " +
+           "MONTH(qa.answeredAt), " +
+           "COALESCE(SUM(qa.timeSpent), 0L), " +
+           "COUNT(qa)) " +
            "FROM QuestionAnswer qa " +
-           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
-           "WHERE ls.userId = :userId " +
+           "WHERE qa.userId = :userId " +
            "AND qa.timeSpent IS NOT NULL " +
            "GROUP BY YEAR(qa.answeredAt), MONTH(qa.answeredAt) " +
-           "ORDER BY studyYear DESC, studyMonth DESC")
-    List<Object[]> getMonthlyLearningTimeByUserId(@Param("userId") String userId);
+           "ORDER BY YEAR(qa.answeredAt) DESC, MONTH(qa.answeredAt) DESC")
+    List<MonthlyLearningTimeRow> getMonthlyLearningTimeByUserId(@Param("userId") String userId);
 
     /**
      * 사용자 ID로 세션 타입별 통계 조회
-     * 세션 타입별로 정답률, 완료된 세션 수, 총 문제 수 등을 집계
-     */
-    @Query("SELECT CAST(ls.sessionType AS string), " +
-           "COUNT(DISTINCT ls.sessionId) as totalSessions, " +
-           "COUNT(CASE WHEN ls.status = 'COMPLETED' THEN 1 END) as completedSessions, " +
-           "COUNT(qa) as totalQuestions, " +
-           "SUM(CASE WHEN qa.isCorrect = true THEN 1 ELSE 0 END) as correctAnswers, " +
-           "SUM(qa.timeSpent) as totalTimeSpent " +
+     * 세션 타입별로 정답률, 완료된 세션 수, 총 문제 수, 총 풀이 시간을 집계 (총 학습 시간 요약의 유일한 조회)
+     * 답변이 없는 세션도 집계해야 하므로 learning_sessions 기준 LEFT JOIN 유지 (idx_learning_sessions_user)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.SessionTypeStatsRow(" +
+           "CAST(ls.sessionType AS string), " +
+           "COUNT(DISTINCT ls.sessionId), " +
+           "COUNT(DISTINCT CASE WHEN ls.status = 'COMPLETED' THEN ls.sessionId END), " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(qa.timeSpent)) " +
            "FROM LearningSession ls " +
            "LEFT JOIN QuestionAnswer qa ON ls.sessionId = qa.sessionId " +
            "WHERE ls.userId = :userId " +
            "GROUP BY ls.sessionType " +
            "ORDER BY ls.sessionType")
-    List<Object[]> getSessionTypeStatsByUserId(@Param("userId") String userId);
+    List<SessionTypeStatsRow> getSessionTypeStatsByUserId(@Param("userId") String userId);
+
+    // ===== user_id 백필 완료 전 조회 (learning_sessions JOIN) =====
+    // user_id가 비어 있는 기존 행도 포함되도록 세션의 userId로 필터, 집계 형태는 위의 user_id 버전과 동일
+
+    /**
+     * 사용자 ID와 날짜 범위로 답변 기록 조회 (findByUserIdAndAnsweredAtBetweenOrderByAnsweredAtAsc의 JOIN 버전)
+     */
+    @Query("SELECT qa FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.answeredAt >= :startDate AND qa.answeredAt <= :endDate " +
+           "ORDER BY qa.answeredAt ASC")
+    List<QuestionAnswer> findByUserIdAndAnsweredAtBetweenViaSession(@Param("userId") String userId,
+                                                                    @Param("startDate") LocalDateTime startDate,
+                                                                    @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 사용자 ID, 문제 유형, 날짜 범위로 답변 기록 조회
+     * (findByUserIdAndQuestionTypeAndAnsweredAtBetweenOrderByAnsweredAtAsc의 JOIN 버전)
+     */
+    @Query("SELECT qa FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId AND qa.questionType = :questionType " +
+           "AND qa.answeredAt >= :startDate AND qa.answeredAt <= :endDate " +
+           "ORDER BY qa.answeredAt ASC")
+    List<QuestionAnswer> findByUserIdAndQuestionTypeAndAnsweredAtBetweenViaSession(@Param("userId") String userId,
+                                                                                   @Param("questionType") String questionType,
+                                                                                   @Param("startDate") LocalDateTime startDate,
+                                                                                   @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 사용자의 특정 기간(보통 하루) 답변 단위 카운터 (실시간 카운터 채우기용)
+     * 답변 ID를 함께 넘겨 수집 시 증가분과 중복 반영되지 않도록 함
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.DailyAnswerCounterRow(" +
+           "qa.id, qa.questionType, qa.isCorrect, qa.timeSpent) " +
+           "FROM QuestionAnswer qa " +
+           "WHERE qa.userId = :userId " +
+           "AND qa.answeredAt >= :startDateTime " +
+           "AND qa.answeredAt < :endDateTime")
+    List<DailyAnswerCounterRow> findAnswerCountersByUserIdAndDateRange(
+            @Param("userId") String userId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 사용자의 특정 기간 답변 단위 카운터 (findAnswerCountersByUserIdAndDateRange의 JOIN 버전)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.DailyAnswerCounterRow(" +
+           "qa.id, qa.questionType, qa.isCorrect, qa.timeSpent) " +
+           "FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.answeredAt >= :startDateTime " +
+           "AND qa.answeredAt < :endDateTime")
+    List<DailyAnswerCounterRow> findAnswerCountersByUserIdAndDateRangeViaSession(
+            @Param("userId") String userId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 사용자의 특정 기간 문제 유형별 카운터 집계 (getQuestionTypeCountersByUserIdAndDateRange의 JOIN 버전)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.DailyQuestionTypeCounterRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "COALESCE(SUM(qa.timeSpent), 0L)) " +
+           "FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.answeredAt >= :startDateTime " +
+           "AND qa.answeredAt < :endDateTime " +
+           "GROUP BY qa.questionType " +
+           "ORDER BY qa.questionType")
+    List<DailyQuestionTypeCounterRow> getQuestionTypeCountersByUserIdAndDateRangeViaSession(
+            @Param("userId") String userId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 사용자 ID와 날짜 범위로 문제 유형별 통계 조회 (getQuestionTypeStatsByUserIdAndDateRange의 JOIN 버전)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.QuestionTypeStatsRow(" +
+           "qa.questionType, " +
+           "COUNT(qa), " +
+           "SUM(CASE WHEN qa.isCorrect = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN qa.isCorrect = false THEN 1L ELSE 0L END), " +
+           "AVG(qa.timeSpent)) " +
+           "FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.answeredAt >= :startDate " +
+           "AND qa.answeredAt <= :endDate " +
+           "GROUP BY qa.questionType " +
+           "ORDER BY qa.questionType")
+    List<QuestionTypeStatsRow> getQuestionTypeStatsByUserIdAndDateRangeViaSession(@Param("userId") String userId,
+                                                                                 @Param("startDate") LocalDateTime startDate,
+                                                                                 @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 사용자 ID로 총 학습 시간 조회 (getTotalLearningTimeByUserId의 JOIN 버전)
+     */
+    @Query("SELECT COALESCE(SUM(qa.timeSpent), 0) FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId AND qa.timeSpent IS NOT NULL")
+    Long getTotalLearningTimeByUserIdViaSession(@Param("userId") String userId);
+
+    /**
+     * 사용자의 마지막 답변 시각 (findLastAnsweredAtByUserId의 JOIN 버전)
+     */
+    @Query("SELECT MAX(qa.answeredAt) FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId")
+    LocalDateTime findLastAnsweredAtByUserIdViaSession(@Param("userId") String userId);
+
+    /**
+     * 사용자 ID로 일별 학습 시간 집계 조회 (getDailyLearningTimeByUserId의 JOIN 버전)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.DailyLearningTimeRow(" +
+           "qa.answeredDate, " +
+           "COALESCE(SUM(qa.timeSpent), 0L), " +
+           "COUNT(qa)) " +
+           "FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.timeSpent IS NOT NULL " +
+           "GROUP BY qa.answeredDate " +
+           "ORDER BY qa.answeredDate DESC")
+    List<DailyLearningTimeRow> getDailyLearningTimeByUserIdViaSession(@Param("userId") String userId);
+
+    /**
+     * 사용자 ID로 월별 학습 시간 집계 조회 (getMonthlyLearningTimeByUserId의 JOIN 버전)
+     */
+    @Query("SELECT new com.example.demo.dto.analytics.MonthlyLearningTimeRow(" +
+           "YEAR(qa.answeredAt), " +
+           "MONTH(qa.answeredAt), " +
+           "COALESCE(SUM(qa.timeSpent), 0L), " +
+           "COUNT(qa)) " +
+           "FROM QuestionAnswer qa " +
+           "JOIN LearningSession ls ON qa.sessionId = ls.sessionId " +
+           "WHERE ls.userId = :userId " +
+           "AND qa.timeSpent IS NOT NULL " +
+           "GROUP BY YEAR(qa.answeredAt), MONTH(qa.answeredAt) " +
+           "ORDER BY YEAR(qa.answeredAt) DESC, MONTH(qa.answeredAt) DESC")
+    List<MonthlyLearningTimeRow> getMonthlyLearningTimeByUserIdViaSession(@Param("userId") String userId);
 }
@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분석 결과 쓰기 펜싱 (analysis_write_fence)
+ * - 분산 락의 펜싱 토큰을 (사용자, 분석 유형)별 최대값과 비교하여 더 작은 토큰의 쓰기는 거절
+ * - lease를 잃은 이전 락 소유자가 새 소유자보다 늦게 저장하여 최신 분석을 덮는 경우를 막음
+ * - 저장 트랜잭션 안에서 호출: 행 잠금이 커밋까지 유지되므로 같은 사용자의 동시 저장은 토큰 순서대로 판정됨
+ */
+@Slf4j
+@Service
+public class AnalysisWriteFenceService {
+
+    private static final String ADVANCE_SQL = """
+        INSERT INTO analysis_write_fence (user_id, analysis_type, fencing_token, updated_at) VALUES (?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            updated_at = IF(VALUES(fencing_token) > fencing_token, NOW(6), updated_at),
+            fencing_token = GREATEST(fencing_token, VALUES(fencing_token))
+        """;
+
+    private static final String CURRENT_SQL =
+        "SELECT fencing_token FROM analysis_write_fence WHERE user_id = ? AND analysis_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalysisWriteFenceService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 펜싱 토큰 기록 후 쓰기 허용 여부 반환
+     *
+     * @return 기록된 최대 토큰이 이 토큰이면 true, 더 큰 토큰이 이미 기록되었으면 false
+     */
+    public boolean tryAdvance(String userId, String analysisType, long fencingToken) {
+        jdbcTemplate.update(ADVANCE_SQL, userId, analysisType, fencingToken);
+        Long current = jdbcTemplate.queryForObject(CURRENT_SQL, Long.class, userId, analysisType);
+        boolean accepted = current != null && current == fencingToken;
+        if (!accepted) {
+            log.warn("펜싱 토큰이 오래되어 분석 결과 쓰기 거절: userId={}, analysisType={}, token={}, current={}",
+                userId, analysisType, fencingToken, current);
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.service;
+
+import com.example.demo.config.AnalyticsCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 분석 캐시 제거
+ * 수집 트랜잭션이 커밋된 뒤에만 해당 사용자의 분석 캐시 항목을 제거하여
+ * 커밋 전 데이터로 캐시가 다시 채워지거나 롤백된 데이터 때문에 캐시가 비워지는 일이 없도록 함
+ * 캐시가 구성되지 않은 환경(Redis 미사용)에서는 아무 동작도 하지 않음
+ * 복제본 라우팅 사용 시에는 커밋 직후 제거 사이에 다른 파드가 아직 복제되지 않은 복제본을 읽어 캐시를 다시 채울 수 있으므로,
+ * 복제 지연 허용치(max-lag-ms, 이를 넘으면 조회가 primary로 감) + 여유 시간 뒤에 한 번 더 제거
+ */
+@Slf4j
+@Component
+public class AnalyticsCacheEvictor {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final Counter evictionCounter;
+    private final Counter delayedEvictionCounter;
+    private final ScheduledExecutorService delayedEvictor;
+    private final long delayedEvictMillis;
+
+    public AnalyticsCacheEvictor(ObjectProvider<CacheManager> cacheManagerProvider,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${learning.datasource.routing.enabled:false}") boolean replicaRoutingEnabled,
+                                 @Value("${learning.datasource.routing.max-lag-ms:10000}") long maxLagMillis,
+                                 @Value("${learning.cache.analytics.delayed-evict-grace-ms:5000}") long graceMillis) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.evictionCounter = Counter.builder("learning.cache.analytics.user-evictions")
+            .description("수집 커밋 후 사용자 분석 캐시 제거 횟수")
+            .register(meterRegistry);
+        this.delayedEvictionCounter = Counter.builder("learning.cache.analytics.user-delayed-evictions")
+            .description("복제 지연 허용치 경과 후 사용자 분석 캐시 재제거 횟수")
+            .register(meterRegistry);
+        // 복제본이 없으면 커밋 후 조회는 항상 최신 데이터이므로 재제거하지 않음
+        this.delayedEvictMillis = replicaRoutingEnabled ? maxLagMillis + graceMillis : 0L;
+        this.delayedEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analytics-cache-delayed-evict");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 사용자 캐시 제거 (트랜잭션 밖에서는 즉시 제거)
+     */
+    public void evictUserAfterCommit(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser(userId);
+                    scheduleDelayedEviction(userId);
+                }
+            });
+        } else {
+            evictUser(userId);
+            scheduleDelayedEviction(userId);
+        }
+    }
+
+    /**
+     * 복제 지연 허용치 경과 후 재제거 예약
+     * 그 사이 복제본에서 읽은 이전 데이터로 채워진 항목을 제거 (파드가 먼저 종료되면 TTL 만료까지 남을 수 있음)
+     */
+    private void scheduleDelayedEviction(String userId) {
+        if (delayedEvictMillis <= 0 || cacheManagerProvider.getIfAvailable() == null) {
+            return;
+        }
+        try {
+            delayedEvictor.schedule(() -> {
+                evictUser(userId);
+                delayedEvictionCounter.increment();
+            }, delayedEvictMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("사용자 분석 캐시 재제거 예약 실패 (종료 중): userId={}", userId);
+        }
+    }
+
+    public void evictUser(String userId) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+        try {
+            for (String cacheName : AnalyticsCacheConfig.USER_KEYED_CACHES) {
+                evict(cacheManager, cacheName, userId);
+            }
+            for (String analysisType : AnalyticsCacheConfig.STORED_PATTERN_TYPES) {
+                evict(cacheManager, AnalyticsCacheConfig.STORED_PATTERN, userId + ":" + analysisType);
+            }
+            evictionCounter.increment();
+            log.debug("사용자 분석 캐시 제거: userId={}", userId);
+        } catch (Exception e) {
+            // 캐시 제거 실패는 TTL 만료까지 이전 값이 보일 뿐이므로 수집 처리에는 영향을 주지 않음
+            log.error("사용자 분석 캐시 제거 실패: userId={}", userId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        delayedEvictor.shutdownNow();
+    }
+
+    private void evict(CacheManager cacheManager, String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 답변 이력 스트리밍 내보내기 서비스 (고객 지원, 오프라인 모델 학습용)
+ * - 엔티티/리스트로 적재하지 않고 forward-only 커서에서 읽은 행을 바로 응답 스트림에 기록
+ * - MySQL Connector/J는 fetchSize=Integer.MIN_VALUE일 때 행 단위로 스트리밍하므로 답변 수와 무관하게 힙 사용량 일정
+ * - 클라이언트 연결이 끊기면(쓰기 실패) 쿼리를 취소하고 즉시 중단
+ * - 내보내기 하나가 커넥션을 오래 점유하므로 동시 실행 수를 제한
+ */
+@Slf4j
+@Service
+public class AnswerExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String[] COLUMNS = {
+        "id", "session_id", "user_id", "question_id", "session_type", "question_type",
+        "major_category", "minor_category", "difficulty_level", "user_answer", "is_correct",
+        "time_spent", "answered_at", "solve_count"
+    };
+
+    private static final String EXPORT_SQL =
+        "SELECT " + String.join(", ", COLUMNS) + " FROM question_answer " +
+        "WHERE user_id = ? AND answered_at >= ? AND answered_at < ? " +
+        "ORDER BY answered_at, id";
+
+    /**
+     * user_id 백필 완료가 기록되기 전에는 user_id가 비어 있는 기존 행도 포함되도록 learning_sessions JOIN으로 조회
+     */
+    private static final String EXPORT_VIA_SESSION_SQL =
+        "SELECT " + Arrays.stream(COLUMNS)
+            .map(column -> column.equals("user_id") ? "ls.user_id" : "qa." + column)
+            .collect(Collectors.joining(", ")) + " " +
+        "FROM question_answer qa JOIN learning_sessions ls ON qa.session_id = ls.session_id " +
+        "WHERE ls.user_id = ? AND qa.answered_at >= ? AND qa.answered_at < ? " +
+        "ORDER BY qa.answered_at, qa.id";
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Semaphore exportPermits;
+    private final QuestionAnswerUserIdBackfillStatus userIdBackfillStatus;
+
+    public AnswerExportService(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               QuestionAnswerUserIdBackfillStatus userIdBackfillStatus,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${learning.export.max-concurrent:2}") int maxConcurrentExports) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.userIdBackfillStatus = userIdBackfillStatus;
+    }
+
+    /**
+     * 내보내기 실행 권한 획득 (동시 실행 수 초과 시 false)
+     * 획득한 경우 export 완료 또는 요청 종료 시 반드시 한 번만 releasePermit 호출
+     */
+    public boolean tryAcquirePermit() {
+        return exportPermits.tryAcquire();
+    }
+
+    public void releasePermit() {
+        exportPermits.release();
+    }
+
+    /**
+     * 사용자의 답변 이력을 answered_at 순으로 스트리밍 기록
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @return 기록한 행 수
+     * @throws IOException 클라이언트 연결 종료 등 응답 쓰기 실패
+     */
+    public long export(String userId, LocalDateTime from, LocalDateTime to, Format format, boolean gzip,
+                       OutputStream outputStream) throws IOException {
+        long startTime = System.currentTimeMillis();
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(gzipStream != null ? gzipStream : outputStream, StandardCharsets.UTF_8),
+            WRITE_BUFFER_SIZE);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        String sql = userIdBackfillStatus.isCompleted() ? EXPORT_SQL : EXPORT_VIA_SESSION_SQL;
+
+        try {
+            // 읽기 전용 트랜잭션 (복제본 라우팅 활성화 시 replica에서 조회)
+            Long rowCount = readOnlyTransactionTemplate.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<Long>) connection -> streamRows(connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY), userId, from, to, rowWriter)));
+
+            rowWriter.finish();
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+            outputStream.flush();
+
+            log.info("답변 이력 내보내기 완료: userId={}, format={}, gzip={}, rows={}, 소요시간={}ms",
+                userId, format, gzip, rowCount, System.currentTimeMillis() - startTime);
+            return rowCount != null ? rowCount : 0L;
+
+        } catch (UncheckedIOException e) {
+            log.warn("답변 이력 내보내기 중단 (클라이언트 연결 종료): userId={}, 소요시간={}ms",
+                userId, System.currentTimeMillis() - startTime);
+            throw e.getCause();
+        }
+    }
+
+    private long streamRows(PreparedStatement statement, String userId, LocalDateTime from, LocalDateTime to,
+                            RowWriter rowWriter) throws SQLException {
+        try (statement) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setString(1, userId);
+            statement.setTimestamp(2, Timestamp.valueOf(from));
+            statement.setTimestamp(3, Timestamp.valueOf(to));
+
+            long rowCount = 0L;
+            try (ResultSet rs = statement.executeQuery()) {
+                rowWriter.start();
+                while (rs.next()) {
+                    try {
+                        rowWriter.write(rs);
+                    } catch (IOException e) {
+                        // 스트리밍 결과는 닫을 때 남은 행을 모두 읽으므로 먼저 쿼리를 취소
+                        cancelQuietly(statement);
+                        throw new UncheckedIOException(e);
+                    }
+                    rowCount++;
+                }
+            } catch (IOException e) {
+                cancelQuietly(statement);
+                throw new UncheckedIOException(e);
+            }
+            return rowCount;
+        }
+    }
+
+    private void cancelQuietly(PreparedStatement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.debug("내보내기 쿼리 취소 실패: {}", e.getMessage());
+        }
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (키는 컬럼명 그대로)
+     */
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("session_id", rs.getString("session_id"));
+            generator.writeStringField("user_id", rs.getString("user_id"));
+            generator.writeStringField("question_id", rs.getString("question_id"));
+            generator.writeStringField("session_type", rs.getString("session_type"));
+            generator.writeStringField("question_type", rs.getString("question_type"));
+            generator.writeStringField("major_category", rs.getString("major_category"));
+            generator.writeStringField("minor_category", rs.getString("minor_category"));
+            writeNullableInt("difficulty_level", rs);
+            generator.writeStringField("user_answer", rs.getString("user_answer"));
+            generator.writeBooleanField("is_correct", rs.getBoolean("is_correct"));
+            writeNullableInt("time_spent", rs);
+            Timestamp answeredAt = rs.getTimestamp("answered_at");
+            generator.writeStringField("answered_at", answeredAt != null ? answeredAt.toLocalDateTime().toString() : null);
+            generator.writeNumberField("solve_count", rs.getInt("solve_count"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNullableInt(String column, ResultSet rs) throws IOException, SQLException {
+            int value = rs.getInt(column);
+            if (rs.wasNull()) {
+                generator.writeNullField(column);
+            } else {
+                generator.writeNumberField(column, value);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (generator != null) {
+                generator.flush();
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV (헤더 포함, 쉼표/따옴표/줄바꿈이 있는 값만 따옴표 처리)
+     */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = "is_correct".equals(COLUMNS[i])
+                    ? String.valueOf(rs.getBoolean(i + 1))
+                    : "answered_at".equals(COLUMNS[i]) ? formatTimestamp(rs.getTimestamp(i + 1)) : rs.getString(i + 1);
+                writeValue(value);
+            }
+            writer.write("\r\n");
+        }
+
+        private String formatTimestamp(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+        }
+
+        private void writeValue(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!needsQuote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 캐시 저장소 추상화 (RedisCacheService가 키 구조/TTL 정책을 정하고 저장은 이 인터페이스에 위임)
+ * - RedisCacheBackend: spring.data.redis.host가 설정된 경우, 여러 파드가 공유하는 Redis(L1 near cache 포함)
+ * - InMemoryCacheBackend: Redis가 없는 단일 노드/로컬 실행용, 개수 제한이 있는 프로세스 내 캐시
+ * 두 구현 모두 키마다 TTL을 가지며, 만료된 키는 조회/스캔 결과에 나타나지 않음
+ */
+public interface CacheBackend {
+
+    /**
+     * 값 조회 (없거나 만료되었거나 해석할 수 없으면 null)
+     *
+     * @param type 저장된 값의 타입 (Redis 구현은 이 타입으로 역직렬화)
+     */
+    Object get(String key, JavaType type);
+
+    /**
+     * 여러 키 일괄 조회 (keys와 같은 순서, 없는 키는 null)
+     */
+    List<Object> multiGet(List<String> keys, JavaType type);
+
+    /**
+     * 값 저장 (같은 키가 있으면 값과 TTL 모두 교체)
+     */
+    void set(String key, Object value, Duration ttl);
+
+    /**
+     * 키 삭제
+     *
+     * @return 실제로 삭제된 키 수
+     */
+    long delete(List<String> keys);
+
+    /**
+     * glob 패턴(*, ?, [...])에 맞는 키를 batchSize개씩 전달
+     * 순회 중 추가/삭제된 키는 포함되지 않을 수 있고, 같은 키가 두 번 전달될 수 있음
+     */
+    void scan(String pattern, int batchSize, Consumer<List<String>> batchConsumer);
+
+    /**
+     * 남은 TTL (키가 없거나 만료 시간이 없으면 empty)
+     */
+    Optional<Duration> getTtl(String key);
+
+    /**
+     * TTL 변경
+     *
+     * @return 키가 있어 TTL을 변경했으면 true
+     */
+    boolean expire(String key, Duration ttl);
+}
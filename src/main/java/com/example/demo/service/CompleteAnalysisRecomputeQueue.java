@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 전체 분석(COMPLETE_ANALYSIS) 재계산 대기열 (Redis Set, 원소: "userId|sessionId")
+ * - 세션 처리 중 다른 인스턴스가 같은 사용자의 전체 분석 락을 가지고 있으면 기다리지 않고 (사용자, 세션)을 등록
+ *   (등록은 세션 데이터 커밋 후에 하므로 재계산은 항상 해당 세션의 답변을 포함)
+ * - 해당 세션의 분석 완료 이벤트는 재계산 후 그 세션 ID로 발행 (이벤트 내용은 항상 전체 분석 기준)
+ * - 주기적으로 SPOP으로 꺼내 사용자별로 묶어 한 번 재계산하고, 락이 아직 잡혀 있거나 실패하면 다시 등록
+ * - SPOP 후 재계산 전에 파드가 종료되면 해당 사용자는 다음 세션 완료 시 다시 계산됨 (꺼낸 세션의 이벤트는 발행되지 않음)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class CompleteAnalysisRecomputeQueue {
+
+    private static final String RECOMPUTE_TYPE = "complete-analysis";
+    private static final char MEMBER_SEPARATOR = '|';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LearningSessionEventListener learningSessionEventListener;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public CompleteAnalysisRecomputeQueue(StringRedisTemplate stringRedisTemplate,
+                                          LearningSessionEventListener learningSessionEventListener,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${learning.analysis.complete-recompute.batch-size:20}") int batchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.learningSessionEventListener = learningSessionEventListener;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 재계산 대기열에 (사용자, 세션) 등록 (트랜잭션 밖에서는 즉시 등록)
+     */
+    public void enqueueAfterCommit(String userId, String sessionId) {
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        String member = userId + MEMBER_SEPARATOR + sessionId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(List.of(member));
+                }
+            });
+        } else {
+            enqueue(List.of(member));
+        }
+    }
+
+    private void enqueue(Collection<String> members) {
+        try {
+            stringRedisTemplate.opsForSet().add(RedisCacheConfig.CacheKeyBuilder.recomputeKey(RECOMPUTE_TYPE),
+                members.toArray(String[]::new));
+            record("enqueued");
+        } catch (Exception e) {
+            // 등록 실패 시 해당 사용자의 전체 분석은 다음 세션 완료 시 갱신됨
+            log.error("전체 분석 재계산 등록 실패: members={}", members, e);
+            record("error");
+        }
+    }
+
+    /**
+     * 대기 중인 원소를 batchSize만큼 꺼내 사용자별로 한 번씩 재계산
+     */
+    @Scheduled(fixedDelayString = "${learning.analysis.complete-recompute.interval-ms:2000}")
+    public void drain() {
+        List<String> members;
+        try {
+            members = stringRedisTemplate.opsForSet().pop(RedisCacheConfig.CacheKeyBuilder.recomputeKey(RECOMPUTE_TYPE), batchSize);
+        } catch (Exception e) {
+            log.error("전체 분석 재계산 대기열 조회 실패", e);
+            return;
+        }
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<String>> membersByUser = new LinkedHashMap<>();
+        for (String member : members) {
+            membersByUser.computeIfAbsent(userIdOf(member), k -> new ArrayList<>()).add(member);
+        }
+
+        membersByUser.forEach((userId, userMembers) -> {
+            List<String> sessionIds = userMembers.stream()
+                .map(this::sessionIdOf)
+                .filter(Objects::nonNull)
+                .toList();
+            try {
+                if (learningSessionEventListener.recomputeCompleteAnalysis(userId, sessionIds)) {
+                    record("recomputed");
+                } else {
+                    // 다른 인스턴스가 아직 계산 중이면 다음 주기에 다시 시도
+                    enqueue(userMembers);
+                    record("busy");
+                }
+            } catch (Exception e) {
+                log.error("전체 분석 재계산 실패, 다시 등록: userId={}", userId, e);
+                enqueue(userMembers);
+                record("error");
+            }
+        });
+    }
+
+    private String userIdOf(String member) {
+        int separator = member.lastIndexOf(MEMBER_SEPARATOR);
+        return separator >= 0 ? member.substring(0, separator) : member;
+    }
+
+    /**
+     * 원소의 세션 ID (이전 형식인 사용자 ID만 있는 원소는 null → 재계산만 하고 이벤트는 발행하지 않음)
+     */
+    private String sessionIdOf(String member) {
+        int separator = member.lastIndexOf(MEMBER_SEPARATOR);
+        return separator >= 0 ? member.substring(separator + 1) : null;
+    }
+
+    private void record(String result) {
+        counters.computeIfAbsent(result, k -> Counter.builder("learning.analysis.complete-recompute")
+                .description("전체 분석 재계산 대기열 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry))
+            .increment();
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 분산 락
+ * - 락 값은 획득 시 생성한 소유자 토큰(UUID), 해제/연장은 Lua로 토큰을 비교한 뒤에만 수행하여
+ *   lease가 만료된 뒤 다른 파드가 얻은 락을 지우거나 연장하지 않음
+ * - 워치독: 락을 가진 동안 lease의 1/3 주기로 만료 시간을 연장, 연장에 실패(토큰 불일치)하면 lost로 표시
+ * - 펜싱 토큰: 획득 시 락 이름별 INCR 값을 함께 발급. GC 정지 등으로 lease를 잃은 이전 소유자의 늦은 쓰기를
+ *   저장소에서 거절할 수 있도록 쓰기 시 토큰을 함께 넘겨 더 큰 토큰이 이미 기록되었는지 확인 (AnalysisWriteFenceService)
+ * - 락 키와 펜싱 키는 슬롯이 다를 수 있으므로 스크립트 하나로 묶지 않고 SET NX 성공 후 INCR
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class DistributedLockService {
+
+    private static final long POLL_MILLIS = 100L;
+
+    /**
+     * KEYS[1]: 락 키, ARGV[1]: 소유자 토큰
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    /**
+     * KEYS[1]: 락 키, ARGV[1]: 소유자 토큰, ARGV[2]: lease(ms)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
+    /**
+     * 획득한 락 (try-with-resources로 해제)
+     */
+    public final class Lock implements AutoCloseable {
+
+        private final String type;
+        private final String key;
+        private final String token;
+        private final long fencingToken;
+        private final long leaseMillis;
+        private volatile boolean lost;
+        private volatile boolean released;
+        private ScheduledFuture<?> renewal;
+
+        private Lock(String type, String key, String token, long fencingToken, long leaseMillis) {
+            this.type = type;
+            this.key = key;
+            this.token = token;
+            this.fencingToken = fencingToken;
+            this.leaseMillis = leaseMillis;
+        }
+
+        /**
+         * 락 이름별로 단조 증가하는 펜싱 토큰
+         */
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        /**
+         * 해제 전이고 워치독 연장에 실패하지 않았으면 true (lease를 잃었으면 쓰기 전에 펜싱 토큰으로 다시 확인해야 함)
+         */
+        public boolean isHeld() {
+            return !released && !lost;
+        }
+
+        @Override
+        public void close() {
+            unlock(this);
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService watchdog;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public DistributedLockService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 락 획득 시도 (대기 없음)
+     *
+     * @param lease 만료 시간 (워치독이 해제 전까지 연장)
+     */
+    public Optional<Lock> tryLock(String type, String id, Duration lease) {
+        return tryLock(type, id, lease, Duration.ZERO);
+    }
+
+    /**
+     * 락 획득 시도 (wait 동안 POLL_MILLIS 간격으로 재시도, 얻지 못하면 empty)
+     * Redis 오류는 호출 측으로 전달하여 "다른 소유자가 있음"과 구분할 수 있도록 함
+     */
+    public Optional<Lock> tryLock(String type, String id, Duration lease, Duration wait) {
+        String key = RedisCacheConfig.CacheKeyBuilder.lockKey(type, id);
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + wait.toMillis();
+        try {
+            while (true) {
+                Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, lease);
+                if (Boolean.TRUE.equals(acquired)) {
+                    Long fencingToken = stringRedisTemplate.opsForValue()
+                        .increment(RedisCacheConfig.CacheKeyBuilder.fencingKey(type));
+                    Lock lock = new Lock(type, key, token, fencingToken != null ? fencingToken : 0L, lease.toMillis());
+                    startWatchdog(lock);
+                    record(type, "acquired");
+                    log.debug("락 획득: key={}, fencingToken={}", key, lock.fencingToken());
+                    return Optional.of(lock);
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    record(type, "busy");
+                    return Optional.empty();
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            record(type, "busy");
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            // 획득 직후 오류가 난 경우 남은 락은 lease 만료로 풀림
+            record(type, "error");
+            throw e;
+        }
+    }
+
+    /**
+     * 락 해제 (자신의 토큰일 때만 삭제, 여러 번 호출해도 안전)
+     */
+    public void unlock(Lock lock) {
+        if (lock.released) {
+            return;
+        }
+        lock.released = true;
+        if (lock.renewal != null) {
+            lock.renewal.cancel(false);
+        }
+        try {
+            Long deleted = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lock.key), lock.token);
+            if (deleted == null || deleted == 0L) {
+                // lease 만료 후 다른 소유자가 얻은 락은 건드리지 않음
+                log.warn("락 해제 시 소유자 불일치 (lease 만료): key={}, fencingToken={}", lock.key, lock.fencingToken);
+                record(lock.type, "expired");
+            }
+        } catch (Exception e) {
+            log.error("락 해제 실패: key={}", lock.key, e);
+        }
+    }
+
+    private void startWatchdog(Lock lock) {
+        long period = Math.max(lock.leaseMillis / 3, POLL_MILLIS);
+        lock.renewal = watchdog.scheduleAtFixedRate(() -> renew(lock), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(Lock lock) {
+        if (!lock.isHeld()) {
+            lock.renewal.cancel(false);
+            return;
+        }
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(lock.key), lock.token,
+                String.valueOf(lock.leaseMillis));
+            if (renewed == null || renewed == 0L) {
+                lock.lost = true;
+                lock.renewal.cancel(false);
+                record(lock.type, "lost");
+                log.warn("락 lease 연장 실패 (소유권 상실): key={}, fencingToken={}", lock.key, lock.fencingToken);
+            }
+        } catch (Exception e) {
+            // 일시적 오류는 다음 주기에 재시도 (그 사이 lease가 만료되면 다음 연장에서 lost로 표시)
+            log.error("락 lease 연장 오류: key={}", lock.key, e);
+        }
+    }
+
+    private void record(String type, String result) {
+        counters.computeIfAbsent(type + ":" + result, k -> Counter.builder("learning.lock")
+                .description("분산 락 획득/해제 결과")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry))
+            .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisAbsentCondition;
+import com.fasterxml.jackson.databind.JavaType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 프로세스 내 캐시 백엔드 (Redis가 없는 단일 노드/로컬 실행용)
+ * - Caffeine 기반 동시성 캐시, 최대 개수(learning.cache.memory.max-entries)를 넘으면 오래 쓰지 않은 항목부터 제거
+ * - 키마다 저장 시 지정한 TTL로 만료 (Redis SET ... EX와 같이 다시 저장하면 TTL도 교체, 조회는 TTL에 영향 없음)
+ * - 값은 직렬화하지 않고 참조로 보관하므로 호출 측에서 조회한 객체를 수정하지 않아야 함 (NearCache와 동일)
+ * - 여러 인스턴스 간에 공유되지 않으므로 수평 확장 시에는 Redis 백엔드를 사용
+ */
+@Slf4j
+@Component
+@Conditional(RedisAbsentCondition.class)
+public class InMemoryCacheBackend implements CacheBackend {
+
+    /**
+     * 저장 값 + 저장 시 지정한 TTL (Caffeine 가변 만료에 사용)
+     */
+    private record Entry(Object value, long ttlNanos) {
+    }
+
+    private final Cache<String, Entry> cache;
+
+    public InMemoryCacheBackend(MeterRegistry meterRegistry,
+                                @Value("${learning.cache.memory.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+        Gauge.builder("learning.cache.memory.size", cache, Cache::estimatedSize)
+            .description("프로세스 내 캐시 백엔드 항목 수")
+            .register(meterRegistry);
+        log.info("캐시 백엔드: 프로세스 내 메모리 (Redis 미설정, maxEntries={})", maxEntries);
+    }
+
+    @Override
+    public Object get(String key, JavaType type) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public List<Object> multiGet(List<String> keys, JavaType type) {
+        List<Object> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(get(key, type));
+        }
+        return values;
+    }
+
+    @Override
+    public void set(String key, Object value, Duration ttl) {
+        if (value == null) {
+            return;
+        }
+        long ttlNanos = ttl != null && !ttl.isNegative() && !ttl.isZero() ? ttl.toNanos() : Long.MAX_VALUE;
+        cache.put(key, new Entry(value, ttlNanos));
+    }
+
+    @Override
+    public long delete(List<String> keys) {
+        long deleted = 0L;
+        for (String key : keys) {
+            if (cache.asMap().remove(key) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * 키 집합을 순회하며 패턴에 맞는 키 전달 (ConcurrentMap 뷰이므로 순회 중 변경이 있어도 예외 없음)
+     */
+    @Override
+    public void scan(String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        Pattern regex = globToRegex(pattern);
+        List<String> batch = new ArrayList<>(batchSize);
+        for (String key : cache.asMap().keySet()) {
+            if (!regex.matcher(key).matches()) {
+                continue;
+            }
+            batch.add(key);
+            if (batch.size() >= batchSize) {
+                batchConsumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    @Override
+    public Optional<Duration> getTtl(String key) {
+        return cache.policy().expireVariably()
+            .flatMap(expiration -> expiration.getExpiresAfter(key))
+            .filter(remaining -> remaining.toNanos() < Long.MAX_VALUE / 2 && !remaining.isNegative()
+                && !remaining.isZero());
+    }
+
+    @Override
+    public boolean expire(String key, Duration ttl) {
+        if (cache.getIfPresent(key) == null) {
+            return false;
+        }
+        cache.policy().expireVariably().ifPresent(expiration -> expiration.setExpiresAfter(key, ttl));
+        return true;
+    }
+
+    /**
+     * Redis glob 패턴 → 정규식 (*: 임의 문자열, ?: 임의 문자 1개, [...]: 문자 집합, \x: 이스케이프)
+     */
+    static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder(glob.length() + 8);
+        boolean inClass = false;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                    regex.append(']');
+                } else if (c == '^' && regex.charAt(regex.length() - 1) == '[') {
+                    regex.append('^');
+                } else if (c == '\\' || c == '[' || c == '&') {
+                    regex.append('\\').append(c);
+                } else {
+                    regex.append(c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                case '[' -> {
+                    inClass = true;
+                    regex.append('[');
+                }
+                case '\\' -> {
+                    if (i + 1 < glob.length()) {
+                        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                    }
+                }
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        if (inClass) {
+            regex.append(']');
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+}
@@ -1,9 +1,28 @@
 package com.example.demo.service;
 
+import com.example.demo.config.AnalyticsCacheConfig;
+import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.dto.analytics.PerformanceCard;
 import com.example.demo.dto.analytics.WeeklyTrendData;
 import com.example.demo.dto.analytics.DailyActivityData;
 import com.example.demo.dto.analytics.QuestionTypeChartData;
+import com.example.demo.dto.analytics.CategoryPerformanceStats;
+import com.example.demo.dto.analytics.DailyAnswerCounterRow;
+import com.example.demo.dto.analytics.DailyLearningTime;
+import com.example.demo.dto.analytics.DailyLearningTimeRow;
+import com.example.demo.dto.analytics.DailyQuestionTypeCounterRow;
+import com.example.demo.dto.analytics.DifficultyAchievement;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.LiveLearningCounters;
+import com.example.demo.dto.analytics.MonthlyLearningTime;
+import com.example.demo.dto.analytics.MonthlyLearningTimeRow;
+import com.example.demo.dto.analytics.MonthlyLearningTimeSummary;
+import com.example.demo.dto.analytics.QuestionStats;
+import com.example.demo.dto.analytics.QuestionTypeLiveCounter;
+import com.example.demo.dto.analytics.QuestionTypeStatsRow;
+import com.example.demo.dto.analytics.SessionTypeLearningTime;
+import com.example.demo.dto.analytics.SessionTypeStatsRow;
+import com.example.demo.dto.analytics.UserLearningAnalytics;
 import com.example.demo.entity.QuestionAnswer;
 import com.example.demo.entity.LearningSession;
 import com.example.demo.entity.LearningPatternAnalysis;
@@ -12,9 +31,25 @@ import com.example.demo.repository.LearningSessionRepository;
 import com.example.demo.repository.LearningPatternAnalysisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -25,22 +60,29 @@ import java.util.Map;
 /**
  * 학습 분석 서비스
  * 뷰 기반 데이터 조회 및 저장된 분석 결과 활용
+ * 모든 조회는 읽기 전용 트랜잭션으로 실행 (복제본 라우팅 활성화 시 replica에서 조회)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class LearningAnalyticsService {
 
     private final QuestionAnswerRepository questionAnswerRepository;
     private final LearningSessionRepository learningSessionRepository;
     private final LearningPatternAnalysisRepository learningPatternAnalysisRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<UserLiveCounterService> liveCounterServiceProvider;
+    private final QuestionAnswerUserIdBackfillStatus userIdBackfillStatus;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 사용자 학습 분석 데이터 조회 (뷰 기반)
      * user_learning_analytics_view 뷰에서 직접 조회
      */
-    public Map<String, Object> getUserLearningAnalytics(String userId) {
+    @Cacheable(cacheNames = AnalyticsCacheConfig.USER_ANALYTICS, key = "#userId", unless = "#result.totalSessions() == 0")
+    public UserLearningAnalytics getUserLearningAnalytics(String userId) {
         log.info("사용자 학습 분석 데이터 조회: userId={}", userId);
         
         String sql = """
@@ -60,12 +102,27 @@ public class LearningAnalyticsService {
             """;
         
         try {
-            Map<String, Object> result = jdbcTemplate.queryForMap(sql, userId);
+            List<UserLearningAnalytics> results = jdbcTemplate.query(sql, (rs, rowNum) -> new UserLearningAnalytics(
+                rs.getLong("total_sessions"),
+                rs.getLong("total_questions_solved"),
+                rs.getLong("total_correct_answers"),
+                getNullableDouble(rs, "accuracy_rate"),
+                getNullableDouble(rs, "error_rate"),
+                getNullableDouble(rs, "avg_solve_time"),
+                getNullableDouble(rs, "retry_rate"),
+                getNullableDouble(rs, "learning_progress_rate"),
+                rs.getObject("last_learning_date", LocalDateTime.class),
+                getNullableDouble(rs, "total_learning_time_minutes")), userId);
+            
+            if (results.isEmpty()) {
+                log.info("뷰 기반 학습 분석 데이터 없음: userId={}", userId);
+                return UserLearningAnalytics.empty();
+            }
             log.info("뷰 기반 학습 분석 데이터 조회 성공: userId={}", userId);
-            return result;
+            return results.get(0);
         } catch (Exception e) {
             log.error("뷰 기반 학습 분석 데이터 조회 실패: userId={}", e.getMessage());
-            return createEmptyAnalytics(userId);
+            return UserLearningAnalytics.empty();
         }
     }
 
@@ -73,7 +130,8 @@ public class LearningAnalyticsService {
      * 카테고리별 성과 데이터 조회 (뷰 기반)
      * category_performance_view 뷰에서 직접 조회
      */
-    public List<Map<String, Object>> getCategoryPerformance(String userId) {
+    @Cacheable(cacheNames = AnalyticsCacheConfig.CATEGORY_PERFORMANCE, key = "#userId", unless = "#result.isEmpty()")
+    public List<CategoryPerformanceStats> getCategoryPerformance(String userId) {
         log.info("카테고리별 성과 데이터 조회: userId={}", userId);
         
         String sql = """
@@ -91,7 +149,14 @@ public class LearningAnalyticsService {
             """;
         
         try {
-            List<Map<String, Object>> results = jdbcTemplate.queryForList(sql, userId);
+            List<CategoryPerformanceStats> results = jdbcTemplate.query(sql, (rs, rowNum) -> new CategoryPerformanceStats(
+                rs.getString("major_category"),
+                rs.getString("minor_category"),
+                rs.getLong("questions_solved"),
+                rs.getLong("correct_answers"),
+                getNullableDouble(rs, "category_proficiency"),
+                getNullableDouble(rs, "avg_category_solve_time"),
+                rs.getObject("last_category_practice_date", LocalDateTime.class)), userId);
             log.info("카테고리별 성과 데이터 조회 성공: userId={}, count={}", userId, results.size());
             return results;
         } catch (Exception e) {
@@ -104,7 +169,8 @@ public class LearningAnalyticsService {
      * 난이도별 성취도 데이터 조회 (뷰 기반)
      * difficulty_achievement_view 뷰에서 직접 조회
      */
-    public List<Map<String, Object>> getDifficultyAchievement(String userId) {
+    @Cacheable(cacheNames = AnalyticsCacheConfig.DIFFICULTY_ACHIEVEMENT, key = "#userId", unless = "#result.isEmpty()")
+    public List<DifficultyAchievement> getDifficultyAchievement(String userId) {
         log.info("난이도별 성취도 데이터 조회: userId={}", userId);
         
         String sql = """
@@ -121,7 +187,13 @@ public class LearningAnalyticsService {
             """;
         
         try {
-            List<Map<String, Object>> results = jdbcTemplate.queryForList(sql, userId);
+            List<DifficultyAchievement> results = jdbcTemplate.query(sql, (rs, rowNum) -> new DifficultyAchievement(
+                rs.getObject("difficulty_level", Integer.class),
+                rs.getLong("questions_solved"),
+                rs.getLong("correct_answers"),
+                getNullableDouble(rs, "difficulty_achievement_rate"),
+                getNullableDouble(rs, "avg_difficulty_solve_time"),
+                getNullableDouble(rs, "avg_attempts_per_question")), userId);
             log.info("난이도별 성취도 데이터 조회 성공: userId={}, count={}", userId, results.size());
             return results;
         } catch (Exception e) {
@@ -130,42 +202,128 @@ public class LearningAnalyticsService {
         }
     }
 
+    private static final String QUESTION_STATS_SQL = """
+        SELECT 
+            question_id,
+            question_type,
+            category,
+            difficulty_level,
+            total_solve_count,
+            correct_solve_count,
+            correct_rate,
+            avg_solve_time,
+            distinct_user_count
+        FROM question_stats_view 
+        ORDER BY total_solve_count DESC, question_id
+        """;
+
     /**
-     * 문제 통계 데이터 조회 (뷰 기반)
-     * question_stats_view 뷰에서 직접 조회
+     * 문제 통계 데이터 전체 조회 (뷰 기반, 스트리밍)
+     * 페이지 파라미터가 없는 기존 요청과 같은 응답(전체 행의 JSON 배열)을 리스트로 모으지 않고 바로 기록
+     *
+     * @return 기록한 행 수
+     * @throws IOException 클라이언트 연결 종료 등 응답 쓰기 실패
      */
-    public List<Map<String, Object>> getQuestionStats() {
-        log.info("문제 통계 데이터 조회");
+    public int streamQuestionStats(OutputStream outputStream) throws IOException {
+        log.info("문제 통계 데이터 전체 조회");
+        long startTime = System.currentTimeMillis();
         
-        String sql = """
-            SELECT 
-                question_id,
-                question_type,
-                category,
-                difficulty_level,
-                total_solve_count,
-                correct_solve_count,
-                correct_rate,
-                avg_solve_time,
-                distinct_user_count
-            FROM question_stats_view 
-            ORDER BY total_solve_count DESC
-            """;
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         
+        generator.writeStartArray();
+        int count = writeQuestionStats(generator, QUESTION_STATS_SQL, Integer.MAX_VALUE, statement -> { });
+        generator.writeEndArray();
+        generator.flush();
+        
+        log.info("문제 통계 데이터 조회 성공: count={}, 소요시간={}ms", count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    /**
+     * 문제 통계 데이터 페이지 조회 (뷰 기반, 스트리밍)
+     * 응답: {"content": [...], "page": 0, "size": 100, "number_of_elements": n, "has_next": true}
+     * 전체 건수(COUNT)는 뷰 전체 집계가 필요하므로 제공하지 않고, size + 1건을 읽어 다음 페이지 여부만 판단
+     *
+     * @return 기록한 행 수
+     * @throws IOException 클라이언트 연결 종료 등 응답 쓰기 실패
+     */
+    public int streamQuestionStatsPage(int page, int size, OutputStream outputStream) throws IOException {
+        log.info("문제 통계 데이터 조회: page={}, size={}", page, size);
+        long startTime = System.currentTimeMillis();
+        
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("content");
+        int fetched = writeQuestionStats(generator, QUESTION_STATS_SQL + "LIMIT ? OFFSET ?", size, statement -> {
+            statement.setInt(1, size + 1); // 다음 페이지 존재 여부 확인용 1건
+            statement.setLong(2, (long) page * size);
+        });
+        int count = Math.min(fetched, size);
+        generator.writeEndArray();
+        generator.writeNumberField("page", page);
+        generator.writeNumberField("size", size);
+        generator.writeNumberField("number_of_elements", count);
+        generator.writeBooleanField("has_next", fetched > size);
+        generator.writeEndObject();
+        generator.flush();
+        
+        log.info("문제 통계 데이터 조회 성공: count={}, 소요시간={}ms", count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * 커서에서 읽은 문제 통계 행을 JSON 객체로 기록 (최대 limit건 기록, 반환값은 읽은 행 수)
+     */
+    private int writeQuestionStats(JsonGenerator generator, String sql, int limit, StatementBinder binder)
+            throws IOException {
+        int[] count = {0};
         try {
-            List<Map<String, Object>> results = jdbcTemplate.queryForList(sql);
-            log.info("문제 통계 데이터 조회 성공: count={}", results.size());
-            return results;
-        } catch (Exception e) {
-            log.error("문제 통계 데이터 조회 실패: {}", e.getMessage());
-            return Collections.emptyList();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Integer.MIN_VALUE); // MySQL 행 단위 스트리밍
+                binder.bind(statement);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                if (count[0]++ >= limit) {
+                    return; // 다음 페이지 확인용 행은 기록하지 않음
+                }
+                try {
+                    generator.writeObject(new QuestionStats(
+                        rs.getString("question_id"),
+                        rs.getString("question_type"),
+                        rs.getString("category"),
+                        rs.getObject("difficulty_level", Integer.class),
+                        rs.getLong("total_solve_count"),
+                        rs.getLong("correct_solve_count"),
+                        getNullableDouble(rs, "correct_rate"),
+                        getNullableDouble(rs, "avg_solve_time"),
+                        rs.getLong("distinct_user_count")));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("문제 통계 응답 중단 (클라이언트 연결 종료): written={}", Math.min(count[0], limit));
+            throw e.getCause();
         }
+        return count[0];
     }
 
     /**
      * 저장된 학습 패턴 분석 결과 조회
      * learning_pattern_analysis 테이블에서 조회
      */
+    @Cacheable(cacheNames = AnalyticsCacheConfig.STORED_PATTERN, key = "#userId + ':' + #analysisType",
+               unless = "#result.get('analysisId') == null")
     public Map<String, Object> getStoredLearningPattern(String userId, String analysisType) {
         log.info("저장된 학습 패턴 분석 결과 조회: userId={}, analysisType={}", userId, analysisType);
         
@@ -211,26 +369,27 @@ public class LearningAnalyticsService {
         
         try {
             // 먼저 뷰에서 기본 데이터 조회
-            Map<String, Object> analytics = getUserLearningAnalytics(userId);
+            UserLearningAnalytics analytics = getUserLearningAnalytics(userId);
             
-            if (analytics.isEmpty()) {
+            if (analytics.totalSessions() == 0) {
                 return createEmptyPerformanceCard(userId, fromDate, toDate);
             }
             
+            double totalLearningTimeMinutes = analytics.totalLearningTimeMinutes() != null ? analytics.totalLearningTimeMinutes() : 0.0;
+            
             // 뷰 데이터를 PerformanceCard로 변환
             return PerformanceCard.builder()
                 .userId(userId)
                 .periodStart(fromDate)
                 .periodEnd(toDate)
-                .totalSessions(((Number) analytics.get("total_sessions")).intValue())
-                .totalQuestions(((Number) analytics.get("total_questions_solved")).intValue())
-                .totalCorrectAnswers(((Number) analytics.get("total_correct_answers")).intValue())
-                .overallAccuracyRate(((Number) analytics.get("accuracy_rate")).doubleValue())
-                .totalStudyTime(((Number) analytics.get("total_learning_time_minutes")).intValue())
-                .averageSessionTime(((Number) analytics.get("total_learning_time_minutes")).doubleValue() / 
-                                 Math.max(((Number) analytics.get("total_sessions")).doubleValue(), 1.0))
-                .totalScore(((Number) analytics.get("total_correct_answers")).doubleValue() * 5.0)
-                .studyDays(calculateStudyDaysFromAnalytics(analytics))
+                .totalSessions((int) analytics.totalSessions())
+                .totalQuestions((int) analytics.totalQuestionsSolved())
+                .totalCorrectAnswers((int) analytics.totalCorrectAnswers())
+                .overallAccuracyRate(analytics.accuracyRate() != null ? analytics.accuracyRate() : 0.0)
+                .totalStudyTime((int) totalLearningTimeMinutes)
+                .averageSessionTime(totalLearningTimeMinutes / Math.max(analytics.totalSessions(), 1L))
+                .totalScore(analytics.totalCorrectAnswers() * 5.0)
+                .studyDays(calculateStudyDays(analytics.lastLearningDate()))
                 .build();
                 
         } catch (Exception e) {
@@ -247,27 +406,40 @@ public class LearningAnalyticsService {
         int numberOfWeeks = weeks != null ? weeks : 8; // 기본값: 최근 8주
         log.info("주간 학습 추이 그래프 데이터 조회: userId={}, weeks={}", userId, numberOfWeeks);
         
-        List<WeeklyTrendData> trendData = new ArrayList<>();
         LocalDate currentWeekStart = getCurrentWeekStartDate();
+        LocalDateTime startDateTime = currentWeekStart.minusWeeks(numberOfWeeks - 1L).atStartOfDay();
+        LocalDateTime endDateTime = currentWeekStart.plusDays(6).atTime(23, 59, 59);
+        
+        // 전체 기간의 세션/답변을 한 번씩 조회 후 주별로 분류 (주마다 조회하지 않음)
+        List<LearningSession> sessions = learningSessionRepository.findWeeklySessionsByUserIdAndDateRange(
+            userId, startDateTime, endDateTime);
+        List<QuestionAnswer> answers = findUserAnswers(
+            userId, startDateTime, endDateTime);
+        
+        return buildWeeklyTrend(sessions, answers, currentWeekStart, numberOfWeeks);
+    }
+    
+    /**
+     * 미리 조회한 세션/답변으로 주간 학습 추이 계산
+     * 대시보드 API에서 조회 결과를 공유하기 위해 분리
+     */
+    public List<WeeklyTrendData> buildWeeklyTrend(List<LearningSession> sessions, List<QuestionAnswer> answers,
+                                                  LocalDate currentWeekStart, int numberOfWeeks) {
+        Map<LocalDate, Long> sessionsByWeek = sessions.stream()
+            .filter(session -> session.getStartedAt() != null)
+            .collect(Collectors.groupingBy(
+                session -> session.getStartedAt().toLocalDate().with(java.time.DayOfWeek.MONDAY),
+                Collectors.counting()));
+        Map<LocalDate, List<QuestionAnswer>> answersByWeek = answers.stream()
+            .collect(Collectors.groupingBy(answer -> answer.getAnsweredAt().toLocalDate().with(java.time.DayOfWeek.MONDAY)));
+        
+        List<WeeklyTrendData> trendData = new ArrayList<>();
         
         for (int i = 0; i < numberOfWeeks; i++) {
             LocalDate weekStart = currentWeekStart.minusWeeks(i);
             LocalDate weekEnd = weekStart.plusDays(6);
             
-            LocalDateTime startDateTime = weekStart.atStartOfDay();
-            LocalDateTime endDateTime = weekEnd.atTime(23, 59, 59);
-            
-            // 해당 주의 세션 데이터 조회 (주간 통계용)
-            List<LearningSession> weekSessions = learningSessionRepository.findWeeklySessionsByUserIdAndDateRange(
-                userId, startDateTime, endDateTime);
-            
-            // 해당 주의 답변 데이터 조회
-            // QuestionAnswer에는 userId가 없으므로 sessionId를 통해 조회
-            List<QuestionAnswer> weekAnswers = new ArrayList<>();
-            for (LearningSession session : weekSessions) {
-                List<QuestionAnswer> sessionAnswers = questionAnswerRepository.findBySessionIdOrderByAnsweredAtAsc(session.getSessionId());
-                weekAnswers.addAll(sessionAnswers);
-            }
+            List<QuestionAnswer> weekAnswers = answersByWeek.getOrDefault(weekStart, Collections.emptyList());
             
             // 주간 통계 계산
             int totalQuestions = weekAnswers.size();
@@ -283,7 +455,7 @@ public class LearningAnalyticsService {
                 .weekStartDate(weekStart)                            // 해당 주의 시작일 (월요일)
                 .weekEndDate(weekEnd)                                // 해당 주의 종료일 (일요일)
                 .weekLabel(String.format("%d월 %d일주", weekStart.getMonthValue(), weekStart.getDayOfMonth())) // 그래프 X축 레이블용
-                .sessionsCompleted(weekSessions.size())              // 해당 주에 완료한 세션 수
+                .sessionsCompleted(sessionsByWeek.getOrDefault(weekStart, 0L).intValue()) // 해당 주에 완료한 세션 수
                 .questionsAnswered(totalQuestions)                   // 해당 주에 풀어본 문제 수
                 .correctAnswers(correctAnswers)                      // 해당 주에 맞힌 문제 수
                 .accuracyRate(accuracyRate)                         // 해당 주의 정답률 (%) - 라인 차트의 주요 지표
@@ -309,16 +481,18 @@ public class LearningAnalyticsService {
         LocalDateTime startDateTime = fromDate.atStartOfDay();
         LocalDateTime endDateTime = toDate.atTime(23, 59, 59);
         
-        // 기간 내 모든 답변 데이터 조회
-        // QuestionAnswer에는 userId가 없으므로 sessionId를 통해 조회
-        List<QuestionAnswer> answers = new ArrayList<>();
-        List<LearningSession> sessions = learningSessionRepository.findByUserIdAndStartedAtBetweenOrderByCreatedAtDesc(
+        // 기간 내 모든 답변 데이터 조회 (백필 완료 후 user_id, answered_at 인덱스 범위 스캔)
+        List<QuestionAnswer> answers = findUserAnswers(
             userId, startDateTime, endDateTime);
-        for (LearningSession session : sessions) {
-            List<QuestionAnswer> sessionAnswers = questionAnswerRepository.findBySessionIdOrderByAnsweredAtAsc(session.getSessionId());
-            answers.addAll(sessionAnswers);
-        }
         
+        return buildDailyActivity(answers, fromDate, toDate);
+    }
+    
+    /**
+     * 미리 조회한 답변으로 일별 학습 활동 계산
+     * answers에 기간 밖의 답변이 섞여 있어도 fromDate ~ toDate 날짜만 집계
+     */
+    public List<DailyActivityData> buildDailyActivity(List<QuestionAnswer> answers, LocalDate fromDate, LocalDate toDate) {
         // 일별로 그룹화
         Map<LocalDate, List<QuestionAnswer>> answersByDate = answers.stream()
             .collect(Collectors.groupingBy(answer -> answer.getAnsweredAt().toLocalDate()));
@@ -373,49 +547,16 @@ public class LearningAnalyticsService {
         
         try {
             // Repository에서 문제 유형별 집계된 통계 데이터 조회 (Question과 JOIN)
-            List<Object[]> questionTypeStats = questionAnswerRepository.getQuestionTypeStatsByUserIdAndDateRange(
-                userId, startDateTime, endDateTime);
+            List<QuestionTypeStatsRow> questionTypeStats = userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.getQuestionTypeStatsByUserIdAndDateRange(userId, startDateTime, endDateTime)
+                : questionAnswerRepository.getQuestionTypeStatsByUserIdAndDateRangeViaSession(userId, startDateTime, endDateTime);
             
             if (questionTypeStats.isEmpty()) {
                 log.warn("문제 유형별 통계 데이터가 없음: userId={}", userId);
                 return new ArrayList<>();
             }
             
-            // 전체 답변 수 계산
-            int totalAnswers = questionTypeStats.stream()
-                .mapToInt(stats -> ((Number) stats[1]).intValue()) // totalQuestions
-                .sum();
-            
-            List<QuestionTypeChartData> chartData = new ArrayList<>();
-            
-            for (Object[] stats : questionTypeStats) {
-                String questionType = (String) stats[0];           // questionType
-                int totalQuestions = ((Number) stats[1]).intValue(); // totalQuestions
-                int correctAnswers = ((Number) stats[2]).intValue(); // correctAnswers
-                int wrongAnswers = ((Number) stats[3]).intValue();   // wrongAnswers
-                
-                // 통계 계산
-                double accuracyRate = totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0.0;
-                double percentage = totalAnswers > 0 ? (double) totalQuestions / totalAnswers * 100 : 0.0;
-                double score = correctAnswers * 5.0;
-                
-                QuestionTypeChartData data = QuestionTypeChartData.builder()
-                    .questionType(questionType)                              // 문제 유형 코드 (FILL_IN_THE_BLANK 등)
-                    .displayName(getQuestionTypeDisplayName(questionType))   // 사용자에게 표시될 한글명 ("빈칸 채우기" 등)
-                    .totalQuestions(totalQuestions)                          // 해당 유형의 총 문제 수
-                    .correctAnswers(correctAnswers)                          // 해당 유형의 정답 수
-                    .wrongAnswers(wrongAnswers)                              // 해당 유형의 오답 수
-                    .accuracyRate(Math.round(accuracyRate * 100.0) / 100.0) // 해당 유형의 정답률 (%)
-                    .percentage(Math.round(percentage * 100.0) / 100.0)     // 전체 문제 중 해당 유형이 차지하는 비율 (%)
-                    .score(score)                                           // 해당 유형에서 획득한 점수 (정답 수 × 5점)
-                    .performanceLevel(determinePerformanceLevel(accuracyRate)) // 성과 레벨 (EXCELLENT, GOOD, AVERAGE, POOR)
-                    .build();
-                
-                chartData.add(data);
-            }
-            
-            // 정답률 내림차순 정렬 (성과가 좋은 유형부터 표시)
-            chartData.sort((a, b) -> Double.compare(b.getAccuracyRate(), a.getAccuracyRate()));
+            List<QuestionTypeChartData> chartData = toQuestionTypeChart(questionTypeStats);
             
             log.info("문제 유형별 성과 차트 데이터 조회 성공: userId={}, count={}", userId, chartData.size());
             return chartData;
@@ -425,6 +566,71 @@ public class LearningAnalyticsService {
             return new ArrayList<>();
         }
     }
+    
+    /**
+     * 미리 조회한 답변으로 문제 유형별 성과 계산
+     * getQuestionTypeStatsByUserIdAndDateRange와 같은 형태(QuestionTypeStatsRow)로 집계
+     */
+    public List<QuestionTypeChartData> buildQuestionTypeChart(List<QuestionAnswer> answers,
+                                                              LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Map<String, long[]> countsByType = new TreeMap<>();
+        for (QuestionAnswer answer : answers) {
+            if (answer.getQuestionType() == null
+                    || answer.getAnsweredAt().isBefore(startDateTime)
+                    || answer.getAnsweredAt().isAfter(endDateTime)) {
+                continue;
+            }
+            long[] counts = countsByType.computeIfAbsent(answer.getQuestionType(), type -> new long[3]);
+            counts[0]++;
+            counts[Boolean.TRUE.equals(answer.getIsCorrect()) ? 1 : 2]++;
+        }
+        
+        List<QuestionTypeStatsRow> questionTypeStats = new ArrayList<>(countsByType.size());
+        countsByType.forEach((type, counts) -> questionTypeStats.add(
+            new QuestionTypeStatsRow(type, counts[0], counts[1], counts[2], null)));
+        return toQuestionTypeChart(questionTypeStats);
+    }
+    
+    private List<QuestionTypeChartData> toQuestionTypeChart(List<QuestionTypeStatsRow> questionTypeStats) {
+        // 전체 답변 수 계산
+        int totalAnswers = 0;
+        for (QuestionTypeStatsRow stats : questionTypeStats) {
+            totalAnswers += toInt(stats.totalQuestions());
+        }
+        
+        List<QuestionTypeChartData> chartData = new ArrayList<>(questionTypeStats.size());
+        
+        for (QuestionTypeStatsRow stats : questionTypeStats) {
+            String questionType = stats.questionType();
+            int totalQuestions = toInt(stats.totalQuestions());
+            int correctAnswers = toInt(stats.correctAnswers());
+            int wrongAnswers = toInt(stats.wrongAnswers());
+            
+            // 통계 계산
+            double accuracyRate = totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0.0;
+            double percentage = totalAnswers > 0 ? (double) totalQuestions / totalAnswers * 100 : 0.0;
+            double score = correctAnswers * 5.0;
+            
+            QuestionTypeChartData data = QuestionTypeChartData.builder()
+                .questionType(questionType)                              // 문제 유형 코드 (FILL_IN_THE_BLANK 등)
+                .displayName(getQuestionTypeDisplayName(questionType))   // 사용자에게 표시될 한글명 ("빈칸 채우기" 등)
+                .totalQuestions(totalQuestions)                          // 해당 유형의 총 문제 수
+                .correctAnswers(correctAnswers)                          // 해당 유형의 정답 수
+                .wrongAnswers(wrongAnswers)                              // 해당 유형의 오답 수
+                .accuracyRate(Math.round(accuracyRate * 100.0) / 100.0) // 해당 유형의 정답률 (%)
+                .percentage(Math.round(percentage * 100.0) / 100.0)     // 전체 문제 중 해당 유형이 차지하는 비율 (%)
+                .score(score)                                           // 해당 유형에서 획득한 점수 (정답 수 × 5점)
+                .performanceLevel(determinePerformanceLevel(accuracyRate)) // 성과 레벨 (EXCELLENT, GOOD, AVERAGE, POOR)
+                .build();
+            
+            chartData.add(data);
+        }
+        
+        // 정답률 내림차순 정렬 (성과가 좋은 유형부터 표시)
+        chartData.sort((a, b) -> Double.compare(b.getAccuracyRate(), a.getAccuracyRate()));
+        
+        return chartData;
+    }
 
     /**
      * 문제 유형별 성과 정보를 담는 DTO
@@ -443,24 +649,6 @@ public class LearningAnalyticsService {
     
     // ===== 유틸리티 메서드들 =====
     
-    /**
-     * 빈 학습 분석 데이터 생성
-     */
-    private Map<String, Object> createEmptyAnalytics(String userId) {
-        Map<String, Object> emptyAnalytics = new HashMap<>();
-        emptyAnalytics.put("total_sessions", 0);
-        emptyAnalytics.put("total_questions_solved", 0);
-        emptyAnalytics.put("total_correct_answers", 0);
-        emptyAnalytics.put("accuracy_rate", 0.0);
-        emptyAnalytics.put("error_rate", 0.0);
-        emptyAnalytics.put("avg_solve_time", 0.0);
-        emptyAnalytics.put("retry_rate", 0.0);
-        emptyAnalytics.put("learning_progress_rate", 0.0);
-        emptyAnalytics.put("last_learning_date", null);
-        emptyAnalytics.put("total_learning_time_minutes", 0);
-        return emptyAnalytics;
-    }
-
     /**
      * 빈 성과 카드 데이터 생성
      */
@@ -501,17 +689,43 @@ public class LearningAnalyticsService {
     }
 
     /**
-     * 뷰 데이터에서 실제 학습한 일수 계산
+     * 성과 카드 학습 일수 (마지막 학습일부터 오늘까지 경과 일수)
+     * /performance-card와 대시보드 성과 카드가 같은 기준(user_learning_analytics_view.last_learning_date)을 사용
      */
-    private int calculateStudyDaysFromAnalytics(Map<String, Object> analytics) {
-        // user_learning_analytics_view 뷰에서 last_learning_date를 사용
-        String lastLearningDateStr = (String) analytics.get("last_learning_date");
-        if (lastLearningDateStr == null || lastLearningDateStr.isEmpty()) {
+    private int calculateStudyDays(LocalDateTime lastLearningDateTime) {
+        if (lastLearningDateTime == null) {
             return 0; // 데이터가 없을 경우
         }
-        LocalDate lastLearningDate = LocalDate.parse(lastLearningDateStr, DateTimeFormatter.ISO_DATE);
+        LocalDate lastLearningDate = lastLearningDateTime.toLocalDate();
         return (int) lastLearningDate.until(LocalDate.now(), java.time.temporal.ChronoUnit.DAYS);
     }
+
+    /**
+     * 사용자의 마지막 답변 시각 (user_learning_analytics_view.last_learning_date와 같은 값, 뷰 전체 집계 없이 인덱스로 조회)
+     */
+    public LocalDateTime getLastLearningDate(String userId) {
+        return userIdBackfillStatus.isCompleted()
+            ? questionAnswerRepository.findLastAnsweredAtByUserId(userId)
+            : questionAnswerRepository.findLastAnsweredAtByUserIdViaSession(userId);
+    }
+
+    /**
+     * 사용자의 기간 내 답변 조회
+     * user_id 백필 완료가 기록되기 전에는 user_id가 비어 있는 기존 행도 포함되도록 learning_sessions JOIN으로 조회
+     */
+    private List<QuestionAnswer> findUserAnswers(String userId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return userIdBackfillStatus.isCompleted()
+            ? questionAnswerRepository.findByUserIdAndAnsweredAtBetweenOrderByAnsweredAtAsc(userId, startDateTime, endDateTime)
+            : questionAnswerRepository.findByUserIdAndAnsweredAtBetweenViaSession(userId, startDateTime, endDateTime);
+    }
+
+    /**
+     * 뷰 조회 결과의 nullable DECIMAL 컬럼을 Double로 변환
+     */
+    private Double getNullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
     
     /**
      * 현재 주의 월요일 날짜 반환
@@ -566,7 +780,9 @@ public class LearningAnalyticsService {
         
         try {
             // 최적화된 쿼리로 총 학습 시간 조회
-            Long totalTimeSpent = questionAnswerRepository.getTotalLearningTimeByUserId(userId);
+            Long totalTimeSpent = userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.getTotalLearningTimeByUserId(userId)
+                : questionAnswerRepository.getTotalLearningTimeByUserIdViaSession(userId);
             long result = totalTimeSpent != null ? totalTimeSpent : 0L;
             
             log.info("사용자 총 학습 시간 조회 성공: userId={}, totalTimeSpent={}초", userId, result);
@@ -579,94 +795,90 @@ public class LearningAnalyticsService {
     }
 
     /**
-     * 특정 사용자의 모든 학습 세션에 대한 총 학습 시간 조회 (분 단위)
+     * 특정 사용자의 총 학습 시간 요약 조회
+     * 세션 타입별 집계 쿼리 1회로 합계/정답률/단위 변환(초·분·시간)을 모두 계산
      * 
      * @param userId 사용자 ID
-     * @return 총 학습 시간 (분 단위, 소수점 2자리)
+     * @return 총 학습 시간 요약 (데이터가 없으면 0으로 채운 요약)
      */
-    public double getTotalLearningTimeMinutesForUser(String userId) {
-        long totalSeconds = getTotalLearningTimeForUser(userId);
-        return Math.round((double) totalSeconds / 60.0 * 100.0) / 100.0; // 분 단위, 소수점 2자리
-    }
-
-    /**
-     * 특정 사용자의 모든 학습 세션에 대한 총 학습 시간 조회 (시간 단위)
-     * 
-     * @param userId 사용자 ID
-     * @return 총 학습 시간 (시간 단위, 소수점 2자리)
-     */
-    public double getTotalLearningTimeHoursForUser(String userId) {
-        long totalSeconds = getTotalLearningTimeForUser(userId);
-        return Math.round((double) totalSeconds / 3600.0 * 100.0) / 100.0; // 시간 단위, 소수점 2자리
+    @Cacheable(cacheNames = AnalyticsCacheConfig.LEARNING_TIME_SUMMARY, key = "#userId", unless = "#result.totalQuestions() == 0")
+    public LearningTimeSummary getLearningTimeSummary(String userId) {
+        log.info("사용자 총 학습 시간 요약 조회: userId={}", userId);
+        
+        try {
+            List<SessionTypeStatsRow> rows = questionAnswerRepository.getSessionTypeStatsByUserId(userId);
+            LearningTimeSummary summary = buildLearningTimeSummary(userId, rows);
+            
+            log.info("사용자 총 학습 시간 요약 조회 성공: userId={}, totalSeconds={}, sessionTypeCount={}", 
+                     userId, summary.totalLearningTimeSeconds(), rows.size());
+            return summary;
+            
+        } catch (Exception e) {
+            log.error("사용자 총 학습 시간 요약 조회 실패: userId={}", userId, e);
+            return buildLearningTimeSummary(userId, Collections.emptyList());
+        }
     }
 
     /**
-     * 특정 사용자의 세션 타입별 통계 조회
-     * 
-     * @param userId 사용자 ID
-     * @return 세션 타입별 통계 정보
+     * 세션 타입별 집계 행으로 총 학습 시간 요약 구성
      */
-    public List<Map<String, Object>> getSessionTypeStats(String userId) {
-        log.info("사용자 세션 타입별 통계 조회: userId={}", userId);
+    public LearningTimeSummary buildLearningTimeSummary(String userId, List<SessionTypeStatsRow> rows) {
+        List<SessionTypeLearningTime> sessionTypeStats = new ArrayList<>(rows.size());
+        long totalSeconds = 0L;
+        int totalSessions = 0;
+        int totalCompletedSessions = 0;
+        int totalQuestions = 0;
+        int totalCorrectAnswers = 0;
         
-        try {
-            List<Object[]> sessionTypeStats = questionAnswerRepository.getSessionTypeStatsByUserId(userId);
-            
-            log.info("Repository에서 조회된 원본 데이터: {}", sessionTypeStats);
+        for (SessionTypeStatsRow row : rows) {
+            int sessions = toInt(row.totalSessions());
+            int completedSessions = toInt(row.completedSessions());
+            int questions = toInt(row.totalQuestions());
+            int correctAnswers = toInt(row.correctAnswers());
+            long timeSpent = row.totalTimeSpent() != null ? row.totalTimeSpent() : 0L;
             
-            if (sessionTypeStats.isEmpty()) {
-                log.info("사용자의 세션 타입별 통계 데이터가 없음: userId={}", userId);
-                return Collections.emptyList();
-            }
+            // 정답률 계산
+            double accuracyRate = questions > 0 ? (double) correctAnswers / questions * 100 : 0.0;
             
-            List<Map<String, Object>> stats = new ArrayList<>();
+            sessionTypeStats.add(new SessionTypeLearningTime(
+                row.sessionType(),
+                getSessionTypeDisplayName(row.sessionType()),
+                sessions,
+                completedSessions,
+                questions,
+                correctAnswers,
+                Math.round(accuracyRate * 100.0) / 100.0,
+                timeSpent,
+                Math.round((double) timeSpent / 60.0 * 100.0) / 100.0,
+                Math.round((double) timeSpent / 3600.0 * 100.0) / 100.0));
             
-            for (Object[] stat : sessionTypeStats) {
-                log.info("처리 중인 데이터: sessionType={}, totalSessions={}, completedSessions={}, totalQuestions={}, correctAnswers={}, totalTimeSpent={}", 
-                         stat[0], stat[1], stat[2], stat[3], stat[4], stat[5]);
-                
-                String sessionType = (String) stat[0];
-                Long totalSessions = (Long) stat[1];
-                Long completedSessions = (Long) stat[2];
-                Long totalQuestions = (Long) stat[3];
-                Long correctAnswers = (Long) stat[4];
-                Long totalTimeSpent = (Long) stat[5];
-                
-                // 정답률 계산
-                double accuracyRate = totalQuestions != null && totalQuestions > 0 ? 
-                    (double) correctAnswers / totalQuestions * 100 : 0.0;
-                
-                // 세션 타입별 한글명
-                String sessionTypeDisplayName = getSessionTypeDisplayName(sessionType);
-                
-                Map<String, Object> sessionTypeStat = new HashMap<>();
-                sessionTypeStat.put("sessionType", sessionType);
-                sessionTypeStat.put("sessionTypeDisplayName", sessionTypeDisplayName);
-                sessionTypeStat.put("totalSessions", totalSessions != null ? totalSessions.intValue() : 0);
-                sessionTypeStat.put("completedSessions", completedSessions != null ? completedSessions.intValue() : 0);
-                sessionTypeStat.put("totalQuestions", totalQuestions != null ? totalQuestions.intValue() : 0);
-                sessionTypeStat.put("correctAnswers", correctAnswers != null ? correctAnswers.intValue() : 0);
-                sessionTypeStat.put("accuracyRate", Math.round(accuracyRate * 100.0) / 100.0);
-                sessionTypeStat.put("totalTimeSpentSeconds", totalTimeSpent != null ? totalTimeSpent : 0L);
-                sessionTypeStat.put("totalTimeSpentMinutes", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 60.0 * 100.0) / 100.0 : 0.0);
-                sessionTypeStat.put("totalTimeSpentHours", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 3600.0 * 100.0) / 100.0 : 0.0);
-                
-                stats.add(sessionTypeStat);
-                
-                log.info("생성된 세션 타입 통계: {}", sessionTypeStat);
-            }
-            
-            log.info("사용자 세션 타입별 통계 조회 성공: userId={}, sessionTypeCount={}, stats={}", 
-                     userId, stats.size(), stats);
-            
-            return stats;
-            
-        } catch (Exception e) {
-            log.error("사용자 세션 타입별 통계 조회 실패: userId={}", userId, e);
-            return Collections.emptyList();
+            totalSeconds += timeSpent;
+            totalSessions += sessions;
+            totalCompletedSessions += completedSessions;
+            totalQuestions += questions;
+            totalCorrectAnswers += correctAnswers;
         }
+        
+        // 전체 정답률 계산
+        double overallAccuracyRate = totalQuestions > 0 ? 
+            (double) totalCorrectAnswers / totalQuestions * 100 : 0.0;
+        
+        return new LearningTimeSummary(
+            userId,
+            totalSeconds,
+            Math.round((double) totalSeconds / 60.0 * 100.0) / 100.0,   // 분 단위, 소수점 2자리
+            Math.round((double) totalSeconds / 3600.0 * 100.0) / 100.0, // 시간 단위, 소수점 2자리
+            formatLearningTime(totalSeconds),
+            totalSessions,
+            totalCompletedSessions,
+            totalQuestions,
+            totalCorrectAnswers,
+            Math.round(overallAccuracyRate * 100.0) / 100.0,
+            sessionTypeStats);
+    }
+
+    private int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
     }
 
     /**
@@ -687,34 +899,31 @@ public class LearningAnalyticsService {
      * @param userId 사용자 ID
      * @return 일별 학습 시간 정보 리스트
      */
-    public List<Map<String, Object>> getDailyLearningTimeStats(String userId) {
+    @Cacheable(cacheNames = AnalyticsCacheConfig.DAILY_LEARNING_TIME, key = "#userId", unless = "#result.isEmpty()")
+    public List<DailyLearningTime> getDailyLearningTimeStats(String userId) {
         log.info("사용자 일별 학습 시간 통계 조회: userId={}", userId);
         
         try {
-            List<Object[]> dailyTimeStats = questionAnswerRepository.getDailyLearningTimeByUserId(userId);
+            List<DailyLearningTimeRow> dailyTimeStats = userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.getDailyLearningTimeByUserId(userId)
+                : questionAnswerRepository.getDailyLearningTimeByUserIdViaSession(userId);
             
             if (dailyTimeStats.isEmpty()) {
                 log.info("사용자의 일별 학습 시간 데이터가 없음: userId={}", userId);
                 return Collections.emptyList();
             }
             
-            List<Map<String, Object>> dailyStats = new ArrayList<>();
+            List<DailyLearningTime> dailyStats = new ArrayList<>(dailyTimeStats.size());
             
-            for (Object[] stats : dailyTimeStats) {
-                LocalDate studyDate = (LocalDate) stats[0];
-                Long totalTimeSpent = (Long) stats[1];
-                Long questionCount = (Long) stats[2];
-                
-                Map<String, Object> dailyStat = new HashMap<>();
-                dailyStat.put("date", studyDate.toString());
-                dailyStat.put("timeSpentSeconds", totalTimeSpent != null ? totalTimeSpent : 0L);
-                dailyStat.put("timeSpentMinutes", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 60.0 * 100.0) / 100.0 : 0.0);
-                dailyStat.put("timeSpentHours", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 3600.0 * 100.0) / 100.0 : 0.0);
-                dailyStat.put("questionCount", questionCount != null ? questionCount.intValue() : 0);
+            for (DailyLearningTimeRow stats : dailyTimeStats) {
+                long totalTimeSpent = stats.totalTimeSpent() != null ? stats.totalTimeSpent() : 0L;
                 
-                dailyStats.add(dailyStat);
+                dailyStats.add(new DailyLearningTime(
+                    stats.studyDate().toString(),
+                    totalTimeSpent,
+                    Math.round((double) totalTimeSpent / 60.0 * 100.0) / 100.0,
+                    Math.round((double) totalTimeSpent / 3600.0 * 100.0) / 100.0,
+                    toInt(stats.questionCount())));
             }
             
             log.info("사용자 일별 학습 시간 통계 조회 성공: userId={}, dayCount={}", 
@@ -735,37 +944,35 @@ public class LearningAnalyticsService {
      * @param userId 사용자 ID
      * @return 월별 학습 시간 정보 리스트
      */
-    public List<Map<String, Object>> getMonthlyLearningTimeStats(String userId) {
+    @Cacheable(cacheNames = AnalyticsCacheConfig.MONTHLY_LEARNING_TIME, key = "#userId", unless = "#result.isEmpty()")
+    public List<MonthlyLearningTime> getMonthlyLearningTimeStats(String userId) {
         log.info("사용자 월별 학습 시간 통계 조회: userId={}", userId);
         
         try {
-            List<Object[]> monthlyTimeStats = questionAnswerRepository.getMonthlyLearningTimeByUserId(userId);
+            List<MonthlyLearningTimeRow> monthlyTimeStats = userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.getMonthlyLearningTimeByUserId(userId)
+                : questionAnswerRepository.getMonthlyLearningTimeByUserIdViaSession(userId);
             
             if (monthlyTimeStats.isEmpty()) {
                 log.info("사용자의 월별 학습 시간 데이터가 없음: userId={}", userId);
                 return Collections.emptyList();
             }
             
-            List<Map<String, Object>> monthlyStats = new ArrayList<>();
+            List<MonthlyLearningTime> monthlyStats = new ArrayList<>(monthlyTimeStats.size());
             
-            for (Object[] stats : monthlyTimeStats) {
-                Integer studyYear = (Integer) stats[0];
-                Integer studyMonth = (Integer) stats[1];
-                Long totalTimeSpent = (Long) stats[2];
-                Long questionCount = (Long) stats[3];
+            for (MonthlyLearningTimeRow stats : monthlyTimeStats) {
+                int studyYear = stats.year();
+                int studyMonth = stats.month();
+                long totalTimeSpent = stats.totalTimeSpent() != null ? stats.totalTimeSpent() : 0L;
                 
-                Map<String, Object> monthlyStat = new HashMap<>();
-                monthlyStat.put("year", studyYear);
-                monthlyStat.put("month", studyMonth);
-                monthlyStat.put("yearMonth", String.format("%04d-%02d", studyYear, studyMonth));
-                monthlyStat.put("timeSpentSeconds", totalTimeSpent != null ? totalTimeSpent : 0L);
-                monthlyStat.put("timeSpentMinutes", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 60.0 * 100.0) / 100.0 : 0.0);
-                monthlyStat.put("timeSpentHours", totalTimeSpent != null ? 
-                    Math.round((double) totalTimeSpent / 3600.0 * 100.0) / 100.0 : 0.0);
-                monthlyStat.put("questionCount", questionCount != null ? questionCount.intValue() : 0);
-                
-                monthlyStats.add(monthlyStat);
+                monthlyStats.add(new MonthlyLearningTime(
+                    studyYear,
+                    studyMonth,
+                    String.format("%04d-%02d", studyYear, studyMonth),
+                    totalTimeSpent,
+                    Math.round((double) totalTimeSpent / 60.0 * 100.0) / 100.0,
+                    Math.round((double) totalTimeSpent / 3600.0 * 100.0) / 100.0,
+                    toInt(stats.questionCount())));
             }
             
             log.info("사용자 월별 학습 시간 통계 조회 성공: userId={}, monthCount={}", 
@@ -778,4 +985,171 @@ public class LearningAnalyticsService {
             return Collections.emptyList();
         }
     }
+
+    /**
+     * 월별 학습 시간 응답 데이터 구성
+     */
+    public MonthlyLearningTimeSummary buildMonthlyLearningTimeSummary(String userId, List<MonthlyLearningTime> monthlyStats) {
+        long totalSeconds = 0L;
+        for (MonthlyLearningTime monthly : monthlyStats) {
+            totalSeconds += monthly.timeSpentSeconds();
+        }
+        
+        return new MonthlyLearningTimeSummary(
+            userId,
+            monthlyStats.size(),
+            totalSeconds,
+            Math.round((double) totalSeconds / 60.0 * 100.0) / 100.0,
+            Math.round((double) totalSeconds / 3600.0 * 100.0) / 100.0,
+            formatLearningTime(totalSeconds),
+            monthlyStats);
+    }
+
+    /**
+     * 사용자 일별 실시간 학습 카운터 조회 ("오늘" 타일용)
+     * Redis 카운터가 있으면 MySQL 조회 없이 응답하고, 없으면 DB에서 집계한 뒤
+     * 카운터 보관 기간(오늘/어제) 안의 날짜는 Redis에 채워 다음 조회부터 상수 시간으로 응답
+     * Redis 조회만으로 끝나는 경우 커넥션을 잡지 않도록 트랜잭션은 시작하지 않음 (읽기 전용 라우팅은 유지)
+     * 
+     * @param userId 사용자 ID
+     * @param date 기준 일자 (기본 오늘)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public LiveLearningCounters getLiveLearningCounters(String userId, LocalDate date) {
+        LocalDate targetDate = date != null ? date : LocalDate.now();
+        UserLiveCounterService liveCounterService = liveCounterServiceProvider.getIfAvailable();
+        
+        if (liveCounterService != null) {
+            try {
+                Optional<LiveLearningCounters> live = liveCounterService.find(userId, targetDate);
+                if (live.isPresent()) {
+                    return live.get();
+                }
+            } catch (Exception e) {
+                log.error("실시간 카운터 조회 실패, DB 집계로 대체: userId={}, date={}", userId, targetDate, e);
+            }
+        }
+        
+        LocalDateTime startDateTime = targetDate.atStartOfDay();
+        LocalDateTime endDateTime = targetDate.plusDays(1).atStartOfDay();
+        
+        LocalDate today = LocalDate.now();
+        List<DailyQuestionTypeCounterRow> rows;
+        if (liveCounterService != null && !targetDate.isAfter(today)
+                && targetDate.isAfter(today.minusDays(RedisCacheConfig.USER_DAILY_COUNTERS_TTL.toDays()))) {
+            // 카운터 보관 기간 안의 날짜는 답변 단위로 primary에서 읽어 채우고, 같은 행으로 응답
+            List<DailyAnswerCounterRow> answerRows = findAnswerCountersOnPrimary(userId, startDateTime, endDateTime);
+            liveCounterService.seed(userId, targetDate, answerRows);
+            rows = toQuestionTypeCounters(answerRows);
+        } else {
+            rows = userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.getQuestionTypeCountersByUserIdAndDateRange(userId, startDateTime, endDateTime)
+                : questionAnswerRepository.getQuestionTypeCountersByUserIdAndDateRangeViaSession(userId, startDateTime, endDateTime);
+        }
+        
+        long questionCount = 0L;
+        long correctCount = 0L;
+        long timeSpentSeconds = 0L;
+        List<QuestionTypeLiveCounter> questionTypes = new ArrayList<>(rows.size());
+        for (DailyQuestionTypeCounterRow row : rows) {
+            long questions = row.questionCount() != null ? row.questionCount() : 0L;
+            long correct = row.correctCount() != null ? row.correctCount() : 0L;
+            long seconds = row.timeSpentSeconds() != null ? row.timeSpentSeconds() : 0L;
+            questionTypes.add(new QuestionTypeLiveCounter(row.questionType(), questions, correct, seconds,
+                UserLiveCounterService.accuracyRate(correct, questions)));
+            questionCount += questions;
+            correctCount += correct;
+            timeSpentSeconds += seconds;
+        }
+        
+        return new LiveLearningCounters(userId, targetDate.toString(), questionCount, correctCount, timeSpentSeconds,
+            UserLiveCounterService.accuracyRate(correctCount, questionCount), questionTypes, "database");
+    }
+
+    /**
+     * 실시간 카운터 채우기용 답변 단위 카운터를 primary에서 조회
+     * 읽기 전용 트랜잭션은 복제본으로 라우팅되므로 별도의 쓰기 가능 트랜잭션으로 실행
+     * (복제되지 않은 답변이 빠진 채 seeded로 표시되면 TTL 동안 수집 증가분만으로는 복구되지 않음)
+     */
+    private List<DailyAnswerCounterRow> findAnswerCountersOnPrimary(String userId, LocalDateTime startDateTime,
+                                                                    LocalDateTime endDateTime) {
+        TransactionTemplate primaryTransactionTemplate = new TransactionTemplate(transactionManager);
+        primaryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<DailyAnswerCounterRow> rows = primaryTransactionTemplate.execute(status -> userIdBackfillStatus.isCompleted()
+            ? questionAnswerRepository.findAnswerCountersByUserIdAndDateRange(userId, startDateTime, endDateTime)
+            : questionAnswerRepository.findAnswerCountersByUserIdAndDateRangeViaSession(userId, startDateTime, endDateTime));
+        return rows != null ? rows : List.of();
+    }
+
+    /**
+     * 답변 단위 카운터를 문제 유형별 합계로 집계 (getQuestionTypeCountersByUserIdAndDateRange와 같은 형태, 유형순)
+     */
+    private List<DailyQuestionTypeCounterRow> toQuestionTypeCounters(List<DailyAnswerCounterRow> answerRows) {
+        Map<String, long[]> countersByType = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        for (DailyAnswerCounterRow row : answerRows) {
+            long[] counters = countersByType.computeIfAbsent(row.questionType(), type -> new long[3]);
+            counters[0]++;
+            counters[1] += Boolean.TRUE.equals(row.isCorrect()) ? 1L : 0L;
+            counters[2] += row.timeSpent() != null ? row.timeSpent() : 0L;
+        }
+        List<DailyQuestionTypeCounterRow> rows = new ArrayList<>(countersByType.size());
+        countersByType.forEach((questionType, counters) ->
+            rows.add(new DailyQuestionTypeCounterRow(questionType, counters[0], counters[1], counters[2])));
+        return rows;
+    }
+
+    /**
+     * 총 학습 시간 요약과 마지막 학습 시각으로 성과 카드 구성 (뷰 재조회 없음)
+     * 누적 지표는 user_learning_analytics_view와 같은 기준(learning_sessions LEFT JOIN question_answer)으로 합산하고,
+     * 학습 일수는 /performance-card와 같이 마지막 학습일부터 오늘까지 경과 일수로 계산
+     */
+    public PerformanceCard buildPerformanceCard(String userId, LocalDate fromDate, LocalDate toDate,
+                                                LearningTimeSummary summary,
+                                                LocalDateTime lastLearningDate) {
+        if (summary.totalSessions() == 0) {
+            return createEmptyPerformanceCard(userId, fromDate, toDate);
+        }
+        
+        int totalSessions = summary.totalSessions();
+        int totalCorrectAnswers = summary.totalCorrectAnswers();
+        double totalMinutes = summary.totalLearningTimeMinutes();
+        
+        return PerformanceCard.builder()
+            .userId(userId)
+            .periodStart(fromDate)
+            .periodEnd(toDate)
+            .totalSessions(totalSessions)
+            .totalQuestions(summary.totalQuestions())
+            .totalCorrectAnswers(totalCorrectAnswers)
+            .overallAccuracyRate(summary.overallAccuracyRate())
+            .totalStudyTime((int) Math.round(totalMinutes))
+            .averageSessionTime(totalMinutes / Math.max(totalSessions, 1))
+            .totalScore(totalCorrectAnswers * 5.0)
+            .studyDays(calculateStudyDays(lastLearningDate))
+            .build();
+    }
+
+    /**
+     * 학습 시간을 읽기 쉬운 형태로 포맷팅
+     */
+    public String formatLearningTime(long totalSeconds) {
+        if (totalSeconds == 0) {
+            return "0시간 0분 0초";
+        }
+        
+        long hours = totalSeconds / 3600;
+        long minutes = (totalSeconds % 3600) / 60;
+        long seconds = totalSeconds % 60;
+        
+        StringBuilder formatted = new StringBuilder();
+        if (hours > 0) {
+            formatted.append(hours).append("시간 ");
+        }
+        if (minutes > 0 || hours > 0) {
+            formatted.append(minutes).append("분 ");
+        }
+        formatted.append(seconds).append("초");
+        
+        return formatted.toString();
+    }
 }
@@ -0,0 +1,193 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.analytics.DailyActivityData;
+import com.example.demo.dto.analytics.DashboardData;
+import com.example.demo.dto.analytics.LearningTimeSummary;
+import com.example.demo.dto.analytics.MonthlyLearningTime;
+import com.example.demo.dto.analytics.MonthlyLearningTimeSummary;
+import com.example.demo.dto.analytics.PerformanceCard;
+import com.example.demo.dto.analytics.QuestionTypeChartData;
+import com.example.demo.dto.analytics.WeeklyTrendData;
+import com.example.demo.entity.LearningSession;
+import com.example.demo.entity.QuestionAnswer;
+import com.example.demo.repository.LearningSessionRepository;
+import com.example.demo.repository.QuestionAnswerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 통합 조회 서비스
+ * - 대시보드 기간(최근 N주/N일)의 답변·세션을 한 번만 조회하고 모든 섹션이 공유
+ * - 누적 통계(총 학습 시간 요약, 월별)는 섹션 간 공유되는 집계 쿼리 1회씩만 실행
+ * - 조회와 섹션 계산은 dashboardExecutor(제한된 스레드 풀)에서 의존 관계에 따라 병렬 실행
+ * - 공유 데이터 조회는 읽기 전용 트랜잭션으로 실행 (복제본 라우팅 활성화 시 replica에서 조회)
+ */
+@Slf4j
+@Service
+public class LearningDashboardService {
+
+    private final LearningAnalyticsService learningAnalyticsService;
+    private final QuestionAnswerRepository questionAnswerRepository;
+    private final LearningSessionRepository learningSessionRepository;
+    private final QuestionAnswerUserIdBackfillStatus userIdBackfillStatus;
+    private final Executor dashboardExecutor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${learning.dashboard.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    public LearningDashboardService(LearningAnalyticsService learningAnalyticsService,
+                                    QuestionAnswerRepository questionAnswerRepository,
+                                    LearningSessionRepository learningSessionRepository,
+                                    QuestionAnswerUserIdBackfillStatus userIdBackfillStatus,
+                                    @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+                                    PlatformTransactionManager transactionManager) {
+        this.learningAnalyticsService = learningAnalyticsService;
+        this.questionAnswerRepository = questionAnswerRepository;
+        this.learningSessionRepository = learningSessionRepository;
+        this.userIdBackfillStatus = userIdBackfillStatus;
+        this.dashboardExecutor = dashboardExecutor;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 대시보드 통합 데이터 조회
+     *
+     * @param userId 사용자 ID
+     * @param weeks 주간 추이 주 수 (기본 8주)
+     * @param days 일별 활동/문제 유형별 성과 기간 (기본 30일)
+     * @param debug true이면 섹션별 소요 시간(ms)을 응답에 포함
+     */
+    public DashboardData getDashboard(String userId, int weeks, int days, boolean debug) {
+        long startedAt = System.nanoTime();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+
+        LocalDate today = LocalDate.now();
+        LocalDate currentWeekStart = today.with(DayOfWeek.MONDAY);
+        LocalDate weeklyFrom = currentWeekStart.minusWeeks(weeks - 1L);
+        LocalDate dailyFrom = today.minusDays(days - 1L);
+        LocalDate cardFrom = today.minusDays(6); // performance-card 기본값과 동일 (최근 7일)
+
+        // 모든 섹션이 필요로 하는 기간을 합친 조회 구간 (days가 7보다 작아도 성과 카드 기간을 포함)
+        LocalDate windowFrom = weeklyFrom.isBefore(dailyFrom) ? weeklyFrom : dailyFrom;
+        if (cardFrom.isBefore(windowFrom)) {
+            windowFrom = cardFrom;
+        }
+        LocalDateTime windowStart = windowFrom.atStartOfDay();
+        LocalDateTime windowEnd = currentWeekStart.plusDays(6).atTime(23, 59, 59);
+        LocalDateTime dailyStart = dailyFrom.atStartOfDay();
+        LocalDateTime dailyEnd = today.atTime(23, 59, 59);
+
+        // 1단계: 공유 데이터 조회 (서로 독립적이므로 병렬 실행)
+        CompletableFuture<List<QuestionAnswer>> answersFuture = load("answers", timings,
+            () -> userIdBackfillStatus.isCompleted()
+                ? questionAnswerRepository.findByUserIdAndAnsweredAtBetweenOrderByAnsweredAtAsc(userId, windowStart, windowEnd)
+                : questionAnswerRepository.findByUserIdAndAnsweredAtBetweenViaSession(userId, windowStart, windowEnd));
+        CompletableFuture<List<LearningSession>> sessionsFuture = load("sessions", timings,
+            () -> learningSessionRepository.findWeeklySessionsByUserIdAndDateRange(userId, weeklyFrom.atStartOfDay(), windowEnd));
+        CompletableFuture<LearningTimeSummary> learningTimeSummaryFuture = load("learningTimeSummary", timings,
+            () -> learningAnalyticsService.getLearningTimeSummary(userId));
+        CompletableFuture<LocalDateTime> lastLearningDateFuture = load("lastLearningDate", timings,
+            () -> learningAnalyticsService.getLastLearningDate(userId));
+        CompletableFuture<List<MonthlyLearningTime>> monthlyStatsFuture = load("monthlyStats", timings,
+            () -> learningAnalyticsService.getMonthlyLearningTimeStats(userId));
+
+        // 2단계: 섹션 계산 (필요한 데이터가 준비되는 대로 실행)
+        CompletableFuture<List<WeeklyTrendData>> weeklyTrendFuture = sessionsFuture.thenCombineAsync(answersFuture,
+            (sessions, answers) -> timed("weeklyTrend", timings,
+                () -> learningAnalyticsService.buildWeeklyTrend(sessions, answers, currentWeekStart, weeks)),
+            dashboardExecutor);
+        CompletableFuture<List<DailyActivityData>> dailyActivityFuture = answersFuture.thenApplyAsync(
+            answers -> timed("dailyActivity", timings,
+                () -> learningAnalyticsService.buildDailyActivity(answers, dailyFrom, today)),
+            dashboardExecutor);
+        CompletableFuture<List<QuestionTypeChartData>> questionTypeFuture = answersFuture.thenApplyAsync(
+            answers -> timed("questionTypeAccuracy", timings,
+                () -> learningAnalyticsService.buildQuestionTypeChart(answers, dailyStart, dailyEnd)),
+            dashboardExecutor);
+        CompletableFuture<PerformanceCard> performanceCardFuture = learningTimeSummaryFuture.thenCombineAsync(lastLearningDateFuture,
+            (summary, lastLearningDate) -> timed("performanceCard", timings,
+                () -> learningAnalyticsService.buildPerformanceCard(userId, cardFrom, today, summary, lastLearningDate)),
+            dashboardExecutor);
+        CompletableFuture<MonthlyLearningTimeSummary> monthlyLearningTimeFuture = monthlyStatsFuture.thenApplyAsync(
+            monthlyStats -> timed("monthlyLearningTime", timings,
+                () -> learningAnalyticsService.buildMonthlyLearningTimeSummary(userId, monthlyStats)),
+            dashboardExecutor);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        DashboardData dashboard = DashboardData.builder()
+            .userId(userId)
+            .generatedAt(LocalDateTime.now())
+            .performanceCard(await("performanceCard", performanceCardFuture, deadline, null))
+            .weeklyTrend(await("weeklyTrend", weeklyTrendFuture, deadline, Collections.emptyList()))
+            .dailyActivity(await("dailyActivity", dailyActivityFuture, deadline, Collections.emptyList()))
+            .questionTypeAccuracy(await("questionTypeAccuracy", questionTypeFuture, deadline, Collections.emptyList()))
+            .totalLearningTime(await("totalLearningTime", learningTimeSummaryFuture, deadline, null))
+            .monthlyLearningTime(await("monthlyLearningTime", monthlyLearningTimeFuture, deadline, null))
+            .build();
+
+        timings.put("total", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.debug("대시보드 섹션별 소요 시간: userId={}, timings={}", userId, timings);
+
+        if (debug) {
+            dashboard.setSectionTimings(new TreeMap<>(timings));
+        }
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<T> load(String name, Map<String, Long> timings, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(
+            () -> timed("load." + name, timings, () -> readOnlyTransactionTemplate.execute(status -> supplier.get())),
+            dashboardExecutor);
+    }
+
+    private <T> T timed(String name, Map<String, Long> timings, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            timings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 섹션 결과 대기 (전체 요청 기준 deadline까지)
+     * 실패하거나 시간이 초과된 섹션은 빈 값으로 응답하고 나머지 섹션은 정상 반환
+     */
+    private <T> T await(String name, CompletableFuture<T> future, long deadline, T fallback) {
+        try {
+            long remaining = Math.max(deadline - System.nanoTime(), 0L);
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.error("대시보드 섹션 시간 초과: section={}, timeoutMs={}", name, timeoutMillis);
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (Exception e) {
+            log.error("대시보드 섹션 계산 실패: section={}", name, e);
+            return fallback;
+        }
+    }
+}
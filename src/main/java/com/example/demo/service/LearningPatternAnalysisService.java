@@ -24,6 +24,9 @@ public class LearningPatternAnalysisService {
 
     @Autowired
     private LearningSessionRepository learningSessionRepository;
+
+    @Autowired
+    private QuestionAnswerUserIdBackfillStatus userIdBackfillStatus;
  
 
     /**
@@ -91,13 +94,8 @@ public class LearningPatternAnalysisService {
         List<LearningSession> sessions = learningSessionRepository.findByUserIdAndStartedAtBetweenOrderByCreatedAtDesc(
             userId, startDate, endDate);
         
-        // 전체 기간의 모든 문제 답변 데이터 수집
-        // QuestionAnswer에는 userId가 없으므로 sessionId를 통해 조회
-        List<QuestionAnswer> allAnswers = new ArrayList<>();
-        for (LearningSession session : sessions) {
-            List<QuestionAnswer> sessionAnswers = questionAnswerRepository.findBySessionIdOrderByAnsweredAtAsc(session.getSessionId());
-            allAnswers.addAll(sessionAnswers);
-        }
+        // 전체 기간의 모든 문제 답변 데이터 수집 (백필 완료 후 user_id, answered_at 인덱스 범위 스캔)
+        List<QuestionAnswer> allAnswers = findUserAnswers(userId, startDate, endDate);
         
         return buildCompleteLearningAnalysis(userId, startDate, endDate, sessions, allAnswers, previousAnalysis);
     }
@@ -112,17 +110,22 @@ public class LearningPatternAnalysisService {
         List<LearningSession> newSessions = learningSessionRepository.findByUserIdAndStartedAtBetweenOrderByCreatedAtDesc(
             userId, lastAnalyzedAt, endDate);
         
-        // QuestionAnswer에는 userId가 없으므로 sessionId를 통해 조회
-        List<QuestionAnswer> newAnswers = new ArrayList<>();
-        for (LearningSession session : newSessions) {
-            List<QuestionAnswer> sessionAnswers = questionAnswerRepository.findBySessionIdOrderByAnsweredAtAsc(session.getSessionId());
-            newAnswers.addAll(sessionAnswers);
-        }
+        List<QuestionAnswer> newAnswers = findUserAnswers(userId, lastAnalyzedAt, endDate);
         
         // 이전 분석 결과와 새로운 데이터 병합
         return mergeWithPreviousAnalysis(userId, startDate, endDate, previousAnalysis, newSessions, newAnswers);
     }
 
+    /**
+     * 사용자의 기간 내 답변 조회
+     * user_id 백필 완료가 기록되기 전에는 user_id가 비어 있는 기존 행도 포함되도록 learning_sessions JOIN으로 조회
+     */
+    private List<QuestionAnswer> findUserAnswers(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+        return userIdBackfillStatus.isCompleted()
+            ? questionAnswerRepository.findByUserIdAndAnsweredAtBetweenOrderByAnsweredAtAsc(userId, startDate, endDate)
+            : questionAnswerRepository.findByUserIdAndAnsweredAtBetweenViaSession(userId, startDate, endDate);
+    }
+
     /**
      * 문제 유형별 성과 분석 - 개별 세션용
      */
@@ -154,13 +157,12 @@ public class LearningPatternAnalysisService {
             if (sessionId != null) {
                 typeAnswers = questionAnswerRepository.findBySessionIdAndQuestionType(sessionId, typeName);
             } else {
-                typeAnswers = new ArrayList<>();
-                List<LearningSession> userSessions = learningSessionRepository
-                    .findByUserIdAndStartedAtBetweenOrderByCreatedAtDesc(userId, startDate, endDate);
-                for (LearningSession session : userSessions) {
-                    typeAnswers.addAll(questionAnswerRepository.findBySessionIdAndQuestionType(
-                        session.getSessionId(), typeName));
-                }
+                // 백필 완료 후 (user_id, question_type, answered_at) 인덱스 범위 스캔
+                typeAnswers = userIdBackfillStatus.isCompleted()
+                    ? questionAnswerRepository.findByUserIdAndQuestionTypeAndAnsweredAtBetweenOrderByAnsweredAtAsc(
+                        userId, typeName, startDate, endDate)
+                    : questionAnswerRepository.findByUserIdAndQuestionTypeAndAnsweredAtBetweenViaSession(
+                        userId, typeName, startDate, endDate);
             }
 
             if (!typeAnswers.isEmpty()) {
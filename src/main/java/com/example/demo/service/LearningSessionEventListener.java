@@ -1,6 +1,6 @@
 package com.example.demo.service;
 
-import com.example.demo.client.ProblemServiceClient;
+import com.example.demo.config.RecentWriteTracker;
 import com.example.demo.dto.LearningCompletedEvent;
 import com.example.demo.dto.analytics.LearningPatternAnalysisDTO;
 import com.example.demo.dto.problem.SessionDataResponseDto;
@@ -15,13 +15,20 @@ import com.example.demo.repository.QuestionAnswerRepository;
 import com.example.demo.repository.LearningSessionEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -34,16 +41,36 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class LearningSessionEventListener {
 
-    private final ProblemServiceClient problemServiceClient;
+    private static final String COMPLETE_ANALYSIS_LOCK_TYPE = "complete-analysis";
+
     private final SessionDataMappingService sessionDataMappingService;
     private final LearningPatternAnalysisService patternAnalysisService;
     private final LearningAnalysisEventPublisher eventPublisher;
     private final LearningPatternAnalysisRepository analysisRepository;
     private final LearningSessionRepository learningSessionRepository;
     private final QuestionAnswerRepository questionAnswerRepository;
+    private final QuestionAnswerKeyService questionAnswerKeyService;
     private final LearningSessionEventRepository sessionEventRepository;
     private final ObjectMapper objectMapper;
+    private final RecentWriteTracker recentWriteTracker;
+    private final UserDataWatermarkService userDataWatermarkService;
+    private final AnalyticsCacheEvictor analyticsCacheEvictor;
+    private final ObjectProvider<UserLiveCounterService> liveCounterServiceProvider;
+    private final ObjectProvider<DistributedLockService> distributedLockServiceProvider;
+    private final ObjectProvider<CompleteAnalysisRecomputeQueue> completeAnalysisRecomputeQueueProvider;
+    private final AnalysisWriteFenceService analysisWriteFenceService;
+
+    @Value("${learning.analysis.complete-lock.lease-ms:30000}")
+    private long completeAnalysisLockLeaseMillis;
 
+    /**
+     * 전체 분석 락 획득 결과
+     *
+     * @param busy 다른 인스턴스가 락을 가지고 있어 지금은 전체 분석을 계산할 수 없으면 true
+     * @param fencingToken 저장 시 확인할 펜싱 토큰 (락 없이 계산한 경우 null)
+     */
+    private record CompleteAnalysisLock(boolean busy, Long fencingToken) {
+    }
 
     /**
      * 학습 세션 완료 이벤트 구독 및 처리
@@ -79,7 +106,7 @@ public class LearningSessionEventListener {
             LearningSession session = sessionDataMappingService.mapToLearningSession(sessionData.getSession());
             String sessionType = session.getSessionType().name();
             List<QuestionAnswer> questionAnswers = sessionDataMappingService.mapToQuestionAnswers(
-                sessionData.getQuestions(), sessionId, sessionType);
+                sessionData.getQuestions(), sessionId, userId, sessionType);
             List<LearningSessionEvent> sessionEvents = sessionDataMappingService.mapToLearningSessionEvents(
                 sessionData.getEvents());
             long mappingElapsedTime = System.currentTimeMillis() - mappingStartTime;
@@ -177,71 +204,38 @@ public class LearningSessionEventListener {
             // 분석 기간 설정 (6단계에서도 사용)
             LocalDateTime analysisStartDate = LocalDateTime.now().minusDays(30);
             LocalDateTime analysisEndDate = LocalDateTime.now();
-            LearningPatternAnalysisDTO completeAnalysis = patternAnalysisService
-                .analyzeCompleteLearningIncremental(userId, analysisStartDate, analysisEndDate);
-            long completeAnalysisElapsedTime = System.currentTimeMillis() - completeAnalysisStartTime;
-            
-            // 전체 학습 분석 결과 상세 로그
-            log.info("   ├─ 📈 전체 학습 분석 결과 (기간: {} ~ {}):", 
-                analysisStartDate.toLocalDate(), analysisEndDate.toLocalDate());
-            log.info("   │  ├─ 전체 정답률: {:.2f}%", 
-                completeAnalysis.getOverallAccuracyRate() != null ? completeAnalysis.getOverallAccuracyRate() : 0.0);
-            log.info("   │  ├─ 평균 풀이 시간: {:.2f}초", 
-                completeAnalysis.getAverageSolvingTime() != null ? completeAnalysis.getAverageSolvingTime() : 0.0);
-            log.info("   │  ├─ 학습 빈도: {}", 
-                completeAnalysis.getStudyFrequency() != null ? completeAnalysis.getStudyFrequency() : "N/A");
-            log.info("   │  ├─ 선호 학습 시간: {}", 
-                completeAnalysis.getPreferredStudyTime() != null ? completeAnalysis.getPreferredStudyTime() : "N/A");
-            
-            // 문제 유형별 성과
-            if (completeAnalysis.getQuestionTypePerformances() != null && !completeAnalysis.getQuestionTypePerformances().isEmpty()) {
-                log.info("   │  ├─ 문제 유형별 성과 ({}개 유형):", completeAnalysis.getQuestionTypePerformances().size());
-                completeAnalysis.getQuestionTypePerformances().stream()
-                    .limit(5)
-                    .forEach(qtp -> 
-                        log.info("   │  │  ├─ {}: 정답률 {:.2f}%, 문제수 {}개", 
-                            qtp.getQuestionType(),
-                            qtp.getAccuracyRate() != null ? qtp.getAccuracyRate() : 0.0,
-                            qtp.getTotalQuestions() != null ? qtp.getTotalQuestions() : 0));
-                if (completeAnalysis.getQuestionTypePerformances().size() > 5) {
-                    log.info("   │  │  └─ ... 외 {}개 유형", completeAnalysis.getQuestionTypePerformances().size() - 5);
-                }
-            }
-            
-            // 복습/개선/강점 영역
-            if (completeAnalysis.getReviewRequiredTypes() != null && !completeAnalysis.getReviewRequiredTypes().isEmpty()) {
-                log.info("   │  ├─ 🔴 복습 필요 유형: {}", completeAnalysis.getReviewRequiredTypes());
-            }
-            if (completeAnalysis.getImprovementRequiredTypes() != null && !completeAnalysis.getImprovementRequiredTypes().isEmpty()) {
-                log.info("   │  ├─ 🟡 개선 필요 유형: {}", completeAnalysis.getImprovementRequiredTypes());
-            }
-            if (completeAnalysis.getStrengthTypes() != null && !completeAnalysis.getStrengthTypes().isEmpty()) {
-                log.info("   │  ├─ 🟢 강점 영역 유형: {}", completeAnalysis.getStrengthTypes());
+            // 같은 사용자의 전체 분석은 인스턴스 간 한 곳에서만 계산 (락은 트랜잭션 종료 시 해제)
+            CompleteAnalysisLock analysisLock = acquireCompleteAnalysisLock(userId);
+            LearningPatternAnalysisDTO completeAnalysis = null;
+            if (analysisLock.busy()) {
+                // 락을 기다리지 않고 커밋 후 재계산 대기열에 등록 (락이 풀린 뒤 이 세션을 포함하여 다시 계산하고 이벤트 발행)
+                completeAnalysisRecomputeQueueProvider.ifAvailable(queue -> queue.enqueueAfterCommit(userId, sessionId));
+                log.info("└─ ⏭️ 다른 인스턴스가 같은 사용자의 전체 분석을 수행 중이므로 재계산 예약: userId={}", userId);
+            } else {
+                completeAnalysis = patternAnalysisService
+                    .analyzeCompleteLearningIncremental(userId, analysisStartDate, analysisEndDate);
+                long completeAnalysisElapsedTime = System.currentTimeMillis() - completeAnalysisStartTime;
+                logCompleteAnalysisResult(completeAnalysis, analysisStartDate, analysisEndDate,
+                    completeAnalysisElapsedTime);
             }
-            if (completeAnalysis.getRecentWrongQuestionIds() != null && !completeAnalysis.getRecentWrongQuestionIds().isEmpty()) {
-                log.info("   │  ├─ 최근 오답 문제: {}개", completeAnalysis.getRecentWrongQuestionIds().size());
-            }
-            if (completeAnalysis.getLongIntervalTypes() != null && !completeAnalysis.getLongIntervalTypes().isEmpty()) {
-                log.info("   │  ├─ 학습 간격 긴 유형: {}", completeAnalysis.getLongIntervalTypes());
-            }
-            if (completeAnalysis.getSlowSolvingTypes() != null && !completeAnalysis.getSlowSolvingTypes().isEmpty()) {
-                log.info("   │  └─ 풀이 시간 긴 유형: {}", completeAnalysis.getSlowSolvingTypes());
-            }
-            
-            log.info("└─ ✅ 전체 학습 분석 완료 (정답률: {:.2f}%, 소요시간: {}ms)", 
-                completeAnalysis.getOverallAccuracyRate() != null ? completeAnalysis.getOverallAccuracyRate() : 0.0, 
-                completeAnalysisElapsedTime);
             
             log.info("┌─ [6단계] 데이터 및 분석 결과 저장");
             long saveStartTime = System.currentTimeMillis();
             
             // 6-1. 원본 데이터 저장 (향후 분석을 위한 이력 데이터)
             log.info("   ├─ 💾 세션 데이터 저장 중...");
-            learningSessionRepository.save(session);
+            // 답변 키(question_answer_key)가 세션을 외래키로 참조하므로 먼저 flush
+            learningSessionRepository.saveAndFlush(session);
             log.info("   │  └─ ✅ 세션 저장 완료: sessionId={}", session.getSessionId());
             
             log.info("   ├─ 💾 답변 데이터 저장 중... ({}개)", questionAnswers.size());
+            questionAnswerKeyService.register(questionAnswers); // 세션+문제 중복이면 여기서 중단
             questionAnswerRepository.saveAll(questionAnswers);
+            recentWriteTracker.markWritten(userId); // 커밋 후 lag window 동안 이 사용자의 읽기는 primary로
+            userDataWatermarkService.bump(userId); // 같은 트랜잭션에서 워터마크 증가 (조건부 요청 ETag 갱신)
+            analyticsCacheEvictor.evictUserAfterCommit(userId); // 커밋 후 이 사용자의 분석 캐시 제거
+            liveCounterServiceProvider.ifAvailable(
+                service -> service.recordAfterCommit(userId, questionAnswers)); // 커밋 후 실시간 카운터 증가
             log.info("   │  └─ ✅ 답변 저장 완료: {}개", questionAnswers.size());
             
             if (!sessionEvents.isEmpty()) {
@@ -255,7 +249,10 @@ public class LearningSessionEventListener {
             String sessionAnalysisId = saveSessionAnalysisResult(sessionAnalysis, session);
             log.info("   ├─ 💾 전체 학습 분석 결과 저장 중...");
             // analysisStartDate와 analysisEndDate는 5단계에서 이미 선언됨
-            String completeAnalysisId = saveCompleteAnalysisResult(completeAnalysis, analysisStartDate, analysisEndDate);
+            String completeAnalysisId = completeAnalysis != null
+                ? saveCompleteAnalysisResult(completeAnalysis, analysisStartDate, analysisEndDate,
+                    analysisLock.fencingToken())
+                : null;
             long saveElapsedTime = System.currentTimeMillis() - saveStartTime;
             log.info("   ├─ 저장된 분석 ID:");
             log.info("   │  ├─ 개별 세션 분석 ID: {}", sessionAnalysisId);
@@ -266,14 +263,18 @@ public class LearningSessionEventListener {
             log.info("┌─ [7단계] 분석 완료 이벤트 발행 (분석 데이터 포함)");
             long eventStartTime = System.currentTimeMillis();
 
-            eventPublisher.publishWithAnalysisData(
-                userId, sessionAnalysisId, completeAnalysisId, sessionId,
-                completeAnalysis,
-                sessionResult.getTotalDuration(),
-                sessionResult.getTotalQuestions());
-
-            long eventElapsedTime = System.currentTimeMillis() - eventStartTime;
-            log.info("└─ ✅ 이벤트 발행 완료 (소요시간: {}ms)", eventElapsedTime);
+            // 이벤트 내용은 항상 전체 분석 기준 (전체 분석을 예약한 경우 재계산 후 이 세션 ID로 발행)
+            if (completeAnalysis != null) {
+                eventPublisher.publishWithAnalysisData(
+                    userId, sessionAnalysisId, completeAnalysisId, sessionId,
+                    completeAnalysis,
+                    sessionResult.getTotalDuration(),
+                    sessionResult.getTotalQuestions());
+                long eventElapsedTime = System.currentTimeMillis() - eventStartTime;
+                log.info("└─ ✅ 이벤트 발행 완료 (소요시간: {}ms)", eventElapsedTime);
+            } else {
+                log.info("└─ ⏭️ 전체 분석 재계산 후 발행 예정: sessionId={}", sessionId);
+            }
             
             long totalElapsedTime = System.currentTimeMillis() - startTime;
             log.info("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━");
@@ -305,6 +306,139 @@ public class LearningSessionEventListener {
         }
     }
 
+    /**
+     * 전체 분석 재계산 (세션 처리 중 락을 얻지 못해 CompleteAnalysisRecomputeQueue에 등록된 사용자)
+     * 세션 처리와 같은 방식으로 락을 얻어 한 번 계산/저장하고, 캐시 무효화와 워터마크 증가 후
+     * 발행을 미룬 세션마다 분석 완료 이벤트를 발행 (세션 처리 경로와 같은 이벤트 형태)
+     *
+     * @param sessionIds 전체 분석 없이 처리되어 이벤트 발행을 미룬 세션 ID
+     * @return 다른 인스턴스가 아직 락을 가지고 있거나 펜싱으로 저장이 거절되어 다시 등록해야 하면 false
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public boolean recomputeCompleteAnalysis(String userId, Collection<String> sessionIds) {
+        CompleteAnalysisLock analysisLock = acquireCompleteAnalysisLock(userId);
+        if (analysisLock.busy()) {
+            return false;
+        }
+
+        long startTime = System.currentTimeMillis();
+        LocalDateTime analysisStartDate = LocalDateTime.now().minusDays(30);
+        LocalDateTime analysisEndDate = LocalDateTime.now();
+        LearningPatternAnalysisDTO completeAnalysis = patternAnalysisService
+            .analyzeCompleteLearningIncremental(userId, analysisStartDate, analysisEndDate);
+        String completeAnalysisId = saveCompleteAnalysisResult(completeAnalysis, analysisStartDate, analysisEndDate,
+            analysisLock.fencingToken());
+        if (completeAnalysisId == null) {
+            // 계산 중 lease를 잃어 펜싱으로 저장이 거절됨 → 미룬 이벤트를 버리지 않도록 다시 등록
+            log.warn("전체 분석 재계산 저장 거절(펜싱), 다시 등록: userId={}", userId);
+            return false;
+        }
+        recentWriteTracker.markWritten(userId); // 커밋 후 lag window 동안 이 사용자의 읽기는 primary로
+        userDataWatermarkService.bump(userId); // 같은 트랜잭션에서 워터마크 증가 (조건부 요청 ETag 갱신)
+        analyticsCacheEvictor.evictUserAfterCommit(userId); // 커밋 후 저장된 패턴 등 분석 캐시 제거
+        for (String sessionId : sessionIds) {
+            eventPublisher.publishWithAnalysisData(userId, null, completeAnalysisId, sessionId,
+                completeAnalysis, 0L, 0);
+        }
+        log.info("전체 분석 재계산 완료: userId={}, analysisId={}, 소요시간={}ms",
+            userId, completeAnalysisId, System.currentTimeMillis() - startTime);
+        return true;
+    }
+
+    /**
+     * 사용자별 전체 분석 락 획득 (대기 없음, 수집 트랜잭션과 컨슈머를 붙잡지 않도록 바로 반환)
+     * - Redis가 없거나 락 서버 오류면 락 없이 계산 (펜싱 확인 없음)
+     * - 획득한 락은 워치독이 연장하고 트랜잭션 종료(커밋/롤백) 후 해제하여 저장이 끝날 때까지 유지
+     */
+    private CompleteAnalysisLock acquireCompleteAnalysisLock(String userId) {
+        DistributedLockService lockService = distributedLockServiceProvider.getIfAvailable();
+        if (lockService == null) {
+            return new CompleteAnalysisLock(false, null);
+        }
+        Optional<DistributedLockService.Lock> acquired;
+        try {
+            acquired = lockService.tryLock(COMPLETE_ANALYSIS_LOCK_TYPE, userId,
+                Duration.ofMillis(completeAnalysisLockLeaseMillis));
+        } catch (Exception e) {
+            log.error("전체 분석 락 획득 오류, 락 없이 계산: userId={}", userId, e);
+            return new CompleteAnalysisLock(false, null);
+        }
+        if (acquired.isEmpty()) {
+            return new CompleteAnalysisLock(true, null);
+        }
+
+        DistributedLockService.Lock lock = acquired.get();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.close();
+                }
+            });
+        } else {
+            lock.close();
+        }
+        return new CompleteAnalysisLock(false, lock.fencingToken());
+    }
+
+    /**
+     * 전체 학습 분석 결과 상세 로그
+     */
+    private void logCompleteAnalysisResult(LearningPatternAnalysisDTO completeAnalysis,
+                                           LocalDateTime analysisStartDate,
+                                           LocalDateTime analysisEndDate,
+                                           long completeAnalysisElapsedTime) {
+        log.info("   ├─ 📈 전체 학습 분석 결과 (기간: {} ~ {}):", 
+            analysisStartDate.toLocalDate(), analysisEndDate.toLocalDate());
+        log.info("   │  ├─ 전체 정답률: {:.2f}%", 
+            completeAnalysis.getOverallAccuracyRate() != null ? completeAnalysis.getOverallAccuracyRate() : 0.0);
+        log.info("   │  ├─ 평균 풀이 시간: {:.2f}초", 
+            completeAnalysis.getAverageSolvingTime() != null ? completeAnalysis.getAverageSolvingTime() : 0.0);
+        log.info("   │  ├─ 학습 빈도: {}", 
+            completeAnalysis.getStudyFrequency() != null ? completeAnalysis.getStudyFrequency() : "N/A");
+        log.info("   │  ├─ 선호 학습 시간: {}", 
+            completeAnalysis.getPreferredStudyTime() != null ? completeAnalysis.getPreferredStudyTime() : "N/A");
+        
+        // 문제 유형별 성과
+        if (completeAnalysis.getQuestionTypePerformances() != null && !completeAnalysis.getQuestionTypePerformances().isEmpty()) {
+            log.info("   │  ├─ 문제 유형별 성과 ({}개 유형):", completeAnalysis.getQuestionTypePerformances().size());
+            completeAnalysis.getQuestionTypePerformances().stream()
+                .limit(5)
+                .forEach(qtp -> 
+                    log.info("   │  │  ├─ {}: 정답률 {:.2f}%, 문제수 {}개", 
+                        qtp.getQuestionType(),
+                        qtp.getAccuracyRate() != null ? qtp.getAccuracyRate() : 0.0,
+                        qtp.getTotalQuestions() != null ? qtp.getTotalQuestions() : 0));
+            if (completeAnalysis.getQuestionTypePerformances().size() > 5) {
+                log.info("   │  │  └─ ... 외 {}개 유형", completeAnalysis.getQuestionTypePerformances().size() - 5);
+            }
+        }
+        
+        // 복습/개선/강점 영역
+        if (completeAnalysis.getReviewRequiredTypes() != null && !completeAnalysis.getReviewRequiredTypes().isEmpty()) {
+            log.info("   │  ├─ 🔴 복습 필요 유형: {}", completeAnalysis.getReviewRequiredTypes());
+        }
+        if (completeAnalysis.getImprovementRequiredTypes() != null && !completeAnalysis.getImprovementRequiredTypes().isEmpty()) {
+            log.info("   │  ├─ 🟡 개선 필요 유형: {}", completeAnalysis.getImprovementRequiredTypes());
+        }
+        if (completeAnalysis.getStrengthTypes() != null && !completeAnalysis.getStrengthTypes().isEmpty()) {
+            log.info("   │  ├─ 🟢 강점 영역 유형: {}", completeAnalysis.getStrengthTypes());
+        }
+        if (completeAnalysis.getRecentWrongQuestionIds() != null && !completeAnalysis.getRecentWrongQuestionIds().isEmpty()) {
+            log.info("   │  ├─ 최근 오답 문제: {}개", completeAnalysis.getRecentWrongQuestionIds().size());
+        }
+        if (completeAnalysis.getLongIntervalTypes() != null && !completeAnalysis.getLongIntervalTypes().isEmpty()) {
+            log.info("   │  ├─ 학습 간격 긴 유형: {}", completeAnalysis.getLongIntervalTypes());
+        }
+        if (completeAnalysis.getSlowSolvingTypes() != null && !completeAnalysis.getSlowSolvingTypes().isEmpty()) {
+            log.info("   │  └─ 풀이 시간 긴 유형: {}", completeAnalysis.getSlowSolvingTypes());
+        }
+        
+        log.info("└─ ✅ 전체 학습 분석 완료 (정답률: {:.2f}%, 소요시간: {}ms)", 
+            completeAnalysis.getOverallAccuracyRate() != null ? completeAnalysis.getOverallAccuracyRate() : 0.0, 
+            completeAnalysisElapsedTime);
+    }
+
     /**
      * Kafka 이벤트 데이터로 SessionDataResponseDto를 구성 (ProblemService REST 호출 대체)
      * 이벤트에 answers가 없으면 빈 DTO 반환 (분석은 데이터 없음 처리)
@@ -465,8 +599,15 @@ public class LearningSessionEventListener {
      */
     private String saveCompleteAnalysisResult(LearningPatternAnalysisDTO analysis, 
                                              LocalDateTime startDate, 
-                                             LocalDateTime endDate) {
+                                             LocalDateTime endDate,
+                                             Long fencingToken) {
         try {
+            // lease를 잃은 동안 다른 인스턴스가 더 최신 분석을 저장했으면 덮어쓰지 않음
+            if (fencingToken != null
+                && !analysisWriteFenceService.tryAdvance(analysis.getUserId(), "COMPLETE_ANALYSIS", fencingToken)) {
+                return null;
+            }
+
             LocalDateTime analyzedAt = analysis.getAnalyzedAt() != null 
                 ? analysis.getAnalyzedAt() 
                 : LocalDateTime.now();
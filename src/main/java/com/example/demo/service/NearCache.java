@@ -0,0 +1,196 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Redis(L2) 앞단의 프로세스 내 L1 캐시 (near cache)
+ * - 설정한 키 네임스페이스(learning.cache.near.namespaces, 예: categories, user:stats)만 L1에 보관
+ * - 최대 개수(max-entries)와 TTL(ttl-ms) 기준으로 제거
+ * - 값 변경/삭제 시 Redis pub/sub(INVALIDATION_CHANNEL)으로 다른 파드의 L1 항목도 무효화
+ *   메시지 유실(재연결 등) 시에도 최대 ttl-ms 이후에는 Redis 값으로 갱신됨
+ * - 무효화마다 키의 버전(키 해시별 stripe 카운터)을 올리고, Redis 조회 전에 읽은 버전이 바뀌었으면 L1에 넣지 않음
+ *   (무효화 전에 읽은 값이 무효화 후에 L1에 들어가 TTL 동안 이전 값으로 응답하는 경쟁 방지)
+ * - L1에 보관된 객체는 여러 요청이 공유하므로 호출 측에서 수정하지 않아야 함
+ * - 조회 결과는 learning.cache.requests{tier=l1|l2, result=hit|miss, namespace} 카운터로 노출
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class NearCache {
+
+    public static final String INVALIDATION_CHANNEL = RedisCacheConfig.KEY_PREFIX + ":near-cache:invalidate";
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+    private static final int VERSION_STRIPES = 1024;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Object> cache;
+    private final List<String> namespaces;
+    private final boolean enabled;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public NearCache(StringRedisTemplate stringRedisTemplate,
+                     MeterRegistry meterRegistry,
+                     @Value("${learning.cache.near.enabled:true}") boolean enabled,
+                     @Value("${learning.cache.near.namespaces:categories}") List<String> namespaces,
+                     @Value("${learning.cache.near.max-entries:10000}") long maxEntries,
+                     @Value("${learning.cache.near.ttl-ms:30000}") long ttlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.namespaces = namespaces.stream().map(String::trim).filter(ns -> !ns.isEmpty()).toList();
+        this.enabled = enabled && !this.namespaces.isEmpty();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .build();
+
+        Gauge.builder("learning.cache.near.size", cache, Cache::estimatedSize)
+            .description("L1 캐시 항목 수")
+            .register(meterRegistry);
+        log.info("L1 near cache 설정: enabled={}, namespaces={}, maxEntries={}, ttlMs={}",
+            this.enabled, this.namespaces, maxEntries, ttlMillis);
+    }
+
+    /**
+     * L1 대상 키의 네임스페이스 (대상이 아니면 null)
+     */
+    private String namespaceOf(String key) {
+        if (!enabled) {
+            return null;
+        }
+        for (String namespace : namespaces) {
+            if (key.startsWith(namespace + ":")) {
+                return namespace;
+            }
+        }
+        return null;
+    }
+
+    public boolean isNearCached(String key) {
+        return namespaceOf(key) != null;
+    }
+
+    /**
+     * L1 조회 (L1 대상이 아니거나 없으면 null)
+     */
+    public Object get(String key) {
+        String namespace = namespaceOf(key);
+        if (namespace == null) {
+            return null;
+        }
+        Object value = cache.getIfPresent(key);
+        record("l1", value != null, namespace);
+        return value;
+    }
+
+    /**
+     * 키의 현재 무효화 버전 (Redis 조회 전에 읽어 put에 전달)
+     */
+    public long versionOf(String key) {
+        return versions.get(stripeOf(key));
+    }
+
+    /**
+     * L1 저장 (조회 전에 읽은 버전 이후 무효화가 있었으면 저장하지 않음)
+     * 버전 확인과 저장을 같은 키의 compute 안에서 수행하여, 무효화(버전 증가 → 제거)와 엇갈려도 이전 값이 남지 않음
+     */
+    public void put(String key, Object value, long version) {
+        if (value == null || !isNearCached(key)) {
+            return;
+        }
+        cache.asMap().compute(key, (k, current) -> versionOf(k) == version ? value : current);
+    }
+
+    /**
+     * L2(Redis) 조회 결과 기록
+     */
+    public void recordL2(String key, boolean hit) {
+        String namespace = namespaceOf(key);
+        record("l2", hit, namespace != null ? namespace : rootNamespace(key));
+    }
+
+    /**
+     * 값 변경/삭제 후 호출: 로컬 L1 제거 + 다른 파드에 무효화 메시지 발행
+     */
+    public void invalidate(Collection<String> keys) {
+        List<String> nearKeys = keys.stream().filter(this::isNearCached).toList();
+        if (nearKeys.isEmpty()) {
+            return;
+        }
+        nearKeys.forEach(this::invalidateLocal);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                instanceId + MESSAGE_SEPARATOR + String.join(MESSAGE_SEPARATOR, nearKeys));
+        } catch (Exception e) {
+            log.error("L1 캐시 무효화 메시지 발행 실패: keys={}", nearKeys.size(), e);
+        }
+    }
+
+    public void invalidate(String key) {
+        invalidate(List.of(key));
+    }
+
+    /**
+     * 다른 파드에서 발행한 무효화 메시지 처리 (자신이 발행한 메시지는 이미 반영되었으므로 무시)
+     */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split(MESSAGE_SEPARATOR);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        for (int i = 1; i < parts.length; i++) {
+            invalidateLocal(parts[i]);
+        }
+        log.debug("L1 캐시 원격 무효화: keys={}", parts.length - 1);
+    }
+
+    /**
+     * 버전을 먼저 올린 뒤 제거 (진행 중인 조회가 이후에 put해도 버전 불일치로 저장되지 않음)
+     */
+    private void invalidateLocal(String key) {
+        versions.incrementAndGet(stripeOf(key));
+        cache.invalidate(key);
+    }
+
+    private int stripeOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    private String rootNamespace(String key) {
+        int separator = key.indexOf(':');
+        return separator > 0 ? key.substring(0, separator) : key;
+    }
+
+    private void record(String tier, boolean hit, String namespace) {
+        String result = hit ? "hit" : "miss";
+        counters.computeIfAbsent(tier + ":" + result + ":" + namespace, k -> Counter.builder("learning.cache.requests")
+                .description("캐시 계층별 조회 결과")
+                .tag("tier", tier)
+                .tag("result", result)
+                .tag("namespace", namespace)
+                .register(meterRegistry))
+            .increment();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.QuestionAnswer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 답변 중복 방지 키 등록 (question_answer_key)
+ * - 파티션된 question_answer의 UNIQUE 키에는 answered_at이 포함되어 (세션, 문제, 세션 타입) 중복을 막지 못하므로
+ *   파티션되지 않은 키 테이블의 PK로 중복을 막고, 외래키로 learning_sessions 존재를 확인
+ * - 수집 트랜잭션 안에서 답변 저장 전에 호출 (중복이면 DuplicateKeyException, 세션이 없으면 DataIntegrityViolationException)
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionAnswerKeyService {
+
+    private static final String INSERT_KEY_SQL =
+        "INSERT INTO question_answer_key (session_id, question_id, session_type) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답변 키 등록 (세션은 같은 트랜잭션에서 먼저 flush되어 있어야 함)
+     */
+    public void register(List<QuestionAnswer> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_KEY_SQL, answers, answers.size(), (ps, answer) -> {
+            ps.setString(1, answer.getSessionId());
+            ps.setString(2, answer.getQuestionId());
+            ps.setString(3, answer.getSessionType());
+        });
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * question_answer 월별 파티션 유지보수 잡
+ * - p_future(MAXVALUE)를 분할하여 앞으로 monthsAhead개월치 월별 파티션(pYYYYMM)을 미리 생성
+ * - 보존 기간(retentionMonths)이 지난 파티션은 CSV(gzip)로 내보낸 뒤 DROP PARTITION
+ *   아카이브 디렉터리(archive-dir)는 모든 파드가 마운트하는 공유 볼륨이어야 함 (docker: question-answer-archive 볼륨)
+ * - 파티션되지 않은 기존 테이블은 convert-existing=true일 때만 변환 (테이블 전체 재작성이므로 기본 비활성화)
+ * - DDL(REORGANIZE/DROP PARTITION)과 아카이브는 분산 락(DistributedLockService)을 얻은 파드 하나만 실행
+ *   (Redis가 없는 단일 인스턴스 구성은 락 없이 실행, 락을 잃으면 다음 DDL 전에 중단)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "learning.partition.question-answer.enabled", havingValue = "true", matchIfMissing = true)
+public class QuestionAnswerPartitionMaintenanceJob {
+
+    private static final String TABLE_NAME = "question_answer";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String HISTORY_PARTITION = "p_history";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String LOCK_TYPE = "partition-maintenance";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+
+    private static final String ARCHIVE_COLUMNS =
+        "id, session_id, user_id, question_id, session_type, question_type, major_category, minor_category, " +
+        "difficulty_level, user_answer, is_correct, time_spent, answered_at, solve_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final UserDataWatermarkService userDataWatermarkService;
+    private final ObjectProvider<DistributedLockService> distributedLockServiceProvider;
+
+    @Value("${learning.partition.question-answer.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${learning.partition.question-answer.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${learning.partition.question-answer.archive-enabled:true}")
+    private boolean archiveEnabled;
+
+    @Value("${learning.partition.question-answer.archive-dir:./archive/question_answer}")
+    private String archiveDir;
+
+    @Value("${learning.partition.question-answer.convert-existing:false}")
+    private boolean convertExisting;
+
+    public QuestionAnswerPartitionMaintenanceJob(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                                 UserDataWatermarkService userDataWatermarkService,
+                                                 ObjectProvider<DistributedLockService> distributedLockServiceProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userDataWatermarkService = userDataWatermarkService;
+        this.distributedLockServiceProvider = distributedLockServiceProvider;
+        // MySQL Connector/J는 fetchSize=Integer.MIN_VALUE일 때 결과를 행 단위로 스트리밍 (아카이브 시 메모리 사용 제한)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 기동 후 initial-delay-ms 뒤 1회, 이후 interval-ms(기본 1일) 간격으로 실행
+     */
+    @Scheduled(initialDelayString = "${learning.partition.question-answer.initial-delay-ms:60000}",
+               fixedDelayString = "${learning.partition.question-answer.interval-ms:86400000}")
+    public void run() {
+        Optional<DistributedLockService.Lock> lock;
+        DistributedLockService lockService = distributedLockServiceProvider.getIfAvailable();
+        if (lockService == null) {
+            lock = Optional.empty();
+        } else {
+            try {
+                lock = lockService.tryLock(LOCK_TYPE, TABLE_NAME, LOCK_LEASE);
+            } catch (Exception e) {
+                // 다른 파드와 동시에 DDL을 실행하지 않도록 락을 확인할 수 없으면 이번 주기는 생략
+                log.error("question_answer 파티션 유지보수 락 획득 실패", e);
+                return;
+            }
+            if (lock.isEmpty()) {
+                log.info("question_answer 파티션 유지보수: 다른 파드가 실행 중");
+                return;
+            }
+        }
+
+        try {
+            List<PartitionInfo> partitions = loadPartitions();
+
+            if (partitions.isEmpty()) {
+                if (!convertExisting) {
+                    log.warn("question_answer 테이블이 파티션되어 있지 않음 (learning.partition.question-answer.convert-existing=true로 변환 가능)");
+                    return;
+                }
+                convertToPartitionedTable();
+                partitions = loadPartitions();
+            }
+
+            if (!isHeld(lock)) {
+                return;
+            }
+            ensureFuturePartitions(partitions);
+            purgeExpiredPartitions(loadPartitions(), lock);
+
+        } catch (Exception e) {
+            log.error("question_answer 파티션 유지보수 실패", e);
+        } finally {
+            lock.ifPresent(DistributedLockService.Lock::close);
+        }
+    }
+
+    /**
+     * 락 없이 실행 중이거나 락을 계속 가지고 있으면 true (lease를 잃었으면 다음 파드가 이어서 처리하도록 중단)
+     */
+    private boolean isHeld(Optional<DistributedLockService.Lock> lock) {
+        if (lock.isPresent() && !lock.get().isHeld()) {
+            log.warn("question_answer 파티션 유지보수 락 상실, 중단");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 마지막 월별 파티션 이후부터 현재 + monthsAhead개월까지 p_future를 분할
+     * p_future에 이미 데이터가 있으면(초기 설치, 더미 데이터) 가장 오래된 데이터의 월부터 생성
+     */
+    private void ensureFuturePartitions(List<PartitionInfo> partitions) {
+        PartitionInfo future = partitions.get(partitions.size() - 1);
+        if (!FUTURE_PARTITION.equals(future.name())) {
+            log.warn("question_answer 마지막 파티션이 {}가 아님: {}", FUTURE_PARTITION, future.name());
+            return;
+        }
+
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth next = firstMonthToCreate(partitions);
+        if (next.isAfter(target)) {
+            return;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(target); month = month.plusMonths(1)) {
+            definitions.add(String.format("PARTITION %s VALUES LESS THAN ('%s')",
+                month.format(PARTITION_NAME_FORMAT),
+                month.plusMonths(1).atDay(1).atStartOfDay().format(BOUNDARY_FORMAT)));
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        log.info("question_answer 파티션 생성: {} ~ {}", next, target);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION +
+            " INTO (" + String.join(", ", definitions) + ")");
+    }
+
+    private YearMonth firstMonthToCreate(List<PartitionInfo> partitions) {
+        // p_future 바로 앞 파티션의 상한이 다음 월 파티션의 시작
+        LocalDateTime lastBound = partitions.size() >= 2 ? partitions.get(partitions.size() - 2).upperBound() : null;
+        YearMonth next = lastBound != null ? YearMonth.from(lastBound) : YearMonth.now();
+
+        // 이미 p_future에 들어온 데이터가 있으면 그 월부터, 없으면 현재 월부터 생성 (빈 과거 월 파티션은 만들지 않음)
+        LocalDateTime oldestInFuture = jdbcTemplate.queryForObject(
+            "SELECT MIN(answered_at) FROM " + TABLE_NAME + " PARTITION (" + FUTURE_PARTITION + ")", LocalDateTime.class);
+        YearMonth lowest = oldestInFuture != null ? YearMonth.from(oldestInFuture) : YearMonth.now();
+
+        return lowest.isAfter(next) ? lowest : next;
+    }
+
+    /**
+     * 상한이 보존 기준일 이하인 파티션(모든 행이 보존 기간 밖)을 아카이브 후 DROP
+     * 아카이브 파일의 행 수가 파티션 행 수와 일치할 때만 삭제
+     */
+    private void purgeExpiredPartitions(List<PartitionInfo> partitions,
+                                        Optional<DistributedLockService.Lock> lock) throws IOException {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+
+        for (PartitionInfo partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+
+            long rowCount = countRows(partition.name());
+            if (rowCount == 0 && HISTORY_PARTITION.equals(partition.name())) {
+                // 비어 있는 p_history는 하한 역할만 하므로 유지
+                continue;
+            }
+
+            if (archiveEnabled && rowCount > 0) {
+                long exported = archivePartition(partition.name());
+                if (exported != rowCount) {
+                    log.error("question_answer 파티션 아카이브 행 수 불일치로 삭제 중단: partition={}, rows={}, exported={}",
+                        partition.name(), rowCount, exported);
+                    return;
+                }
+            }
+
+            if (!isHeld(lock)) {
+                return;
+            }
+            log.info("question_answer 만료 파티션 삭제: partition={}, rows={}", partition.name(), rowCount);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partition.name());
+            if (rowCount > 0) {
+                // 삭제된 답변이 누적 통계에서 빠지므로 캐시된 응답(ETag) 무효화
+                userDataWatermarkService.bumpGlobal();
+            }
+        }
+    }
+
+    /**
+     * 파티션 데이터를 {archiveDir}/question_answer_{partition}.csv.gz로 내보냄
+     * 임시 파일에 쓴 뒤 이동하여 중간에 실패해도 불완전한 아카이브가 남지 않도록 함
+     */
+    private long archivePartition(String partitionName) throws IOException {
+        Path dir = Paths.get(archiveDir);
+        Files.createDirectories(dir);
+        Path target = dir.resolve(TABLE_NAME + "_" + partitionName + ".csv.gz");
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+
+        AtomicLong exported = new AtomicLong();
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+
+            writer.write(ARCHIVE_COLUMNS.replace(" ", ""));
+            writer.newLine();
+
+            streamingJdbcTemplate.query(
+                "SELECT " + ARCHIVE_COLUMNS + " FROM " + TABLE_NAME + " PARTITION (" + partitionName + ")",
+                (ResultSet rs) -> {
+                    try {
+                        writer.write(toCsvLine(rs));
+                        writer.newLine();
+                        exported.incrementAndGet();
+                    } catch (IOException e) {
+                        throw new SQLException("아카이브 파일 쓰기 실패: " + temp, e);
+                    }
+                });
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("question_answer 파티션 아카이브 완료: partition={}, rows={}, file={}", partitionName, exported.get(), target);
+        return exported.get();
+    }
+
+    private String toCsvLine(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        StringBuilder line = new StringBuilder();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (i > 1) {
+                line.append(',');
+            }
+            String value = rs.getString(i);
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * 파티션되지 않은 기존 question_answer를 월별 파티션 테이블로 변환
+     * 외래키 제거, PK/UNIQUE 키에 answered_at 추가 후 현재 월 이전 데이터는 p_history에 둠
+     * 제거되는 중복 방지(세션+문제) 및 learning_sessions 참조 제약은 question_answer_key가 대신하므로 기존 행의 키를 먼저 채움
+     */
+    private void convertToPartitionedTable() {
+        log.info("question_answer_key 채우기 (기존 답변의 세션+문제 키)");
+        jdbcTemplate.execute("INSERT IGNORE INTO question_answer_key (session_id, question_id, session_type) " +
+            "SELECT qa.session_id, qa.question_id, qa.session_type FROM " + TABLE_NAME + " qa " +
+            "JOIN learning_sessions ls ON qa.session_id = ls.session_id");
+
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+            "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+            String.class, TABLE_NAME);
+        for (String foreignKey : foreignKeys) {
+            log.info("question_answer 외래키 제거: {}", foreignKey);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        log.info("question_answer PK/UNIQUE 키에 answered_at 추가");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME +
+            " DROP PRIMARY KEY, ADD PRIMARY KEY (id, answered_at)," +
+            " DROP INDEX uk_session_question_answer," +
+            " ADD UNIQUE KEY uk_session_question_answer (session_id, question_id, session_type, answered_at)");
+
+        String historyBound = LocalDate.now().withDayOfMonth(1).atStartOfDay().format(BOUNDARY_FORMAT);
+        log.info("question_answer 파티션 변환 시작 (p_history < {})", historyBound);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " PARTITION BY RANGE COLUMNS(answered_at) (" +
+            "PARTITION " + HISTORY_PARTITION + " VALUES LESS THAN ('" + historyBound + "'), " +
+            "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("question_answer 파티션 변환 완료");
+    }
+
+    private List<PartitionInfo> loadPartitions() {
+        return jdbcTemplate.query(
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION",
+            (rs, rowNum) -> new PartitionInfo(rs.getString(1), parseUpperBound(rs.getString(2))),
+            TABLE_NAME);
+    }
+
+    private long countRows(String partitionName) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + TABLE_NAME + " PARTITION (" + partitionName + ")", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 상한 파싱 ('2026-11-01 00:00:00' 또는 MAXVALUE)
+     */
+    private LocalDateTime parseUpperBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.substring(0, 19), BOUNDARY_FORMAT);
+    }
+
+    private record PartitionInfo(String name, LocalDateTime upperBound) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * question_answer.user_id 온라인 백필 잡
+ * - 컬럼과 복합 인덱스는 시작 시 스키마 단계에서 추가됨 (DB-scripts/question-answer-user-id.sql, prod는 Flyway V2)
+ *   이 잡은 기존 행 채우기만 담당하므로 꺼져 있거나 늦게 실행되어도 수집/조회는 learning_sessions JOIN으로 동작
+ * - user_id가 비어 있는 기존 행을 id 구간 단위의 짧은 트랜잭션으로 learning_sessions에서 채움
+ * - 분산 락(DistributedLockService)을 얻은 파드 하나만 실행 (Redis가 없는 단일 인스턴스 구성은 락 없이 실행)
+ * - 진행 위치와 완료 시각은 data_backfill_status에 저장하여 재시작/다른 파드에서도 이어서 처리
+ * - 완료가 기록되면 사용자 범위 조회가 learning_sessions JOIN에서 user_id 인덱스로 전환됨 (QuestionAnswerUserIdBackfillStatus)
+ * - 신규 행은 수집 시점(SessionDataMappingService)에 user_id가 채워지므로 한 번 완료되면 더 이상 동작하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "learning.backfill.question-answer-user-id.enabled", havingValue = "true", matchIfMissing = true)
+public class QuestionAnswerUserIdBackfillJob {
+
+    private static final String LOCK_TYPE = "backfill";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(1);
+
+    private static final String BACKFILL_SQL = """
+        UPDATE question_answer qa
+        JOIN learning_sessions ls ON qa.session_id = ls.session_id
+        SET qa.user_id = ls.user_id
+        WHERE qa.user_id IS NULL
+          AND qa.id > ? AND qa.id <= ?
+        """;
+
+    private static final String SAVE_PROGRESS_SQL = """
+        UPDATE data_backfill_status
+        SET last_processed_id = ?, updated_in_pass = ?
+        WHERE job_name = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDataWatermarkService userDataWatermarkService;
+    private final QuestionAnswerUserIdBackfillStatus backfillStatus;
+    private final ObjectProvider<DistributedLockService> distributedLockServiceProvider;
+
+    @Value("${learning.backfill.question-answer-user-id.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${learning.backfill.question-answer-user-id.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${learning.backfill.question-answer-user-id.pause-ms:50}")
+    private long pauseMillis;
+
+    private volatile boolean completed = false;
+
+    private record Progress(long lastProcessedId, long updatedInPass, boolean completed) {
+    }
+
+    /**
+     * 주기적으로 한 번에 최대 maxBatchesPerRun개 구간을 처리
+     * 배치 사이에 pauseMillis만큼 쉬어 수집(INSERT) 트래픽과 락 경합을 줄임
+     */
+    @Scheduled(initialDelayString = "${learning.backfill.question-answer-user-id.initial-delay-ms:30000}",
+               fixedDelayString = "${learning.backfill.question-answer-user-id.interval-ms:60000}")
+    public void run() {
+        if (completed) {
+            return;
+        }
+
+        Optional<DistributedLockService.Lock> lock;
+        DistributedLockService lockService = distributedLockServiceProvider.getIfAvailable();
+        if (lockService == null) {
+            lock = Optional.empty();
+        } else {
+            try {
+                lock = lockService.tryLock(LOCK_TYPE, QuestionAnswerUserIdBackfillStatus.JOB_NAME, LOCK_LEASE);
+            } catch (Exception e) {
+                // 다른 파드와 동시에 실행되지 않도록 락을 확인할 수 없으면 이번 주기는 생략
+                log.error("question_answer.user_id 백필 락 획득 실패", e);
+                return;
+            }
+            if (lock.isEmpty()) {
+                log.debug("question_answer.user_id 백필: 다른 파드가 실행 중");
+                return;
+            }
+        }
+
+        try {
+            runLocked(lock);
+        } finally {
+            lock.ifPresent(DistributedLockService.Lock::close);
+        }
+    }
+
+    private void runLocked(Optional<DistributedLockService.Lock> lock) {
+        long lastProcessedId = 0L;
+        try {
+            Progress progress = loadProgress();
+            if (progress.completed()) {
+                completed = true;
+                backfillStatus.markCompleted();
+                return;
+            }
+            lastProcessedId = progress.lastProcessedId();
+            long updatedInPass = progress.updatedInPass();
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM question_answer", Long.class);
+            long upperBound = maxId != null ? maxId : 0L;
+
+            int batches = 0;
+            long updatedInRun = 0L;
+            while (lastProcessedId < upperBound && batches < maxBatchesPerRun) {
+                if (lock.isPresent() && !lock.get().isHeld()) {
+                    // lease를 잃었으면 다른 파드가 이어서 처리하도록 중단 (진행 위치는 배치마다 저장됨)
+                    log.warn("question_answer.user_id 백필 락 상실, 중단: lastProcessedId={}", lastProcessedId);
+                    break;
+                }
+                long from = lastProcessedId;
+                long to = Math.min(from + batchSize, upperBound);
+                int updated = jdbcTemplate.update(BACKFILL_SQL, from, to);
+                updatedInPass += updated;
+                updatedInRun += updated;
+                lastProcessedId = to;
+                jdbcTemplate.update(SAVE_PROGRESS_SQL, lastProcessedId, updatedInPass,
+                    QuestionAnswerUserIdBackfillStatus.JOB_NAME);
+                batches++;
+
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+
+            if (updatedInRun > 0) {
+                // 채워진 행이 사용자별 집계에 새로 포함되므로 캐시된 응답(ETag) 무효화
+                userDataWatermarkService.bumpGlobal();
+            }
+
+            if (lastProcessedId >= upperBound) {
+                finishPass(updatedInPass);
+            } else {
+                log.info("question_answer.user_id 백필 진행 중: lastProcessedId={}, maxId={}", lastProcessedId, upperBound);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("question_answer.user_id 백필 실패: lastProcessedId={}", lastProcessedId, e);
+        }
+    }
+
+    /**
+     * 저장된 진행 상태 조회 (행이 없으면 0부터 시작하는 행 생성)
+     */
+    private Progress loadProgress() {
+        jdbcTemplate.update("INSERT IGNORE INTO data_backfill_status (job_name) VALUES (?)",
+            QuestionAnswerUserIdBackfillStatus.JOB_NAME);
+        return jdbcTemplate.queryForObject(
+            "SELECT last_processed_id, updated_in_pass, completed_at FROM data_backfill_status WHERE job_name = ?",
+            (rs, rowNum) -> new Progress(
+                rs.getLong("last_processed_id"),
+                rs.getLong("updated_in_pass"),
+                rs.getTimestamp("completed_at") != null),
+            QuestionAnswerUserIdBackfillStatus.JOB_NAME);
+    }
+
+    /**
+     * 한 바퀴(id 0 ~ MAX) 처리 후 남은 NULL 행 확인
+     * 남은 행이 없거나, 이번 바퀴에서 더 채울 수 있는 행이 없었으면(세션이 없는 고아 행) 완료를 기록
+     */
+    private void finishPass(long updatedInPass) {
+        Long remaining = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM question_answer WHERE user_id IS NULL", Long.class);
+        long remainingRows = remaining != null ? remaining : 0L;
+
+        if (remainingRows == 0 || updatedInPass == 0) {
+            jdbcTemplate.update("UPDATE data_backfill_status SET completed_at = NOW(6) WHERE job_name = ?",
+                QuestionAnswerUserIdBackfillStatus.JOB_NAME);
+            completed = true;
+            backfillStatus.markCompleted();
+            // 조회 경로가 user_id 인덱스로 전환되므로 캐시된 응답(ETag)도 무효화
+            userDataWatermarkService.bumpGlobal();
+            if (remainingRows > 0) {
+                log.warn("question_answer.user_id 백필 완료 (세션을 찾을 수 없는 행 {}개는 NULL 유지)", remainingRows);
+            } else {
+                log.info("question_answer.user_id 백필 완료");
+            }
+            return;
+        }
+
+        log.info("question_answer.user_id 백필 한 바퀴 완료: updated={}, remaining={}", updatedInPass, remainingRows);
+        jdbcTemplate.update(SAVE_PROGRESS_SQL, 0L, 0L, QuestionAnswerUserIdBackfillStatus.JOB_NAME);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * question_answer.user_id 백필 완료 여부 (data_backfill_status에 기록된 완료 시각 기준)
+ * - 완료가 기록되기 전에는 user_id가 비어 있는 기존 행이 있을 수 있으므로
+ *   사용자 범위 답변 조회는 learning_sessions JOIN 쿼리(QuestionAnswerRepository *ViaSession)를 사용
+ * - 완료는 되돌아가지 않으므로 한 번 확인되면 다시 조회하지 않고, 미완료 상태는 recheck-ms 간격으로만 다시 확인
+ * - 백필 잡을 끈 환경에서는 완료가 기록되지 않으므로 계속 JOIN 쿼리를 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionAnswerUserIdBackfillStatus {
+
+    public static final String JOB_NAME = "question_answer_user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${learning.backfill.question-answer-user-id.status-recheck-ms:30000}")
+    private long recheckMillis;
+
+    private volatile boolean completed = false;
+    private volatile long checkedAt = 0L;
+
+    /**
+     * 백필 완료가 기록되었으면 true (user_id 인덱스 조회 사용 가능)
+     */
+    public boolean isCompleted() {
+        if (completed) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - checkedAt < recheckMillis) {
+            return false;
+        }
+        checkedAt = now;
+
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM data_backfill_status WHERE job_name = ? AND completed_at IS NOT NULL",
+                Integer.class, JOB_NAME);
+            if (count != null && count > 0) {
+                completed = true;
+                log.info("question_answer.user_id 백필 완료 확인, 사용자 범위 조회를 user_id 인덱스로 전환");
+            }
+        } catch (Exception e) {
+            log.error("question_answer.user_id 백필 완료 여부 조회 실패 (JOIN 조회 유지)", e);
+        }
+        return completed;
+    }
+
+    /**
+     * 이 파드의 백필 잡이 완료를 기록한 직후 호출 (다음 조회부터 바로 전환)
+     */
+    void markCompleted() {
+        completed = true;
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.example.demo.dto.analytics.LearningPatternAnalysisDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 최근 학습 패턴 분석 캐시 (캐시 스탬피드 방지)
+ * - 파드 내 single-flight: 같은 사용자의 동시 미스는 한 번만 재계산하고 나머지는 결과를 공유
+ * - 파드 간 lease: 분산 락(DistributedLockService)을 얻은 파드만 재계산, 나머지는 결과가 저장될 때까지 잠시 대기 후 사용
+ *   (Redis가 없는 단일 노드에서는 락 없이 파드 내 single-flight만 적용)
+ * - stale-while-revalidate: 신선 기간(TEMP_CACHE_TTL)이 지나도 stale 기간 동안은 이전 값으로 응답하고 백그라운드에서 갱신
+ * - 확률적 조기 갱신(XFetch): 만료가 가까울수록, 계산 시간이 길수록 높은 확률로 만료 전에 미리 갱신
+ * - 분석 결과가 없는 사용자도 빈 결과(analysis = null)를 짧은 TTL(empty-ttl-ms) 동안 저장하여 요청마다 재계산하지 않음
+ */
+@Slf4j
+@Service
+public class RecentLearningPatternService {
+
+    private static final String CACHE_TYPE = "learning-pattern";
+    private static final String LEASE_TYPE = "learning-pattern-refresh";
+    private static final int ANALYSIS_DAYS = 30;
+    private static final long LEASE_POLL_MILLIS = 100L;
+
+    /**
+     * 캐시 저장 값 (분석 결과 + 계산 시각/소요 시간, 분석 결과가 없으면 analysis = null)
+     */
+    public record CachedPattern(LearningPatternAnalysisDTO analysis, long computedAt, long computeMillis) {
+    }
+
+    private final RedisCacheService redisCacheService;
+    private final ObjectProvider<DistributedLockService> distributedLockServiceProvider;
+    private final LearningPatternAnalysisService learningPatternAnalysisService;
+    private final Executor cacheRefreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<LearningPatternAnalysisDTO>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final long freshMillis = RedisCacheConfig.TEMP_CACHE_TTL.toMillis();
+
+    @Value("${learning.cache.recent-pattern.stale-ttl-ms:600000}")
+    private long staleMillis;
+
+    @Value("${learning.cache.recent-pattern.lease-ttl-ms:30000}")
+    private long leaseMillis;
+
+    @Value("${learning.cache.recent-pattern.lease-wait-ms:3000}")
+    private long leaseWaitMillis;
+
+    @Value("${learning.cache.recent-pattern.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${learning.cache.recent-pattern.empty-ttl-ms:60000}")
+    private long emptyMillis;
+
+    public RecentLearningPatternService(RedisCacheService redisCacheService,
+                                        ObjectProvider<DistributedLockService> distributedLockServiceProvider,
+                                        LearningPatternAnalysisService learningPatternAnalysisService,
+                                        @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                        MeterRegistry meterRegistry) {
+        this.redisCacheService = redisCacheService;
+        this.distributedLockServiceProvider = distributedLockServiceProvider;
+        this.learningPatternAnalysisService = learningPatternAnalysisService;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 최근 30일 학습 패턴 분석 결과 조회 (분석 결과가 없으면 null)
+     */
+    public LearningPatternAnalysisDTO getRecentLearningPattern(String userId) {
+        CachedPattern cached = read(userId);
+        if (cached != null) {
+            long now = System.currentTimeMillis();
+            long age = now - cached.computedAt();
+            if (age < freshMillis) {
+                if (shouldRefreshEarly(cached, now)) {
+                    record("early_refresh");
+                    refreshAsync(userId);
+                } else {
+                    record("fresh");
+                }
+                return cached.analysis();
+            }
+            if (age < freshMillis + staleMillis) {
+                record("stale");
+                refreshAsync(userId);
+                return cached.analysis();
+            }
+        }
+
+        // 미스: 파드 내 동시 요청은 하나의 재계산 결과를 공유
+        CompletableFuture<LearningPatternAnalysisDTO> flight = new CompletableFuture<>();
+        CompletableFuture<LearningPatternAnalysisDTO> existing = inFlight.putIfAbsent(userId, flight);
+        if (existing != null) {
+            record("miss_shared");
+            return awaitShared(existing);
+        }
+        try {
+            LearningPatternAnalysisDTO analysis = computeWithLease(userId);
+            flight.complete(analysis);
+            return analysis;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, flight);
+        }
+    }
+
+    /**
+     * 다른 요청이 진행 중인 재계산 결과 대기
+     * 재계산이 실패하면 CompletionException이 아닌 원래 예외를 던져 직접 계산한 요청과 같은 오류 처리를 받도록 함
+     */
+    private LearningPatternAnalysisDTO awaitShared(CompletableFuture<LearningPatternAnalysisDTO> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * lease를 얻으면 직접 재계산, 다른 파드가 재계산 중이면 결과 저장을 잠시 기다림
+     * 대기 시간 안에 결과가 없으면 응답을 위해 직접 계산
+     */
+    private LearningPatternAnalysisDTO computeWithLease(String userId) {
+        DistributedLockService lockService = distributedLockServiceProvider.getIfAvailable();
+        if (lockService == null) {
+            record("miss_computed");
+            return compute(userId);
+        }
+
+        Optional<DistributedLockService.Lock> lease = tryLease(lockService, userId);
+        if (lease.isEmpty()) {
+            long deadline = System.currentTimeMillis() + leaseWaitMillis;
+            while (System.currentTimeMillis() < deadline) {
+                try {
+                    Thread.sleep(LEASE_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                CachedPattern cached = read(userId);
+                if (cached != null) {
+                    record("miss_waited");
+                    return cached.analysis();
+                }
+            }
+            log.warn("학습 패턴 재계산 대기 시간 초과, 직접 계산: userId={}, waitMs={}", userId, leaseWaitMillis);
+        }
+
+        try {
+            record("miss_computed");
+            return compute(userId);
+        } finally {
+            lease.ifPresent(DistributedLockService.Lock::close);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 (파드 내 중복 갱신 생략, 다른 파드가 lease를 가지고 있으면 생략)
+     */
+    private void refreshAsync(String userId) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                DistributedLockService lockService = distributedLockServiceProvider.getIfAvailable();
+                Optional<DistributedLockService.Lock> lease = Optional.empty();
+                try {
+                    if (lockService == null) {
+                        compute(userId);
+                    } else {
+                        lease = tryLease(lockService, userId);
+                        if (lease.isPresent()) {
+                            compute(userId);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.error("학습 패턴 백그라운드 갱신 실패: userId={}", userId, e);
+                } finally {
+                    lease.ifPresent(DistributedLockService.Lock::close);
+                    refreshing.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 갱신 풀이 가득 찬 경우 이번 갱신은 생략 (이전 값으로 계속 응답)
+            refreshing.remove(userId);
+            log.debug("학습 패턴 백그라운드 갱신 생략 (풀 포화): userId={}", userId);
+        }
+    }
+
+    /**
+     * 재계산 lease 획득 (Redis 오류면 lease 없이 진행)
+     */
+    private Optional<DistributedLockService.Lock> tryLease(DistributedLockService lockService, String userId) {
+        try {
+            return lockService.tryLock(LEASE_TYPE, userId, Duration.ofMillis(leaseMillis));
+        } catch (Exception e) {
+            log.error("학습 패턴 재계산 lease 획득 실패: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    private LearningPatternAnalysisDTO compute(String userId) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime endDate = LocalDateTime.now();
+        LearningPatternAnalysisDTO analysis = learningPatternAnalysisService
+            .analyzeCompleteLearningIncremental(userId, endDate.minusDays(ANALYSIS_DAYS), endDate);
+        long computeMillis = System.currentTimeMillis() - startTime;
+
+        // 논리 만료(freshMillis) 이후에도 stale 기간 동안 응답할 수 있도록 그만큼 더 보관
+        // 빈 결과는 첫 답변 수집 후 곧 분석이 보이도록 짧게 보관 (stale 응답 없음)
+        Duration ttl = Duration.ofMillis(analysis != null ? freshMillis + staleMillis : Math.min(emptyMillis, freshMillis));
+        redisCacheService.cacheTempData(CACHE_TYPE, userId,
+            new CachedPattern(analysis, System.currentTimeMillis(), computeMillis), ttl);
+        log.info("최근 학습 패턴 재계산 및 캐시 저장: userId={}, empty={}, 소요시간={}ms",
+            userId, analysis == null, computeMillis);
+        return analysis;
+    }
+
+    private CachedPattern read(String userId) {
+        return redisCacheService.getTempData(CACHE_TYPE, userId, CachedPattern.class).orElse(null);
+    }
+
+    /**
+     * XFetch: now - computeMillis * beta * ln(rand) >= 만료 시각이면 미리 갱신
+     */
+    private boolean shouldRefreshEarly(CachedPattern cached, long now) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double gap = Math.max(cached.computeMillis(), 1L) * earlyRefreshBeta * Math.log(random);
+        return now - gap >= cached.computedAt() + freshMillis;
+    }
+
+    private void record(String result) {
+        counters.computeIfAbsent(result, r -> Counter.builder("learning.cache.recent-pattern")
+                .description("최근 학습 패턴 캐시 조회 결과")
+                .tag("result", r)
+                .register(meterRegistry))
+            .increment();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisValueCodec;
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Redis 캐시 백엔드 (L1 near cache → L2 Redis)
+ * - 값은 RedisValueCodec envelope로 저장하고 조회 시 키 공간별 타입으로 역직렬화
+ * - 패턴 조회/삭제는 KEYS 대신 SCAN 커서 + 배치 MGET/UNLINK (Redis 블로킹 방지)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class RedisCacheBackend implements CacheBackend {
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisValueCodec codec;
+    private final NearCache nearCache;
+    private final int scanCount;
+
+    public RedisCacheBackend(RedisTemplate<String, byte[]> redisTemplate,
+                             RedisValueCodec codec,
+                             NearCache nearCache,
+                             @Value("${learning.redis.scan-count:500}") int scanCount) {
+        this.redisTemplate = redisTemplate;
+        this.codec = codec;
+        this.nearCache = nearCache;
+        this.scanCount = scanCount;
+        log.info("캐시 백엔드: Redis (scanCount={})", scanCount);
+    }
+
+    /**
+     * L1 대상 네임스페이스면 L1을 먼저 확인하고, 없으면 Redis에서 읽어 L1에 채움
+     * (Redis 조회 중 무효화된 키는 L1에 채우지 않음)
+     */
+    @Override
+    public Object get(String key, JavaType type) {
+        Object cached = nearCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long version = nearCache.versionOf(key);
+        Object value = codec.decode(redisTemplate.opsForValue().get(key), type);
+        nearCache.recordL2(key, value != null);
+        nearCache.put(key, value, version);
+        return value;
+    }
+
+    /**
+     * MGET 한 번으로 조회 (L1을 거치지 않음)
+     */
+    @Override
+    public List<Object> multiGet(List<String> keys, JavaType type) {
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+        List<Object> decoded = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            decoded.add(values != null ? codec.decode(values.get(i), type) : null);
+        }
+        return decoded;
+    }
+
+    /**
+     * Redis에 저장한 뒤 모든 파드의 L1 항목 무효화
+     */
+    @Override
+    public void set(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, codec.encode(value), ttl);
+        nearCache.invalidate(key);
+    }
+
+    /**
+     * UNLINK (메모리 해제는 Redis가 백그라운드에서 수행) 후 L1 무효화
+     */
+    @Override
+    public long delete(List<String> keys) {
+        Long unlinked = redisTemplate.unlink(keys);
+        nearCache.invalidate(keys);
+        return unlinked != null ? unlinked : 0L;
+    }
+
+    /**
+     * SCAN 커서로 순회 (한 번에 scanCount개 정도씩 조회)
+     * SCAN 특성상 순회 중 리해싱이 일어나면 같은 키가 두 번 전달될 수 있음
+     */
+    @Override
+    public void scan(String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Duration> getTtl(String key) {
+        Long ttlSeconds = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+        if (ttlSeconds != null && ttlSeconds > 0) {
+            return Optional.of(Duration.ofSeconds(ttlSeconds));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean expire(String key, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.expire(key, ttl));
+    }
+}
@@ -2,32 +2,68 @@ package com.example.demo.service;
 
 import com.example.demo.config.RedisCacheConfig;
 import com.example.demo.entity.QuestionAnswer;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.ArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
- * Redis 캐시 서비스
- * RedisCacheConfig의 키 구조를 활용하여 캐시 관리
+ * 캐시 서비스
+ * RedisCacheConfig의 키 구조와 TTL을 활용하여 캐시 관리, 실제 저장은 CacheBackend에 위임
+ * (Redis가 설정되면 RedisCacheBackend, 없으면 InMemoryCacheBackend)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@ConditionalOnProperty(name = "spring.redis.host")
 public class RedisCacheService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheBackend backend;
+    private final TypeFactory typeFactory;
+
+    @Value("${learning.redis.batch-size:500}")
+    private int batchSize;
+
+    public RedisCacheService(CacheBackend backend, ObjectMapper objectMapper) {
+        this.backend = backend;
+        this.typeFactory = objectMapper.getTypeFactory();
+    }
+
+    // ===== 공통 조회/저장 =====
+
+    /**
+     * 값 조회: 값은 키 공간별로 정해진 type으로 복원 (값에 클래스명을 저장하지 않음)
+     */
+    private Object readValue(String key, JavaType type) {
+        return backend.get(key, type);
+    }
+
+    private void writeValue(String key, Object value, Duration ttl) {
+        backend.set(key, value, ttl);
+    }
+
+    private JavaType type(Class<?> clazz) {
+        return typeFactory.constructType(clazz);
+    }
+
+    private JavaType listType(Class<?> elementType) {
+        return typeFactory.constructCollectionType(List.class, elementType);
+    }
+
+    private JavaType mapType(Class<?> valueType) {
+        return typeFactory.constructMapType(Map.class, String.class, valueType);
+    }
 
     // ===== 세션 관련 캐시 =====
 
@@ -37,7 +73,7 @@ public class RedisCacheService {
     public void cacheSession(String sessionId, Object sessionData) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionKey(sessionId);
         try {
-            redisTemplate.opsForValue().set(key, sessionData, RedisCacheConfig.SESSION_CACHE_TTL);
+            writeValue(key, sessionData, RedisCacheConfig.SESSION_CACHE_TTL);
             log.debug("세션 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.SESSION_CACHE_TTL);
         } catch (Exception e) {
             log.error("세션 캐시 저장 실패: key={}", key, e);
@@ -50,7 +86,7 @@ public class RedisCacheService {
     public <T> Optional<T> getSession(String sessionId, Class<T> clazz) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionKey(sessionId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, type(clazz));
             if (cached != null && clazz.isInstance(cached)) {
                 return Optional.of(clazz.cast(cached));
             }
@@ -66,7 +102,7 @@ public class RedisCacheService {
     public void cacheSessionProgress(String sessionId, Map<String, Object> progressData) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionProgressKey(sessionId);
         try {
-            redisTemplate.opsForValue().set(key, progressData, RedisCacheConfig.PROGRESS_CACHE_TTL);
+            writeValue(key, progressData, RedisCacheConfig.PROGRESS_CACHE_TTL);
             log.debug("진행 상황 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.PROGRESS_CACHE_TTL);
         } catch (Exception e) {
             log.error("진행 상황 캐시 저장 실패: key={}", key, e);
@@ -79,7 +115,7 @@ public class RedisCacheService {
     public Optional<Map<String, Object>> getSessionProgress(String sessionId) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionProgressKey(sessionId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, mapType(Object.class));
             if (cached instanceof Map) {
                 return Optional.of((Map<String, Object>) cached);
             }
@@ -95,7 +131,7 @@ public class RedisCacheService {
     public void cacheSessionQuestions(String sessionId, List<String> questionIds) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionQuestionsKey(sessionId);
         try {
-            redisTemplate.opsForValue().set(key, questionIds, RedisCacheConfig.SESSION_QUESTIONS_CACHE_TTL);
+            writeValue(key, questionIds, RedisCacheConfig.SESSION_QUESTIONS_CACHE_TTL);
             log.debug("세션 문제 목록 캐시 저장 완료: key={}, questionCount={}", key, questionIds.size());
         } catch (Exception e) {
             log.error("세션 문제 목록 캐시 저장 실패: key={}", key, e);
@@ -108,7 +144,7 @@ public class RedisCacheService {
     public Optional<List<String>> getSessionQuestions(String sessionId) {
         String key = RedisCacheConfig.CacheKeyBuilder.sessionQuestionsKey(sessionId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, listType(String.class));
             if (cached instanceof List) {
                 @SuppressWarnings("unchecked")
                 List<?> rawList = (List<?>) cached;
@@ -133,7 +169,7 @@ public class RedisCacheService {
     public void cacheUserStats(String userId, Map<String, Object> statsData) {
         String key = RedisCacheConfig.CacheKeyBuilder.userStatsKey(userId);
         try {
-            redisTemplate.opsForValue().set(key, statsData, RedisCacheConfig.USER_STATS_CACHE_TTL);
+            writeValue(key, statsData, RedisCacheConfig.USER_STATS_CACHE_TTL);
             log.debug("사용자 통계 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.USER_STATS_CACHE_TTL);
         } catch (Exception e) {
             log.error("사용자 통계 캐시 저장 실패: key={}", key, e);
@@ -146,7 +182,7 @@ public class RedisCacheService {
     public Optional<Map<String, Object>> getUserStats(String userId) {
         String key = RedisCacheConfig.CacheKeyBuilder.userStatsKey(userId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, mapType(Object.class));
             if (cached instanceof Map) {
                 return Optional.of((Map<String, Object>) cached);
             }
@@ -162,7 +198,7 @@ public class RedisCacheService {
     public void cacheUserCurrentSession(String userId, String sessionId) {
         String key = RedisCacheConfig.CacheKeyBuilder.userCurrentSessionKey(userId);
         try {
-            redisTemplate.opsForValue().set(key, sessionId, RedisCacheConfig.SESSION_CACHE_TTL);
+            writeValue(key, sessionId, RedisCacheConfig.SESSION_CACHE_TTL);
             log.debug("사용자 현재 세션 캐시 저장 완료: key={}, sessionId={}", key, sessionId);
         } catch (Exception e) {
             log.error("사용자 현재 세션 캐시 저장 실패: key={}", key, e);
@@ -175,7 +211,7 @@ public class RedisCacheService {
     public Optional<String> getUserCurrentSession(String userId) {
         String key = RedisCacheConfig.CacheKeyBuilder.userCurrentSessionKey(userId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, type(String.class));
             if (cached instanceof String) {
                 return Optional.of((String) cached);
             }
@@ -191,7 +227,7 @@ public class RedisCacheService {
     public void cacheUserSessions(String userId, List<?> sessions) {
         String key = RedisCacheConfig.CacheKeyBuilder.userSessionsKey(userId);
         try {
-            redisTemplate.opsForValue().set(key, sessions, RedisCacheConfig.USER_SESSIONS_CACHE_TTL);
+            writeValue(key, sessions, RedisCacheConfig.USER_SESSIONS_CACHE_TTL);
             log.debug("사용자 세션 목록 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.USER_SESSIONS_CACHE_TTL);
         } catch (Exception e) {
             log.error("사용자 세션 목록 캐시 저장 실패: key={}", key, e);
@@ -206,7 +242,7 @@ public class RedisCacheService {
     public void cacheCategories(Map<String, Object> categoriesData) {
         String key = RedisCacheConfig.CacheKeyBuilder.categoriesKey();
         try {
-            redisTemplate.opsForValue().set(key, categoriesData, RedisCacheConfig.CATEGORY_CACHE_TTL);
+            writeValue(key, categoriesData, RedisCacheConfig.CATEGORY_CACHE_TTL);
             log.debug("문제 분류 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.CATEGORY_CACHE_TTL);
         } catch (Exception e) {
             log.error("문제 분류 캐시 저장 실패: key={}", key, e);
@@ -219,7 +255,7 @@ public class RedisCacheService {
     public Optional<Map<String, Object>> getCategories() {
         String key = RedisCacheConfig.CacheKeyBuilder.categoriesKey();
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, mapType(Object.class));
             if (cached instanceof Map) {
                 return Optional.of((Map<String, Object>) cached);
             }
@@ -237,7 +273,7 @@ public class RedisCacheService {
     public void cacheUserHistory(String userId, String date, List<Object> historyData) {
         String key = RedisCacheConfig.CacheKeyBuilder.userHistoryKey(userId, date);
         try {
-            redisTemplate.opsForValue().set(key, historyData, RedisCacheConfig.USER_STATS_CACHE_TTL);
+            writeValue(key, historyData, RedisCacheConfig.USER_STATS_CACHE_TTL);
             log.debug("사용자 히스토리 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.USER_STATS_CACHE_TTL);
         } catch (Exception e) {
             log.error("사용자 히스토리 캐시 저장 실패: key={}", key, e);
@@ -250,7 +286,7 @@ public class RedisCacheService {
     public <T> Optional<List<T>> getUserHistory(String userId, String date, Class<T> clazz) {
         String key = RedisCacheConfig.CacheKeyBuilder.userHistoryKey(userId, date);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, listType(clazz));
             if (cached instanceof List) {
                 @SuppressWarnings("unchecked")
                 List<?> list = (List<?>) cached;
@@ -272,10 +308,17 @@ public class RedisCacheService {
      * 임시 데이터 캐시 저장
      */
     public void cacheTempData(String type, String id, Object data) {
+        cacheTempData(type, id, data, RedisCacheConfig.TEMP_CACHE_TTL);
+    }
+
+    /**
+     * 임시 데이터 캐시 저장 (TTL 지정, stale-while-revalidate처럼 논리 만료보다 오래 보관할 때 사용)
+     */
+    public void cacheTempData(String type, String id, Object data, Duration ttl) {
         String key = RedisCacheConfig.CacheKeyBuilder.tempKey(type, id);
         try {
-            redisTemplate.opsForValue().set(key, data, RedisCacheConfig.TEMP_CACHE_TTL);
-            log.debug("임시 데이터 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.TEMP_CACHE_TTL);
+            writeValue(key, data, ttl);
+            log.debug("임시 데이터 캐시 저장 완료: key={}, ttl={}", key, ttl);
         } catch (Exception e) {
             log.error("임시 데이터 캐시 저장 실패: key={}", key, e);
         }
@@ -287,7 +330,7 @@ public class RedisCacheService {
     public <T> Optional<T> getTempData(String type, String id, Class<T> clazz) {
         String key = RedisCacheConfig.CacheKeyBuilder.tempKey(type, id);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, type(clazz));
             if (cached != null && clazz.isInstance(cached)) {
                 return Optional.of(clazz.cast(cached));
             }
@@ -305,51 +348,31 @@ public class RedisCacheService {
     public void cacheQuestionAnswer(String sessionId, QuestionAnswer answerData) {
         String key = RedisCacheConfig.CacheKeyBuilder.tempKey("answer", sessionId);
         try {
-            redisTemplate.opsForValue().set(key, answerData, RedisCacheConfig.TEMP_CACHE_TTL);
+            writeValue(key, answerData, RedisCacheConfig.TEMP_CACHE_TTL);
             log.debug("문제 답변 캐시 저장 완료: key={}", key);
         } catch (Exception e) {
             log.error("문제 답변 캐시 저장 실패: key={}", key, e);
         }
     }
 
-    // ===== 락(Lock) 관리 =====
-
-    /**
-     * 분산 락 획득
-     */
-    public boolean acquireLock(String type, String id, Duration timeout) {
-        String key = RedisCacheConfig.CacheKeyBuilder.lockKey(type, id);
-        try {
-            Boolean result = redisTemplate.opsForValue().setIfAbsent(key, "locked", timeout);
-            return Boolean.TRUE.equals(result);
-        } catch (Exception e) {
-            log.error("락 획득 실패: key={}", key, e);
-            return false;
-        }
-    }
+    // ===== 캐시 관리 =====
 
     /**
-     * 분산 락 해제
+     * 패턴에 맞는 키를 batchSize개씩 전달 (Redis 백엔드는 KEYS 대신 SCAN 커서 사용)
+     * 순회 중 같은 키가 두 번 전달될 수 있음
      */
-    public boolean releaseLock(String type, String id) {
-        String key = RedisCacheConfig.CacheKeyBuilder.lockKey(type, id);
-        try {
-            Boolean result = redisTemplate.delete(key);
-            return Boolean.TRUE.equals(result);
-        } catch (Exception e) {
-            log.error("락 해제 실패: key={}", key, e);
-            return false;
-        }
+    public void scanKeys(String pattern, Consumer<List<String>> batchConsumer) {
+        backend.scan(pattern, batchSize, batchConsumer);
     }
 
-    // ===== 캐시 관리 =====
-
     /**
-     * 특정 패턴의 캐시 키들 조회
+     * 특정 패턴의 캐시 키들 조회 (SCAN 기반)
      */
     public Set<String> getKeysByPattern(String pattern) {
         try {
-            return redisTemplate.keys(pattern);
+            Set<String> keys = new HashSet<>();
+            scanKeys(pattern, keys::addAll);
+            return keys;
         } catch (Exception e) {
             log.error("패턴 기반 키 조회 실패: pattern={}", pattern, e);
             return Set.of();
@@ -357,20 +380,19 @@ public class RedisCacheService {
     }
 
     /**
-     * 특정 패턴의 캐시 삭제
+     * 특정 패턴의 캐시 삭제 (batchSize 단위, Redis 백엔드는 SCAN + UNLINK)
      */
     public long deleteKeysByPattern(String pattern) {
+        long[] deleted = {0L};
         try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                Long deleted = redisTemplate.delete(keys);
-                log.info("패턴 기반 캐시 삭제 완료: pattern={}, deleted={}", pattern, deleted);
-                return deleted != null ? deleted : 0;
-            }
+            scanKeys(pattern, batch -> {
+                deleted[0] += backend.delete(batch);
+            });
+            log.info("패턴 기반 캐시 삭제 완료: pattern={}, deleted={}", pattern, deleted[0]);
         } catch (Exception e) {
-            log.error("패턴 기반 캐시 삭제 실패: pattern={}", pattern, e);
+            log.error("패턴 기반 캐시 삭제 실패: pattern={}, deletedBeforeFailure={}", pattern, deleted[0], e);
         }
-        return 0;
+        return deleted[0];
     }
 
     /**
@@ -378,10 +400,7 @@ public class RedisCacheService {
      */
     public Optional<Duration> getTTL(String key) {
         try {
-            Long ttlSeconds = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-            if (ttlSeconds != null && ttlSeconds > 0) {
-                return Optional.of(Duration.ofSeconds(ttlSeconds));
-            }
+            return backend.getTtl(key);
         } catch (Exception e) {
             log.error("TTL 조회 실패: key={}", key, e);
         }
@@ -393,8 +412,7 @@ public class RedisCacheService {
      */
     public boolean setTTL(String key, Duration ttl) {
         try {
-            Boolean result = redisTemplate.expire(key, ttl);
-            return Boolean.TRUE.equals(result);
+            return backend.expire(key, ttl);
         } catch (Exception e) {
             log.error("TTL 설정 실패: key={}, ttl={}", key, ttl, e);
             return false;
@@ -407,7 +425,7 @@ public class RedisCacheService {
     public void cacheCurrentSession(String userId, Object currentSession) {
         String key = RedisCacheConfig.CacheKeyBuilder.userCurrentSessionKey(userId);
         try {
-            redisTemplate.opsForValue().set(key, currentSession, RedisCacheConfig.CURRENT_SESSION_CACHE_TTL);
+            writeValue(key, currentSession, RedisCacheConfig.CURRENT_SESSION_CACHE_TTL);
             log.debug("사용자 현재 세션 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.CURRENT_SESSION_CACHE_TTL);
         } catch (Exception e) {
             log.error("사용자 현재 세션 캐시 저장 실패: key={}", key, e);
@@ -420,7 +438,7 @@ public class RedisCacheService {
     public <T> Optional<T> getCurrentSession(String userId, Class<T> clazz) {
         String key = RedisCacheConfig.CacheKeyBuilder.userCurrentSessionKey(userId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, type(clazz));
             if (cached != null && clazz.isInstance(cached)) {
                 return Optional.of(clazz.cast(cached));
             }
@@ -436,7 +454,7 @@ public class RedisCacheService {
     public void cacheEvent(String eventType, String eventId, Object eventData) {
         String key = RedisCacheConfig.CacheKeyBuilder.eventKey(eventType, eventId);
         try {
-            redisTemplate.opsForValue().set(key, eventData, RedisCacheConfig.EVENT_CACHE_TTL);
+            writeValue(key, eventData, RedisCacheConfig.EVENT_CACHE_TTL);
             log.debug("이벤트 캐시 저장 완료: key={}, ttl={}", key, RedisCacheConfig.EVENT_CACHE_TTL);
         } catch (Exception e) {
             log.error("이벤트 캐시 저장 실패: key={}", key, e);
@@ -449,7 +467,7 @@ public class RedisCacheService {
     public <T> Optional<T> getEvent(String eventType, String eventId, Class<T> clazz) {
         String key = RedisCacheConfig.CacheKeyBuilder.eventKey(eventType, eventId);
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            Object cached = readValue(key, type(clazz));
             if (cached != null) {
                 return Optional.of(clazz.cast(cached));
             }
@@ -460,24 +478,35 @@ public class RedisCacheService {
     }
 
     /**
-     * 이벤트 타입별 이벤트 목록 조회
+     * 이벤트 타입별 이벤트를 스캔 배치 단위 일괄 조회로 읽어 하나씩 전달 (전체를 메모리에 모으지 않음)
+     * 키마다 GET을 보내지 않고 batchSize개 키를 한 번에 조회 (Redis 백엔드는 MGET)
+     * 순회 중 만료/삭제된 키는 건너뜀
      */
-    public <T> List<T> getEventsByType(String eventType, Class<T> clazz) {
+    public <T> void forEachEventByType(String eventType, Class<T> clazz, BiConsumer<String, T> consumer) {
         String pattern = RedisCacheConfig.CacheKeyBuilder.eventPattern(eventType);
-        try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                List<T> events = new ArrayList<>();
-                for (String key : keys) {
-                    Object cached = redisTemplate.opsForValue().get(key);
-                    if (cached != null && clazz.isInstance(cached)) {
-                        events.add(clazz.cast(cached));
-                    }
+        JavaType type = type(clazz);
+        scanKeys(pattern, batch -> {
+            List<Object> values = backend.multiGet(batch, type);
+            for (int i = 0; i < batch.size(); i++) {
+                Object cached = values.get(i);
+                if (cached != null && clazz.isInstance(cached)) {
+                    consumer.accept(batch.get(i), clazz.cast(cached));
                 }
-                return events;
             }
+        });
+    }
+
+    /**
+     * 이벤트 타입별 이벤트 목록 조회 (스캔 + 일괄 조회)
+     */
+    public <T> List<T> getEventsByType(String eventType, Class<T> clazz) {
+        try {
+            // SCAN 중복 키 제거
+            Map<String, T> events = new LinkedHashMap<>();
+            forEachEventByType(eventType, clazz, events::put);
+            return new ArrayList<>(events.values());
         } catch (Exception e) {
-            log.error("이벤트 타입별 조회 실패: pattern={}", pattern, e);
+            log.error("이벤트 타입별 조회 실패: eventType={}", eventType, e);
         }
         return List.of();
     }
@@ -74,13 +74,14 @@ public class SessionDataMappingService {
     public List<QuestionAnswer> mapToQuestionAnswers(
             List<SessionDataResponseDto.QuestionAnswerDto> questionDtos, 
             String sessionId,
+            String userId,
             String sessionType) {
         
         log.debug("   ├─ QuestionAnswer 매핑 시작: sessionId={}, 문제 수={}", sessionId, 
             questionDtos != null ? questionDtos.size() : 0);
         
         List<QuestionAnswer> answers = questionDtos.stream()
-            .map(dto -> mapToQuestionAnswer(dto, sessionId, sessionType))
+            .map(dto -> mapToQuestionAnswer(dto, sessionId, userId, sessionType))
             .collect(Collectors.toList());
         
         log.debug("   └─ QuestionAnswer 매핑 완료: {}개", answers.size());
@@ -93,6 +94,7 @@ public class SessionDataMappingService {
     private QuestionAnswer mapToQuestionAnswer(
             SessionDataResponseDto.QuestionAnswerDto dto, 
             String sessionId,
+            String userId,
             String sessionType) {
         
         try {
@@ -100,6 +102,7 @@ public class SessionDataMappingService {
             return new QuestionAnswer(
                 null, // id는 자동 생성
                 sessionId,
+                userId, // 사용자 ID (비정규화)
                 dto.getQuestionId(),
                 sessionType, // 세션 타입 설정
                 dto.getQuestionType(), // 문제 유형 (분석용)
@@ -110,6 +113,7 @@ public class SessionDataMappingService {
                 dto.getIsCorrect(),
                 dto.getTimeSpent(),
                 dto.getAnsweredAt(),
+                null, // answeredDate는 DB 생성 컬럼
                 dto.getSolveCount() != null ? dto.getSolveCount() : 1
             );
             
@@ -0,0 +1,111 @@
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 사용자별 데이터 변경 워터마크 서비스 (HTTP 조건부 요청용)
+ * - 수집 트랜잭션 안에서 user_data_watermark.version을 증가시켜 데이터와 워터마크가 함께 커밋되도록 함
+ * - 백필/파티션 삭제처럼 전체 사용자의 집계에 영향을 주는 변경은 전역 행('*')의 version을 증가
+ * - 분석 API 응답은 주/일 단위 상대 기간으로 계산되므로 ETag와 Last-Modified에 오늘 날짜도 반영
+ */
+@Slf4j
+@Service
+public class UserDataWatermarkService {
+
+    public static final String GLOBAL_KEY = "*";
+
+    private static final String BUMP_SQL = """
+        INSERT INTO user_data_watermark (user_id, version, updated_at) VALUES (?, 1, NOW(6))
+        ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW(6)
+        """;
+
+    private static final DateTimeFormatter ETAG_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public UserDataWatermarkService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 사용자 워터마크
+     *
+     * @param etag 약한 ETag (사용자 version, 전역 version, 기준 날짜)
+     * @param lastModified 마지막 변경 시각(epoch ms), 날짜가 바뀌면 오늘 0시로 올라감
+     */
+    public record Watermark(String etag, long lastModified) {
+    }
+
+    private record WatermarkRow(String userId, long version, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 사용자 데이터 변경 기록 (수집 트랜잭션 안에서 호출)
+     */
+    public void bump(String userId) {
+        if (userId == null) {
+            return;
+        }
+        jdbcTemplate.update(BUMP_SQL, userId);
+    }
+
+    /**
+     * 전체 사용자에 영향을 주는 변경 기록 (백필, 만료 파티션 삭제)
+     */
+    public void bumpGlobal() {
+        try {
+            jdbcTemplate.update(BUMP_SQL, GLOBAL_KEY);
+        } catch (Exception e) {
+            log.error("전역 데이터 워터마크 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 사용자 워터마크 조회 (PK 2건 조회)
+     * 분석 조회와 같은 읽기 전용 트랜잭션 라우팅을 따르므로 워터마크와 응답 데이터가 같은 시점의 DB를 기준으로 함
+     */
+    public Watermark getWatermark(String userId) {
+        long userVersion = 0L;
+        long globalVersion = 0L;
+        LocalDateTime updatedAt = null;
+
+        List<WatermarkRow> rows = readOnlyTransactionTemplate.execute(status -> jdbcTemplate.query(
+            "SELECT user_id, version, updated_at FROM user_data_watermark WHERE user_id IN (?, ?)",
+            (rs, rowNum) -> new WatermarkRow(
+                rs.getString("user_id"), rs.getLong("version"), rs.getTimestamp("updated_at").toLocalDateTime()),
+            userId, GLOBAL_KEY));
+
+        if (rows != null) {
+            for (WatermarkRow row : rows) {
+                if (GLOBAL_KEY.equals(row.userId())) {
+                    globalVersion = row.version();
+                } else {
+                    userVersion = row.version();
+                }
+                if (updatedAt == null || row.updatedAt().isAfter(updatedAt)) {
+                    updatedAt = row.updatedAt();
+                }
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime startOfToday = today.atStartOfDay();
+        LocalDateTime lastModified = updatedAt != null && updatedAt.isAfter(startOfToday) ? updatedAt : startOfToday;
+
+        String etag = "W/\"" + userVersion + "." + globalVersion + "." + today.format(ETAG_DATE_FORMAT) + "\"";
+        return new Watermark(etag, lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.example.demo.config.RedisCacheConfig.CacheDataStructure.UserDailyCounters;
+import com.example.demo.dto.analytics.DailyAnswerCounterRow;
+import com.example.demo.dto.analytics.LiveLearningCounters;
+import com.example.demo.dto.analytics.QuestionTypeLiveCounter;
+import com.example.demo.entity.QuestionAnswer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 사용자 일별 실시간 카운터 (Redis Hash)
+ * - 수집 트랜잭션 커밋 후 세션 하나당(일자별) Lua 스크립트 1회로 일자별 Hash에 HINCRBY
+ *   (전체 문제 수/정답 수/학습 시간 + 문제 유형별 같은 항목)
+ * - 답변마다 반영 표시 필드(a:{answerId})를 HSETNX로 남기고 처음 보는 답변만 더함
+ *   수집 증가분과 DB 집계 채우기(seed)가 같은 스크립트로 답변 단위 반영을 하므로 순서와 무관하게 결과가 같음
+ *   (커밋 순서가 ID 순서와 다르거나, 채우기 조회와 수집 커밋이 겹쳐도 빠지거나 두 번 더해지지 않음)
+ * - 조회는 DB에서 한 번 채워진(seeded) 날짜만 사용. 채우기 전 수집 증가분은 키에 쌓아 두고 채울 때 나머지만 더함
+ * - 키에 {userId} 해시 태그를 사용하여 클러스터에서 사용자 키가 같은 슬롯에 배치
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.data.redis.host")
+public class UserLiveCounterService {
+
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    /**
+     * KEYS[1]: 일자별 카운터 키
+     * ARGV[1]: TTL(초), ARGV[2]: 채우기 여부(1이면 seeded 표시), 이후 답변마다 [답변 ID, 문제 유형, 정답(0/1), 풀이 시간(초)]
+     * 필드명은 RedisCacheConfig.CacheDataStructure.UserDailyCounters와 같음
+     */
+    private static final RedisScript<Long> APPLY_ANSWERS_SCRIPT = new DefaultRedisScript<>("""
+        local key = KEYS[1]
+        local applied = 0
+        for i = 3, #ARGV, 4 do
+          if redis.call('HSETNX', key, 'a:' .. ARGV[i], 1) == 1 then
+            local typePrefix = 'type:' .. ARGV[i + 1] .. ':'
+            redis.call('HINCRBY', key, 'questions', 1)
+            redis.call('HINCRBY', key, 'correct', ARGV[i + 2])
+            redis.call('HINCRBY', key, 'seconds', ARGV[i + 3])
+            redis.call('HINCRBY', key, typePrefix .. 'questions', 1)
+            redis.call('HINCRBY', key, typePrefix .. 'correct', ARGV[i + 2])
+            redis.call('HINCRBY', key, typePrefix .. 'seconds', ARGV[i + 3])
+            applied = applied + 1
+          end
+        end
+        if ARGV[2] == '1' then
+          redis.call('HSET', key, 'seeded', 1)
+        end
+        if redis.call('TTL', key) == -1 then
+          redis.call('EXPIRE', key, ARGV[1])
+        end
+        return applied
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public UserLiveCounterService(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 세션 답변을 일자별 카운터에 반영 (트랜잭션 밖에서는 즉시 반영)
+     * answers는 저장 후(ID 할당 후) 엔티티여야 함
+     */
+    public void recordAfterCommit(String userId, List<QuestionAnswer> answers) {
+        if (userId == null || answers == null || answers.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId, answers);
+                }
+            });
+        } else {
+            record(userId, answers);
+        }
+    }
+
+    private void record(String userId, List<QuestionAnswer> answers) {
+        try {
+            Map<LocalDate, List<DailyAnswerCounterRow>> answersByDate = new TreeMap<>();
+            for (QuestionAnswer answer : answers) {
+                if (answer.getAnsweredAt() == null || answer.getId() == null) {
+                    continue;
+                }
+                answersByDate.computeIfAbsent(answer.getAnsweredAt().toLocalDate(), date -> new ArrayList<>())
+                    .add(new DailyAnswerCounterRow(answer.getId(), answer.getQuestionType(),
+                        answer.getIsCorrect(), answer.getTimeSpent()));
+            }
+            answersByDate.forEach((date, rows) -> {
+                Long applied = apply(userId, date, rows, false);
+                log.debug("실시간 카운터 반영: userId={}, date={}, applied={}", userId, date, applied);
+            });
+        } catch (Exception e) {
+            // 반영 실패 시 해당 날짜는 TTL 만료 후 DB 집계로 다시 채워짐
+            log.error("실시간 카운터 반영 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 일자별 카운터 조회 (채워지지 않은 날짜면 empty)
+     */
+    public Optional<LiveLearningCounters> find(String userId, LocalDate date) {
+        String key = RedisCacheConfig.CacheKeyBuilder.userDailyCountersKey(userId, date);
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+        if (entries.isEmpty() || !entries.containsKey(UserDailyCounters.SEEDED)) {
+            return Optional.empty();
+        }
+
+        long questionCount = 0L;
+        long correctCount = 0L;
+        long timeSpentSeconds = 0L;
+        Map<String, long[]> typeCounters = new TreeMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = entry.getKey().toString();
+            long value = Long.parseLong(entry.getValue().toString());
+            switch (field) {
+                case UserDailyCounters.QUESTIONS -> questionCount = value;
+                case UserDailyCounters.CORRECT -> correctCount = value;
+                case UserDailyCounters.SECONDS -> timeSpentSeconds = value;
+                default -> {
+                    if (field.startsWith(UserDailyCounters.TYPE_PREFIX)) {
+                        // type:{questionType}:{counter}
+                        int separator = field.lastIndexOf(RedisCacheConfig.KEY_SEPARATOR);
+                        String questionType = field.substring(UserDailyCounters.TYPE_PREFIX.length(), separator);
+                        long[] counters = typeCounters.computeIfAbsent(questionType, type -> new long[3]);
+                        switch (field.substring(separator + 1)) {
+                            case UserDailyCounters.QUESTIONS -> counters[0] = value;
+                            case UserDailyCounters.CORRECT -> counters[1] = value;
+                            case UserDailyCounters.SECONDS -> counters[2] = value;
+                            default -> { }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<QuestionTypeLiveCounter> questionTypes = new ArrayList<>(typeCounters.size());
+        typeCounters.forEach((questionType, counters) -> questionTypes.add(
+            new QuestionTypeLiveCounter(questionType, counters[0], counters[1], counters[2],
+                accuracyRate(counters[1], counters[0]))));
+
+        return Optional.of(new LiveLearningCounters(userId, date.toString(), questionCount, correctCount,
+            timeSpentSeconds, accuracyRate(correctCount, questionCount), questionTypes, "redis"));
+    }
+
+    /**
+     * DB에서 읽은 답변으로 일자별 카운터 채우기
+     * 이미 수집 증가분으로 반영된 답변은 건너뛰고 나머지만 더한 뒤 seeded 표시
+     * rows는 primary에서 읽어야 함 (복제본에서 읽으면 아직 복제되지 않은 답변이 빠진 채 seeded로 표시될 수 있음)
+     */
+    public void seed(String userId, LocalDate date, List<DailyAnswerCounterRow> rows) {
+        try {
+            Long applied = apply(userId, date, rows, true);
+            log.debug("실시간 카운터 채우기: userId={}, date={}, applied={}", userId, date, applied);
+        } catch (Exception e) {
+            log.error("실시간 카운터 채우기 실패: userId={}, date={}", userId, date, e);
+        }
+    }
+
+    private Long apply(String userId, LocalDate date, List<DailyAnswerCounterRow> rows, boolean seed) {
+        String key = RedisCacheConfig.CacheKeyBuilder.userDailyCountersKey(userId, date);
+        List<String> args = new ArrayList<>(2 + rows.size() * 4);
+        args.add(String.valueOf(RedisCacheConfig.USER_DAILY_COUNTERS_TTL.toSeconds()));
+        args.add(seed ? "1" : "0");
+        for (DailyAnswerCounterRow row : rows) {
+            args.add(String.valueOf(row.answerId()));
+            args.add(row.questionType() != null ? row.questionType() : UNKNOWN_TYPE);
+            args.add(Boolean.TRUE.equals(row.isCorrect()) ? "1" : "0");
+            args.add(String.valueOf(row.timeSpent() != null ? row.timeSpent() : 0));
+        }
+        return stringRedisTemplate.execute(APPLY_ANSWERS_SCRIPT, List.of(key), args.toArray());
+    }
+
+    static double accuracyRate(long correct, long total) {
+        return total > 0 ? Math.round(correct * 10000.0 / total) / 100.0 : 0.0;
+    }
+}
@@ -0,0 +1,28 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Flyway V1: 초기 스키마
+ * - 스키마 정의는 DB-scripts/init.sql 하나만 유지하고, 이 마이그레이션은 그 파일을 그대로 실행
+ * - init.sql은 CREATE TABLE IF NOT EXISTS / CREATE OR REPLACE VIEW로만 구성되어 있어
+ *   init.sql로 이미 만든 DB(기준선 0으로 등록)에 다시 실행해도 누락된 테이블/뷰만 추가되고 기존 뷰는 최신 정의로 교체됨
+ * - 기존 테이블의 컬럼/인덱스 추가는 이후 버전 마이그레이션(V2__question_answer_user_id 등)이 적용
+ * - 클래스 이름(V1__init_schema)이 Flyway 버전/설명이며, Flyway 기본 위치(classpath:db/migration)에서 검색됨
+ */
+public class V1__init_schema extends BaseJavaMigration {
+
+    static final String SCHEMA_SCRIPT = "DB-scripts/init.sql";
+
+    @Override
+    public void migrate(Context context) {
+        ScriptUtils.executeSqlScript(context.getConnection(),
+            new EncodedResource(new ClassPathResource(SCHEMA_SCRIPT), StandardCharsets.UTF_8));
+    }
+}
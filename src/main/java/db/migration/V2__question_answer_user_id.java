@@ -0,0 +1,26 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Flyway V2: question_answer.user_id / answered_date 컬럼과 사용자별 복합 인덱스
+ * - V1(init.sql)의 CREATE TABLE IF NOT EXISTS는 기존 question_answer를 변경하지 않으므로 컬럼/인덱스를 별도로 추가
+ * - 스크립트는 information_schema를 확인하여 없는 것만 추가 (V1으로 새로 만든 DB에서는 변경 없음)
+ * - 애플리케이션이 요청을 받기 전에 동기적으로 적용되며, 기존 행의 user_id 채우기는 QuestionAnswerUserIdBackfillJob이 수행
+ */
+public class V2__question_answer_user_id extends BaseJavaMigration {
+
+    static final String SCHEMA_SCRIPT = "DB-scripts/question-answer-user-id.sql";
+
+    @Override
+    public void migrate(Context context) {
+        ScriptUtils.executeSqlScript(context.getConnection(),
+            new EncodedResource(new ClassPathResource(SCHEMA_SCRIPT), StandardCharsets.UTF_8));
+    }
+}
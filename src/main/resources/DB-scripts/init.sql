@@ -1,6 +1,7 @@
 -- =====================================================
 -- 학습 서비스 데이터베이스 초기화 스크립트 (수정 완료)
 -- 목적: 모든 테이블, 뷰, 인덱스 생성 (기존 테이블이 있으면 생성하지 않음)
+-- 로컬/docker 프로필은 spring.sql.init으로 시작할 때마다, prod 프로필은 Flyway V1(db.migration.V1__init_schema)로 한 번 실행
 -- =====================================================
 
 -- 기존 뷰와 테이블 삭제는 제거하고 CREATE IF NOT EXISTS 방식 사용
@@ -62,8 +63,9 @@ CREATE TABLE IF NOT EXISTS learning_sessions (
 -- 4. 문제 답변 테이블 (QuestionAnswer)
 -- =====================================================
 CREATE TABLE IF NOT EXISTS question_answer (
-    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT NOT NULL AUTO_INCREMENT,
     session_id VARCHAR(255) NOT NULL COMMENT '세션 ID',
+    user_id VARCHAR(255) COMMENT '사용자 ID (learning_sessions.user_id 비정규화, 기존 행은 백필 잡이 채움)',
     question_id VARCHAR(255) NOT NULL COMMENT '문제 ID (ProblemService 참조)',
     session_type VARCHAR(50) NOT NULL COMMENT '세션 타입',
     
@@ -78,13 +80,15 @@ CREATE TABLE IF NOT EXISTS question_answer (
     is_correct BIT(1) NOT NULL COMMENT '정답 여부',
     time_spent INT COMMENT '풀이 시간 (초)',
     answered_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '답변 시간',
+    answered_date DATE GENERATED ALWAYS AS (DATE(answered_at)) VIRTUAL COMMENT '답변 일자 (일별 집계용 생성 컬럼)',
     solve_count INT NOT NULL DEFAULT 1 COMMENT '해당 문제 풀이 횟수',
     
-    -- 외래키 제약조건 (learning_sessions만 참조, question은 ProblemService에서 관리)
-    FOREIGN KEY (session_id) REFERENCES learning_sessions(session_id) ON DELETE CASCADE,
+    -- 파티션 테이블은 모든 PK/UNIQUE 키에 파티션 키(answered_at)가 포함되어야 하고 외래키를 지원하지 않음
+    -- 세션+문제 중복 방지와 learning_sessions 참조 무결성은 question_answer_key(파티션 없음)가 대신함
+    PRIMARY KEY (id, answered_at),
     
     -- 유니크 제약조건 (한 세션에서 같은 문제는 한 번만 답변)
-    UNIQUE KEY uk_session_question_answer (session_id, question_id, session_type),
+    UNIQUE KEY uk_session_question_answer (session_id, question_id, session_type, answered_at),
     
     -- 인덱스
     INDEX idx_question_answer_session (session_id),
@@ -96,8 +100,33 @@ CREATE TABLE IF NOT EXISTS question_answer (
     INDEX idx_question_answer_major_category (major_category),
     INDEX idx_question_answer_minor_category (minor_category),
     INDEX idx_question_answer_difficulty (difficulty_level),
-    INDEX idx_question_answer_combo (question_id, is_correct, time_spent)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 문제 답변 테이블 (문제 메타데이터 포함)';
+    INDEX idx_question_answer_combo (question_id, is_correct, time_spent),
+    -- 사용자별 시간순 조회용 복합 인덱스 (LearningSession JOIN 제거)
+    INDEX idx_question_answer_user_answered (user_id, answered_at),
+    INDEX idx_question_answer_user_type_answered (user_id, question_type, answered_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 문제 답변 테이블 (문제 메타데이터 포함)'
+-- answered_at 기준 월별 RANGE 파티션
+-- 월별 파티션(pYYYYMM)은 QuestionAnswerPartitionMaintenanceJob이 p_future를 분할하여 미리 생성하고,
+-- 보존 기간이 지난 파티션은 압축 파일로 내보낸 뒤 DROP
+PARTITION BY RANGE COLUMNS(answered_at) (
+    PARTITION p_history VALUES LESS THAN ('2000-01-01 00:00:00'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 답변 키 테이블 (파티션되지 않음)
+-- question_answer의 UNIQUE 키에는 answered_at이 포함되므로 (세션, 문제, 세션 타입) 단위 중복 방지는 이 테이블의 PK로 보장
+-- 수집 트랜잭션에서 답변보다 먼저 INSERT하여 중복이면 DuplicateKeyException, 세션이 없으면 외래키 오류로 저장 중단
+-- 답변 파티션이 보존 기간으로 삭제되어도 키는 유지 (이미 수집한 세션의 재수신 방지)
+CREATE TABLE IF NOT EXISTS question_answer_key (
+    session_id VARCHAR(255) NOT NULL COMMENT '세션 ID',
+    question_id VARCHAR(255) NOT NULL COMMENT '문제 ID',
+    session_type VARCHAR(50) NOT NULL COMMENT '세션 타입',
+    PRIMARY KEY (session_id, question_id, session_type),
+    FOREIGN KEY (session_id) REFERENCES learning_sessions(session_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='답변 중복 방지 키 (세션+문제)';
+
+-- 기존 테이블의 user_id / answered_date 컬럼 및 복합 인덱스 추가는 question-answer-user-id.sql이 시작 시 적용하고
+-- (prod: Flyway V2, 그 외: spring.sql.init/DataLoader) 기존 행의 user_id는 QuestionAnswerUserIdBackfillJob이 채움
 
 -- =====================================================
 -- 5. 사용자 프로필 테이블 (UserProfile)
@@ -189,6 +218,42 @@ CREATE TABLE IF NOT EXISTS learning_pattern_analysis (
     INDEX idx_learning_pattern_analysis_analyzed (analyzed_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학습 패턴 분석 결과 테이블';
 
+-- =====================================================
+-- 9-1. 사용자 데이터 워터마크 (HTTP 조건부 요청용)
+-- 수집 트랜잭션에서 version 증가, '*' 행은 전체 사용자에 영향을 주는 변경(백필/파티션 삭제)용
+-- =====================================================
+CREATE TABLE IF NOT EXISTS user_data_watermark (
+    user_id VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '사용자 ID (* = 전체)',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '데이터 변경 버전',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '마지막 변경 시각'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자별 데이터 변경 워터마크';
+
+-- =====================================================
+-- 9-2. 분석 결과 쓰기 펜싱 (분산 락 펜싱 토큰)
+-- 저장 시 더 큰 토큰이 이미 기록되어 있으면 lease를 잃은 이전 소유자의 쓰기로 보고 거절
+-- =====================================================
+CREATE TABLE IF NOT EXISTS analysis_write_fence (
+    user_id VARCHAR(255) NOT NULL COMMENT '사용자 ID',
+    analysis_type VARCHAR(50) NOT NULL COMMENT '분석 유형 (COMPLETE_ANALYSIS 등)',
+    fencing_token BIGINT NOT NULL COMMENT '마지막으로 쓰기를 허용한 펜싱 토큰',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '마지막 허용 시각',
+    PRIMARY KEY (user_id, analysis_type)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='분석 결과 쓰기 펜싱 토큰';
+
+
+-- =====================================================
+-- 9-3. 데이터 백필 진행 상태
+-- 여러 파드 중 락을 얻은 한 파드만 진행하며, 재시작해도 이어서 처리하도록 진행 위치를 저장
+-- completed_at이 기록되기 전까지 사용자 범위 조회는 learning_sessions JOIN을 유지
+-- =====================================================
+CREATE TABLE IF NOT EXISTS data_backfill_status (
+    job_name VARCHAR(100) NOT NULL PRIMARY KEY COMMENT '백필 잡 이름',
+    last_processed_id BIGINT NOT NULL DEFAULT 0 COMMENT '현재 바퀴에서 처리한 마지막 id',
+    updated_in_pass BIGINT NOT NULL DEFAULT 0 COMMENT '현재 바퀴에서 채운 행 수',
+    completed_at DATETIME(6) NULL COMMENT '완료 시각 (NULL이면 진행 중)',
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '마지막 갱신 시각'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='데이터 백필 진행 상태';
+
 
 -- =====================================================
 -- 10. 문제 통계 뷰 (QuestionStatsView)
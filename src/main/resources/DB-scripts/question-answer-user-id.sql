@@ -0,0 +1,42 @@
+/*
+ * question_answer.user_id / answered_date 컬럼과 사용자별 복합 인덱스 추가 (기존 DB용, 이미 있으면 변경 없음)
+ * - init.sql은 CREATE TABLE IF NOT EXISTS이므로 이미 존재하는 question_answer에는 새 컬럼이 추가되지 않음
+ * - 엔티티(QuestionAnswer)가 두 컬럼을 매핑하므로 애플리케이션이 요청을 받기 전에 실행되어야 함
+ *   (prod: Flyway V2__question_answer_user_id, 그 외: spring.sql.init schema-locations와 DataLoader)
+ * - MySQL은 ADD COLUMN/INDEX IF NOT EXISTS를 지원하지 않으므로 information_schema 확인 후 PREPARE로 실행
+ *   (세션 변수를 사용하므로 한 커넥션에서 순서대로 실행해야 함)
+ * - 컬럼 추가는 MySQL 8의 INSTANT/INPLACE, 인덱스 추가는 INPLACE + LOCK=NONE (수집 INSERT를 막지 않음)
+ * - 기존 행의 user_id 채우기는 QuestionAnswerUserIdBackfillJob이 짧은 배치 트랜잭션으로 수행
+ */
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'question_answer' AND COLUMN_NAME = 'user_id') = 0,
+    'ALTER TABLE question_answer ADD COLUMN user_id VARCHAR(255) NULL COMMENT ''사용자 ID (learning_sessions.user_id 비정규화, 기존 행은 백필 잡이 채움)'' AFTER session_id',
+    'DO 0');
+PREPARE question_answer_ddl FROM @ddl;
+EXECUTE question_answer_ddl;
+DEALLOCATE PREPARE question_answer_ddl;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'question_answer' AND COLUMN_NAME = 'answered_date') = 0,
+    'ALTER TABLE question_answer ADD COLUMN answered_date DATE GENERATED ALWAYS AS (DATE(answered_at)) VIRTUAL COMMENT ''답변 일자 (일별 집계용 생성 컬럼)'' AFTER answered_at',
+    'DO 0');
+PREPARE question_answer_ddl FROM @ddl;
+EXECUTE question_answer_ddl;
+DEALLOCATE PREPARE question_answer_ddl;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'question_answer' AND INDEX_NAME = 'idx_question_answer_user_answered') = 0,
+    'ALTER TABLE question_answer ADD INDEX idx_question_answer_user_answered (user_id, answered_at), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+PREPARE question_answer_ddl FROM @ddl;
+EXECUTE question_answer_ddl;
+DEALLOCATE PREPARE question_answer_ddl;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'question_answer' AND INDEX_NAME = 'idx_question_answer_user_type_answered') = 0,
+    'ALTER TABLE question_answer ADD INDEX idx_question_answer_user_type_answered (user_id, question_type, answered_at), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+PREPARE question_answer_ddl FROM @ddl;
+EXECUTE question_answer_ddl;
+DEALLOCATE PREPARE question_answer_ddl;
@@ -0,0 +1,261 @@
+package com.example.demo.client;
+
+import com.example.demo.dto.user.UserProfileInfo;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserServiceClientImpl 테스트 (loopback stub 서버, JDK HttpServer)
+ * refresh-ahead, negative caching, 동시 조회 공유, 일괄 조회와 실패 시 사용자별 조회 전환을 stub 요청 수로 확인
+ */
+class UserServiceClientImplTest {
+
+    private static final String PROFILE_PREFIX = "/api/user/internal/users/";
+    private static final String PROFILE_PATH = PROFILE_PREFIX + "{userId}/profile";
+    private static final String BATCH_PATH = "/api/user/internal/users/profiles";
+
+    private final Map<String, AtomicInteger> profileRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final Set<String> missingUsers = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingUsers = ConcurrentHashMap.newKeySet();
+    private volatile boolean batchFails;
+    private volatile long profileLatencyMs;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExecutorService clientExecutor;
+    private CloseableHttpClient httpClient;
+    private String baseUrl;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(16);
+        clientExecutor = Executors.newFixedThreadPool(8);
+        httpClient = HttpClients.createDefault();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 64);
+        server.createContext(BATCH_PATH, this::handleBatch);
+        server.createContext(PROFILE_PREFIX, this::handleProfile);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        httpClient.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Test
+    void staleProfileIsServedWhileRefreshingInBackground() throws Exception {
+        UserServiceClientImpl client = client("", 200);
+
+        assertThat(client.getUserProfile("u1").hasInterestsSet()).isFalse();
+        TimeUnit.MILLISECONDS.sleep(300);
+
+        // refresh-after 이후 첫 조회는 이전 값을 바로 반환하고 갱신은 백그라운드에서 실행
+        assertThat(client.getUserProfile("u1").hasInterestsSet()).isFalse();
+        awaitProfileRequests("u1", 2);
+        assertThat(client.getUserProfile("u1").hasInterestsSet()).isTrue();
+        assertThat(profileRequests.get("u1")).hasValue(2);
+    }
+
+    @Test
+    void missingUserIsNegativelyCachedButErrorsAreNot() {
+        missingUsers.add("ghost");
+        failingUsers.add("flaky");
+        UserServiceClientImpl client = client("", 300000);
+
+        for (int i = 0; i < 3; i++) {
+            UserProfileInfo ghost = client.getUserProfile("ghost");
+            assertThat(ghost.getUserId()).isEqualTo("ghost");
+            assertThat(ghost.hasInterestsSet()).isFalse();
+            assertThat(client.getUserProfile("flaky").getUserId()).isEqualTo("flaky");
+        }
+
+        assertThat(profileRequests.get("ghost")).hasValue(1);
+        assertThat(profileRequests.get("flaky")).hasValue(3);
+    }
+
+    @Test
+    void concurrentLookupsForTheSameUserShareOneRequest() throws Exception {
+        profileLatencyMs = 300;
+        UserServiceClientImpl client = client("", 300000);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<UserProfileInfo>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return client.getUserProfile("u1");
+                }, callers));
+            }
+            start.countDown();
+
+            assertThat(results).allSatisfy(result -> assertThat(result.get(5, TimeUnit.SECONDS).getUserId()).isEqualTo("u1"));
+            assertThat(profileRequests.get("u1")).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchLookupUsesOneRequestAndCachesMissingUsers() {
+        missingUsers.add("ghost");
+        UserServiceClientImpl client = client(BATCH_PATH, 300000);
+
+        Map<String, UserProfileInfo> profiles = client.getUserProfiles(List.of("u1", "u2", "u1", "ghost"));
+
+        assertThat(profiles).containsOnlyKeys("u1", "u2", "ghost");
+        assertThat(profiles.keySet()).containsExactly("u1", "u2", "ghost");
+        assertThat(profiles.get("ghost").hasInterestsSet()).isFalse();
+        assertThat(batchRequests).hasValue(1);
+
+        client.getUserProfiles(List.of("u1", "u2", "ghost"));
+        client.getUserProfile("ghost");
+        assertThat(batchRequests).hasValue(1);
+        assertThat(profileRequests).isEmpty();
+    }
+
+    @Test
+    void failedBatchFallsBackToPerUserLookups() {
+        batchFails = true;
+        failingUsers.add("flaky");
+        UserServiceClientImpl client = client(BATCH_PATH, 300000);
+
+        Map<String, UserProfileInfo> profiles = client.getUserProfiles(List.of("u1", "u2", "flaky"));
+
+        assertThat(profiles.keySet()).containsExactly("u1", "u2", "flaky");
+        assertThat(profiles.get("flaky").hasInterestsSet()).isFalse();
+        assertThat(batchRequests).hasValue(1);
+        assertThat(profileRequests.get("u1")).hasValue(1);
+        assertThat(profileRequests.get("u2")).hasValue(1);
+        assertThat(profileRequests.get("flaky")).hasValue(1);
+    }
+
+    private UserServiceClientImpl client(String batchPath, long refreshAfterMs) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundCallGuard callGuard = new OutboundCallGuard("userServiceClient",
+            CircuitBreaker.ofDefaults("userServiceClient"), Bulkhead.ofDefaults("userServiceClient"),
+            clientExecutor, 0L, meterRegistry);
+        return new UserServiceClientImpl(new RestTemplateBuilder(), httpClient, callGuard, clientExecutor, meterRegistry,
+            baseUrl, 5000, PROFILE_PATH, batchPath, 1000, 600000, refreshAfterMs, 60000);
+    }
+
+    /**
+     * GET /api/user/internal/users/{userId}/profile
+     * 첫 응답은 관심사 미설정, 이후 응답은 관심사 설정 (갱신 여부 확인용)
+     */
+    private void handleProfile(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String userId = path.substring(PROFILE_PREFIX.length(), path.lastIndexOf('/'));
+            int count = profileRequests.computeIfAbsent(userId, id -> new AtomicInteger()).incrementAndGet();
+            if (profileLatencyMs > 0) {
+                Thread.sleep(profileLatencyMs);
+            }
+            if (missingUsers.contains(userId)) {
+                exchange.sendResponseHeaders(404, -1);
+            } else if (failingUsers.contains(userId)) {
+                exchange.sendResponseHeaders(500, -1);
+            } else {
+                respond(exchange, profileJson(userId, count > 1));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * POST /api/user/internal/users/profiles {"userIds": [...]} (없는 사용자는 응답에서 제외)
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try {
+            batchRequests.incrementAndGet();
+            if (batchFails) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String ids = body.substring(body.indexOf('[') + 1, body.indexOf(']'));
+            List<String> profiles = new ArrayList<>();
+            for (String id : ids.split(",")) {
+                String userId = id.trim().replace("\"", "");
+                if (!userId.isEmpty() && !missingUsers.contains(userId)) {
+                    profiles.add(profileJson(userId, false));
+                }
+            }
+            respond(exchange, "[" + String.join(",", profiles) + "]");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String profileJson(String userId, boolean hasInterestsSet) {
+        return "{\"userId\":\"" + userId + "\",\"selectedMinorCategories\":[],\"hasInterestsSet\":" + hasInterestsSet + "}";
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    private void awaitProfileRequests(String userId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            AtomicInteger count = profileRequests.get(userId);
+            if (count != null && count.get() >= expected) {
+                // 응답이 캐시에 반영될 시간
+                TimeUnit.MILLISECONDS.sleep(100);
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BoundedVirtualTaskExecutor 테스트 (가상 스레드가 필요하므로 Java 21 이상에서만 실행)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class BoundedVirtualTaskExecutorTest {
+
+    @Test
+    void rejectsWithoutWaitingWhenLimitIsReached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        try (BoundedVirtualTaskExecutor executor = new BoundedVirtualTaskExecutor("test-", 2)) {
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class)
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(500L);
+
+            // CompletableFuture.supplyAsync는 거절을 그대로 던지므로 호출 측(getSessionDataAsync)에서 실패 future로 변환
+            assertThatThrownBy(() -> CompletableFuture.supplyAsync(() -> "x", executor))
+                .isInstanceOf(RejectedExecutionException.class);
+
+            // 실행 중인 작업이 끝나면 허용 수가 반환되어 다시 받음
+            release.countDown();
+            assertThat(acceptsWithin(executor, 5000)).isTrue();
+        }
+    }
+
+    private boolean acceptsWithin(BoundedVirtualTaskExecutor executor, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                executor.execute(() -> { });
+                return true;
+            } catch (TaskRejectedException e) {
+                TimeUnit.MILLISECONDS.sleep(20);
+            }
+        }
+        return false;
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.analytics.LearningPatternAnalysisDTO;
+import com.example.demo.dto.analytics.QuestionTypePerformance;
+import com.example.demo.dto.analytics.UserLearningAnalytics;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisValueCodec 단위 테스트
+ * 이전 방식(GenericJackson2JsonRedisSerializer + NON_FINAL default typing) 대비 저장 크기와
+ * envelope 형식(압축 플래그, 이전 형식/알 수 없는 버전 처리)을 확인
+ */
+class RedisValueCodecTest {
+
+    private static final int COMPRESS_THRESHOLD = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RedisValueCodec codec = new RedisValueCodec(objectMapper, new SimpleMeterRegistry(), COMPRESS_THRESHOLD, 1);
+
+    @Test
+    void envelopeIsSmallerThanLegacyTypedJson() {
+        LearningPatternAnalysisDTO analysis = sampleAnalysis();
+
+        byte[] legacyBytes = legacySerializer().serialize(analysis);
+        byte[] envelopeBytes = codec.encode(analysis);
+
+        assertThat(envelopeBytes.length).isLessThan(legacyBytes.length);
+        assertThat((LearningPatternAnalysisDTO) codec.decode(envelopeBytes, codec.type(LearningPatternAnalysisDTO.class)))
+            .isEqualTo(analysis);
+    }
+
+    @Test
+    void smallValuesAreStoredUncompressed() {
+        UserLearningAnalytics analytics = new UserLearningAnalytics(42L, 512L, 371L, 72.46, 27.54, 29.8, 12.3, 64.0,
+            LocalDateTime.of(2026, 1, 5, 21, 30), 1530.5);
+
+        byte[] bytes = codec.encode(analytics);
+
+        assertThat(bytes[0]).isEqualTo(RedisValueCodec.MAGIC);
+        assertThat(bytes[3] & 0x01).isZero();
+        assertThat((UserLearningAnalytics) codec.decode(bytes, codec.type(UserLearningAnalytics.class))).isEqualTo(analytics);
+    }
+
+    @Test
+    void valuesAboveThresholdAreCompressedWhenSmaller() {
+        List<String> questionIds = sampleQuestionIds(200);
+
+        AtomicInteger reportedSize = new AtomicInteger();
+        byte[] bytes = codec.<List<String>>serializer(codec.listType(String.class), reportedSize::set).serialize(questionIds);
+
+        assertThat(bytes[3] & 0x01).isEqualTo(1);
+        assertThat(reportedSize.get()).isEqualTo(bytes.length);
+        assertThat((List<String>) codec.decode(bytes, codec.listType(String.class))).isEqualTo(questionIds);
+    }
+
+    @Test
+    void legacyPlainJsonIsReadAndTypedLegacyJsonIsAMiss() {
+        byte[] plainJson = "[\"q1\",\"q2\"]".getBytes(StandardCharsets.UTF_8);
+        byte[] typedJson = legacySerializer().serialize(new ArrayList<>(List.of("q1", "q2")));
+
+        assertThat((List<String>) codec.decode(plainJson, codec.listType(String.class))).containsExactly("q1", "q2");
+        assertThat((Object) codec.decode(typedJson, codec.listType(String.class))).isNull();
+    }
+
+    @Test
+    void unknownEnvelopeVersionIsAMiss() {
+        byte[] bytes = codec.encode(List.of("q1"));
+        bytes[1] = (byte) (RedisValueCodec.VERSION + 1);
+
+        assertThat((Object) codec.decode(bytes, codec.listType(String.class))).isNull();
+    }
+
+    /**
+     * 이전 RedisConfig와 같은 설정 (이전 설정에는 JavaTime 모듈이 없어 LocalDateTime 필드 값은
+     * 직렬화 자체가 실패했으므로 비교를 위해서만 모듈 추가)
+     */
+    private GenericJackson2JsonRedisSerializer legacySerializer() {
+        ObjectMapper legacyMapper = new ObjectMapper();
+        legacyMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        legacyMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance, ObjectMapper.DefaultTyping.NON_FINAL);
+        legacyMapper.registerModule(new JavaTimeModule());
+        return new GenericJackson2JsonRedisSerializer(legacyMapper);
+    }
+
+    private LearningPatternAnalysisDTO sampleAnalysis() {
+        String[] types = {"FILL_IN_THE_BLANK", "SYNONYM_SELECTION", "LISTENING_COMPREHENSION", "READING_COMPREHENSION",
+            "GRAMMAR_CHOICE", "VOCABULARY_MATCHING", "SENTENCE_ORDERING", "PRONUNCIATION"};
+        List<QuestionTypePerformance> performances = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            performances.add(QuestionTypePerformance.builder()
+                .questionType(types[i])
+                .displayName("문제 유형 " + (i + 1))
+                .totalQuestions(40 + i)
+                .correctAnswers(25 + i)
+                .accuracyRate(62.5 + i)
+                .averageTime(31.4 + i)
+                .performanceLevel(i % 2 == 0 ? "GOOD" : "NEEDS_IMPROVEMENT")
+                .build());
+        }
+        return LearningPatternAnalysisDTO.builder()
+            .analysisType("COMPLETE_ANALYSIS")
+            .userId("user-1")
+            .analyzedAt(LocalDateTime.of(2026, 1, 5, 21, 30))
+            .questionTypePerformances(performances)
+            .reviewRequiredTypes(List.of(types[0], types[3]))
+            .improvementRequiredTypes(List.of(types[1], types[4], types[6]))
+            .strengthTypes(List.of(types[2], types[5], types[7]))
+            .recentWrongQuestionIds(sampleQuestionIds(30))
+            .longIntervalTypes(List.of(types[7]))
+            .slowSolvingTypes(List.of(types[2], types[3]))
+            .overallAccuracyRate(71.3)
+            .averageSolvingTime(28.6)
+            .studyFrequency("DAILY")
+            .preferredStudyTime("EVENING")
+            .build();
+    }
+
+    private List<String> sampleQuestionIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
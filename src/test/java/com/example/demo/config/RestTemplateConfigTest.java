@@ -0,0 +1,150 @@
+package com.example.demo.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RestTemplateConfig 커넥션 풀 테스트 (loopback stub 서버, JDK HttpServer)
+ * stub 서버가 요청마다 클라이언트 포트를 기록하여 연결 재사용/최대 연결 수/풀 대기 제한을 확인
+ */
+class RestTemplateConfigTest {
+
+    private static final String STUB_PATH = "/api/problem/internal/sessions/";
+    private static final byte[] STUB_BODY = "{\"session\":null,\"questions\":[],\"events\":[]}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile long stubLatencyMs;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private String baseUrl;
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 64);
+        server.createContext(STUB_PATH, this::handleStub);
+        server.setExecutor(serverExecutor);
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + STUB_PATH;
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void sequentialRequestsReuseOneConnection() {
+        RestTemplate restTemplate = pooledRestTemplate(50, 1000);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(restTemplate.getForObject(baseUrl + "session-" + i, String.class)).contains("questions");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void concurrentRequestsAreLimitedToMaxPerRoute() {
+        stubLatencyMs = 100;
+        RestTemplate restTemplate = pooledRestTemplate(2, 5000);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String url = baseUrl + "session-" + i;
+                responses.add(CompletableFuture.supplyAsync(() -> restTemplate.getForObject(url, String.class), clients));
+            }
+
+            assertThat(responses).allSatisfy(response -> assertThat(response.join()).contains("questions"));
+            assertThat(clientPorts).hasSizeLessThanOrEqualTo(2);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void poolWaitIsLimitedByAcquireTimeout() throws Exception {
+        stubLatencyMs = 1000;
+        RestTemplate restTemplate = pooledRestTemplate(1, 100);
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(baseUrl + "slow", String.class), clients);
+            TimeUnit.MILLISECONDS.sleep(200); // 첫 요청이 유일한 연결을 점유할 때까지 대기
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "waiting", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(800L);
+
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).contains("questions");
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * 애플리케이션과 같은 빈 구성으로 RestTemplate 생성 (route별 최대 연결 수와 풀 대기 제한만 변경)
+     */
+    private RestTemplate pooledRestTemplate(int maxPerRoute, long acquireTimeoutMs) {
+        RestTemplateConfig config = new RestTemplateConfig();
+        PoolingHttpClientConnectionManager connectionManager = config.httpClientConnectionManager(
+            new SimpleMeterRegistry(), 2000, 5000, 100, maxPerRoute, 300000, 2000);
+        CloseableHttpClient httpClient = config.pooledHttpClient(connectionManager, 5000, acquireTimeoutMs, 30000, 30000);
+        resources.add(httpClient);
+        return config.restTemplate(new RestTemplateBuilder(), httpClient);
+    }
+
+    private void handleStub(HttpExchange exchange) throws IOException {
+        try {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (stubLatencyMs > 0) {
+                Thread.sleep(stubLatencyMs);
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, STUB_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(STUB_BODY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.analytics.WeeklyAnswerStatsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QuestionAnswerRepository 집계 쿼리 테스트 (로컬 MySQL 컨테이너, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QuestionAnswerRepositoryTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static boolean schemaLoaded;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private QuestionAnswerRepository questionAnswerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (!schemaLoaded) {
+            try (Connection connection = dataSource.getConnection()) {
+                ScriptUtils.executeSqlScript(connection,
+                    new EncodedResource(new ClassPathResource("DB-scripts/init.sql"), StandardCharsets.UTF_8));
+            }
+            schemaLoaded = true;
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void weeklyStatsUseMysqlWeekModeZero() {
+        // 2026-01-01(목)~01-03(토)은 WEEK(date, 0) 기준 0주차, 01-04(일)부터 1주차 (ISO 주차로는 모두 1주차)
+        insertAnswer("q-1", LocalDateTime.of(2026, 1, 1, 9, 0), true);
+        insertAnswer("q-2", LocalDateTime.of(2026, 1, 3, 9, 0), false);
+        insertAnswer("q-3", LocalDateTime.of(2026, 1, 4, 9, 0), true);
+
+        List<WeeklyAnswerStatsRow> rows =
+            questionAnswerRepository.getRecentWeeksStatsByUserId("user-week", LocalDateTime.of(2025, 12, 28, 0, 0));
+
+        assertThat(rows).extracting(WeeklyAnswerStatsRow::weekNumber).containsExactly(1, 0);
+        assertThat(rows.get(0).totalQuestions()).isEqualTo(1L);
+        assertThat(rows.get(1).totalQuestions()).isEqualTo(2L);
+        assertThat(rows.get(1).correctAnswers()).isEqualTo(1L);
+        assertThat(rows.get(1).wrongAnswers()).isEqualTo(1L);
+    }
+
+    private void insertAnswer(String questionId, LocalDateTime answeredAt, boolean correct) {
+        jdbcTemplate.update(
+            "INSERT INTO question_answer (session_id, user_id, question_id, session_type, question_type, " +
+            "user_answer, is_correct, time_spent, answered_at) VALUES ('s-week', 'user-week', ?, 'PRACTICE', 'LISTENING', 'A', ?, 10, ?)",
+            questionId, correct, answeredAt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * L1 near cache 무효화/저장 경쟁 테스트
+ */
+class NearCacheTest {
+
+    private static final String KEY = "categories:all";
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCache(mock(StringRedisTemplate.class), new SimpleMeterRegistry(),
+            true, List.of("categories"), 100, 60_000);
+    }
+
+    @Test
+    void putWithCurrentVersionIsStored() {
+        long version = nearCache.versionOf(KEY);
+        nearCache.put(KEY, "value", version);
+
+        assertThat(nearCache.get(KEY)).isEqualTo("value");
+    }
+
+    @Test
+    void putAfterLocalInvalidationIsSkipped() {
+        long version = nearCache.versionOf(KEY);
+        nearCache.invalidate(KEY);
+        nearCache.put(KEY, "stale", version);
+
+        assertThat(nearCache.get(KEY)).isNull();
+    }
+
+    @Test
+    void putAfterRemoteInvalidationIsSkipped() {
+        long version = nearCache.versionOf(KEY);
+        nearCache.onInvalidationMessage("other-instance\n" + KEY);
+        nearCache.put(KEY, "stale", version);
+
+        assertThat(nearCache.get(KEY)).isNull();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파티션 유지보수 잡 통합 테스트 (로컬 MySQL 컨테이너, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QuestionAnswerPartitionMaintenanceJobTest {
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @TempDir
+    Path archiveDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private DriverManagerDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS question_answer_key, question_answer");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection,
+                new EncodedResource(new ClassPathResource("DB-scripts/init.sql"), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void createsFuturePartitionsAndArchivesExpiredOnes() throws Exception {
+        LocalDateTime expired = YearMonth.now().minusMonths(14).atDay(10).atStartOfDay();
+        LocalDateTime recent = LocalDateTime.now().minusDays(1);
+        insertAnswer("s-old", "q-1", expired);
+        insertAnswer("s-old", "q-2", expired.plusHours(1));
+        insertAnswer("s-new", "q-1", recent);
+
+        job(Optional.empty()).run();
+
+        List<String> partitions = partitionNames();
+        String expiredPartition = YearMonth.from(expired).format(PARTITION_NAME_FORMAT);
+        assertThat(partitions).doesNotContain(expiredPartition);
+        assertThat(partitions).contains(
+            YearMonth.from(recent).format(PARTITION_NAME_FORMAT),
+            YearMonth.now().plusMonths(3).format(PARTITION_NAME_FORMAT),
+            "p_future");
+
+        Long remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_answer", Long.class);
+        assertThat(remaining).isEqualTo(1L);
+
+        Path archive = archiveDir.resolve("question_answer_" + expiredPartition + ".csv.gz");
+        assertThat(archive).exists();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archive)), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(0)).startsWith("id,session_id,user_id");
+        }
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        insertAnswer("s-old", "q-1", YearMonth.now().minusMonths(14).atDay(10).atStartOfDay());
+        List<String> before = partitionNames();
+
+        DistributedLockService lockService = mock(DistributedLockService.class);
+        when(lockService.tryLock(anyString(), anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        job(Optional.of(lockService)).run();
+
+        assertThat(partitionNames()).isEqualTo(before);
+        assertThat(archiveDir).isEmptyDirectory();
+    }
+
+    @SuppressWarnings("unchecked")
+    private QuestionAnswerPartitionMaintenanceJob job(Optional<DistributedLockService> lockService) {
+        ObjectProvider<DistributedLockService> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(lockService.orElse(null));
+
+        UserDataWatermarkService watermarkService =
+            new UserDataWatermarkService(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        QuestionAnswerPartitionMaintenanceJob job =
+            new QuestionAnswerPartitionMaintenanceJob(jdbcTemplate, dataSource, watermarkService, provider);
+        ReflectionTestUtils.setField(job, "monthsAhead", 3);
+        ReflectionTestUtils.setField(job, "retentionMonths", 12);
+        ReflectionTestUtils.setField(job, "archiveEnabled", true);
+        ReflectionTestUtils.setField(job, "archiveDir", archiveDir.toString());
+        ReflectionTestUtils.setField(job, "convertExisting", false);
+        return job;
+    }
+
+    private void insertAnswer(String sessionId, String questionId, LocalDateTime answeredAt) {
+        jdbcTemplate.update(
+            "INSERT INTO question_answer (session_id, user_id, question_id, session_type, question_type, " +
+            "user_answer, is_correct, time_spent, answered_at) VALUES (?, 'user-1', ?, 'PRACTICE', 'LISTENING', 'A', 1, 10, ?)",
+            sessionId, questionId, answeredAt);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'question_answer' ORDER BY PARTITION_ORDINAL_POSITION",
+            String.class);
+    }
+}
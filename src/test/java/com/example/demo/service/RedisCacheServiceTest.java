@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import com.example.demo.config.RedisCacheConfig;
+import com.example.demo.config.RedisConfig;
+import com.example.demo.config.RedisValueCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RedisCacheService 통합 테스트 (로컬 Redis 컨테이너, Docker가 없으면 건너뜀)
+ * SCAN 배치/MGET/UNLINK 경로를 실제 Redis에서 확인하기 위해 배치 크기와 SCAN COUNT를 작게 설정
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisCacheServiceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, byte[]> redisTemplate;
+
+    private RedisCacheService redisCacheService;
+
+    record TestEvent(String eventId, int score) {
+    }
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisValueCodec codec = new RedisValueCodec(objectMapper, meterRegistry, 256, 1);
+        NearCache nearCache = new NearCache(new StringRedisTemplate(connectionFactory), meterRegistry,
+            false, List.of("categories"), 100, 30000);
+        RedisCacheBackend backend = new RedisCacheBackend(redisTemplate, codec, nearCache, 2);
+
+        redisCacheService = new RedisCacheService(backend, objectMapper);
+        ReflectionTestUtils.setField(redisCacheService, "batchSize", 2);
+    }
+
+    @Test
+    void getEventsByTypeReadsAllMatchingKeysInBatches() {
+        for (int i = 1; i <= 5; i++) {
+            redisCacheService.cacheEvent("ANSWERED", "evt" + i, new TestEvent("evt" + i, i));
+        }
+        redisCacheService.cacheEvent("STARTED", "evt9", new TestEvent("evt9", 9));
+
+        List<TestEvent> events = redisCacheService.getEventsByType("ANSWERED", TestEvent.class);
+
+        assertThat(events).extracting(TestEvent::eventId)
+            .containsExactlyInAnyOrder("evt1", "evt2", "evt3", "evt4", "evt5");
+        assertThat(redisCacheService.getEvent("STARTED", "evt9", TestEvent.class))
+            .contains(new TestEvent("evt9", 9));
+    }
+
+    @Test
+    void deleteKeysByPatternRemovesOnlyMatchingKeys() {
+        for (int i = 1; i <= 5; i++) {
+            redisCacheService.cacheTempData("analysis", "user" + i, Map.of("score", i));
+        }
+        redisCacheService.cacheUserStats("user1", Map.of("totalSessions", 3));
+
+        long deleted = redisCacheService.deleteKeysByPattern("temp:analysis:*");
+
+        assertThat(deleted).isEqualTo(5L);
+        assertThat(redisCacheService.getKeysByPattern("temp:analysis:*")).isEmpty();
+        assertThat(redisCacheService.getUserStats("user1")).hasValueSatisfying(
+            stats -> assertThat(stats).containsEntry("totalSessions", 3));
+    }
+
+    @Test
+    void valuesAreRestoredWithTheKeySpaceType() {
+        redisCacheService.cacheSessionQuestions("s1", List.of("q1", "q2", "q3"));
+        redisCacheService.cacheTempData("event", "e1", new TestEvent("e1", 7));
+
+        assertThat(redisCacheService.getSessionQuestions("s1")).contains(List.of("q1", "q2", "q3"));
+        assertThat(redisCacheService.getTempData("event", "e1", TestEvent.class)).contains(new TestEvent("e1", 7));
+        assertThat(redisCacheService.getTempData("event", "missing", TestEvent.class)).isEmpty();
+    }
+
+    @Test
+    void ttlCanBeReadAndChanged() {
+        redisCacheService.cacheTempData("analysis", "user1", Map.of("score", 1), Duration.ofMinutes(5));
+        String key = RedisCacheConfig.CacheKeyBuilder.tempKey("analysis", "user1");
+
+        assertThat(redisCacheService.getTTL(key)).hasValueSatisfying(
+            ttl -> assertThat(ttl).isBetween(Duration.ofMinutes(4), Duration.ofMinutes(5)));
+
+        assertThat(redisCacheService.setTTL(key, Duration.ofHours(1))).isTrue();
+        assertThat(redisCacheService.getTTL(key)).hasValueSatisfying(
+            ttl -> assertThat(ttl).isGreaterThan(Duration.ofMinutes(59)));
+        assertThat(redisCacheService.getTTL("temp:analysis:missing")).isEmpty();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.analytics.DailyAnswerCounterRow;
+import com.example.demo.dto.analytics.LiveLearningCounters;
+import com.example.demo.entity.QuestionAnswer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 카운터 채우기/수집 반영 순서 테스트 (로컬 Redis 컨테이너, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserLiveCounterServiceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static final String USER_ID = "user-1";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private final LocalDate today = LocalDate.now();
+    private UserLiveCounterService service;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        service = new UserLiveCounterService(stringRedisTemplate);
+    }
+
+    @Test
+    void unseededDayIsNotServed() {
+        service.recordAfterCommit(USER_ID, List.of(answer(1L, "VOCABULARY", true, 10)));
+
+        assertThat(service.find(USER_ID, today)).isEmpty();
+    }
+
+    @Test
+    void answersRecordedBeforeSeedAreNotCountedTwice() {
+        service.recordAfterCommit(USER_ID, List.of(answer(10L, "VOCABULARY", true, 10)));
+
+        // 채우기 조회가 수집 커밋 이후에 실행되어 같은 답변을 포함
+        service.seed(USER_ID, today, List.of(
+            row(5L, "GRAMMAR", false, 20),
+            row(10L, "VOCABULARY", true, 10)));
+
+        LiveLearningCounters counters = find();
+        assertThat(counters.questionCount()).isEqualTo(2L);
+        assertThat(counters.correctCount()).isEqualTo(1L);
+        assertThat(counters.timeSpentSeconds()).isEqualTo(30L);
+    }
+
+    @Test
+    void answerCommittedAfterSeedWithLowerIdIsCounted() {
+        // ID 12까지 채운 뒤 먼저 ID를 받았지만 늦게 커밋된 답변(ID 11) 수집
+        service.seed(USER_ID, today, List.of(row(12L, "VOCABULARY", true, 10)));
+        service.recordAfterCommit(USER_ID, List.of(answer(11L, "VOCABULARY", false, 15)));
+
+        LiveLearningCounters counters = find();
+        assertThat(counters.questionCount()).isEqualTo(2L);
+        assertThat(counters.correctCount()).isEqualTo(1L);
+        assertThat(counters.questionTypes()).singleElement()
+            .satisfies(type -> assertThat(type.questionCount()).isEqualTo(2L));
+    }
+
+    @Test
+    void replayedSessionIsNotCountedTwice() {
+        List<QuestionAnswer> answers = List.of(answer(1L, "VOCABULARY", true, 10), answer(2L, "GRAMMAR", true, 5));
+        service.seed(USER_ID, today, List.of());
+        service.recordAfterCommit(USER_ID, answers);
+        service.recordAfterCommit(USER_ID, answers);
+
+        assertThat(find().questionCount()).isEqualTo(2L);
+    }
+
+    private LiveLearningCounters find() {
+        Optional<LiveLearningCounters> counters = service.find(USER_ID, today);
+        assertThat(counters).isPresent();
+        return counters.get();
+    }
+
+    private QuestionAnswer answer(Long id, String questionType, boolean correct, int timeSpent) {
+        QuestionAnswer answer = new QuestionAnswer();
+        answer.setId(id);
+        answer.setQuestionType(questionType);
+        answer.setIsCorrect(correct);
+        answer.setTimeSpent(timeSpent);
+        answer.setAnsweredAt(today.atTime(9, 0));
+        return answer;
+    }
+
+    private DailyAnswerCounterRow row(Long id, String questionType, boolean correct, int timeSpent) {
+        return new DailyAnswerCounterRow(id, questionType, correct, timeSpent);
+    }
+}